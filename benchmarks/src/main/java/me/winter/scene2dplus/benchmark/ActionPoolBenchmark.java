@@ -0,0 +1,70 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pools;
+import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.actions.ActionPools;
+import me.winter.scene2dplus.actions.Actions;
+import me.winter.scene2dplus.actions.MoveToAction;
+import me.winter.scene2dplus.actions.SequenceAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures obtaining and freeing pooled actions: through a {@link Pools} lookup as {@link Actions} used to, through the pool
+ * kept by {@link Actions}, and a sequence of actions added to an actor and removed, returning all of them to their pools.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionPoolBenchmark {
+	private final Actor actor = new Actor();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ActionPools.fill(MoveToAction.class, 16);
+		ActionPools.fill(SequenceAction.class, 16);
+	}
+
+	@Benchmark
+	public MoveToAction poolsLookup() {
+		Pool<MoveToAction> pool = Pools.get(MoveToAction.class);
+		MoveToAction action = pool.obtain();
+		action.setPool(pool);
+		action.setPosition(1, 2);
+		pool.free(action);
+		return action;
+	}
+
+	@Benchmark
+	public MoveToAction actionPool() {
+		MoveToAction action = Actions.moveTo(1, 2);
+		action.setActor(null);
+		return action;
+	}
+
+	@Benchmark
+	public Actor sequence() {
+		actor.addAction(Actions.sequence(Actions.moveTo(1, 2, 1), Actions.delay(1), Actions.alpha(0, 1)));
+		actor.clearActions();
+		return actor;
+	}
+}
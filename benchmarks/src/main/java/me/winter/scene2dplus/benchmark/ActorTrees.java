@@ -0,0 +1,94 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.Group;
+import me.winter.scene2dplus.actions.Actions;
+
+/**
+ * Generates balanced actor trees for the benchmarks. Every group lays its children out in a grid filling its own bounds so
+ * that any point of the root hits exactly one leaf, which makes hit tests representative of a dense HUD.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public final class ActorTrees {
+	private static final TextureRegion region = new TextureRegion();
+
+	private ActorTrees() {}
+
+	/**
+	 * Builds a tree of at least {@code actorCount} actors in total (groups included) where each group has up to
+	 * {@code fanout} children.
+	 *
+	 * @param transform       value given to {@link Group#setTransform(boolean)} on every generated group
+	 * @param animatedPercent percentage of leaves that get a never ending action
+	 */
+	public static Group build(int actorCount, int fanout, float size, boolean transform, int animatedPercent) {
+		Group root = new Group();
+		root.setTransform(transform);
+		root.setSize(size, size);
+
+		int leafCount = leafCount(actorCount, fanout);
+		int[] created = { 0 };
+		fill(root, leafCount, fanout, transform, animatedPercent, created);
+		return root;
+	}
+
+	/**
+	 * Number of leaves such that leaves plus the groups holding them reach the requested actor count.
+	 */
+	private static int leafCount(int actorCount, int fanout) {
+		// a full tree with L leaves has roughly L / (fanout - 1) groups
+		return Math.max(1, (int)((long)actorCount * (fanout - 1) / fanout));
+	}
+
+	private static void fill(Group group, int leaves, int fanout, boolean transform, int animatedPercent, int[] created) {
+		int children = Math.min(leaves, fanout);
+		int columns = (int)Math.ceil(Math.sqrt(children));
+		int rows = (children + columns - 1) / columns;
+		float cellWidth = group.getWidth() / columns;
+		float cellHeight = group.getHeight() / rows;
+
+		for(int i = 0; i < children; i++) {
+			int share = leaves / children + (i < leaves % children ? 1 : 0);
+			Actor child;
+			if(share == 1) {
+				child = new Quad();
+				if(animatedPercent > 0 && created[0]++ % 100 < animatedPercent)
+					child.addAction(Actions.forever(Actions.rotateBy(90, 1)));
+			} else {
+				Group subGroup = new Group();
+				subGroup.setTransform(transform);
+				child = subGroup;
+			}
+			child.setBounds(i % columns * cellWidth, i / columns * cellHeight, cellWidth, cellHeight);
+			group.addActor(child);
+			if(share > 1)
+				fill((Group)child, share, fanout, transform, animatedPercent, created);
+		}
+	}
+
+	/**
+	 * Enables the hit grid of the specified group and of every group under it.
+	 */
+	public static void setHitGrids(Group group, float cellSize) {
+		group.setHitGrid(cellSize);
+		for(Actor child : group.getChildren())
+			if(child instanceof Group)
+				setHitGrids((Group)child, cellSize);
+	}
+
+	/**
+	 * Leaf actor submitting a single quad, like an image would.
+	 */
+	public static class Quad extends Actor {
+		@Override
+		public void draw(Batch batch, float parentAlpha) {
+			batch.draw(region, getX(), getY(), getOriginX(), getOriginY(), getWidth(), getHeight(), getScaleX(), getScaleY(),
+					getRotation());
+		}
+	}
+}
@@ -0,0 +1,282 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Matrix4;
+
+/**
+ * {@link Batch} stand-in that never touches GL and only counts what a real batch would have done. A render call is counted
+ * whenever pending quads would have been flushed to the GPU, following the same rules as
+ * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch}: texture switches, matrix changes while drawing, explicit flushes and
+ * {@link #end()}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class CountingBatch implements Batch {
+	private final Matrix4 projectionMatrix = new Matrix4();
+	private final Matrix4 transformMatrix = new Matrix4();
+	private final Color color = new Color(1, 1, 1, 1);
+	private float packedColor = Color.WHITE_FLOAT_BITS;
+	private boolean drawing, blending = true;
+	private int blendSrc = GL20.GL_SRC_ALPHA, blendDst = GL20.GL_ONE_MINUS_SRC_ALPHA;
+	private int blendSrcAlpha = GL20.GL_SRC_ALPHA, blendDstAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+	private ShaderProgram shader;
+	private Texture lastTexture;
+
+	private int pending;
+
+	/**
+	 * Number of quads submitted since the last {@link #reset()}.
+	 */
+	public int quads;
+
+	/**
+	 * Number of flushes that would have issued a draw call since the last {@link #reset()}.
+	 */
+	public int renderCalls;
+
+	/**
+	 * Number of {@link #setTransformMatrix(Matrix4)} calls since the last {@link #reset()}.
+	 */
+	public int transformChanges;
+
+	public void reset() {
+		quads = 0;
+		renderCalls = 0;
+		transformChanges = 0;
+	}
+
+	private void quad(Texture texture) {
+		if(texture != lastTexture) {
+			flush();
+			lastTexture = texture;
+		}
+		pending++;
+		quads++;
+	}
+
+	@Override
+	public void begin() {
+		if(drawing)
+			throw new IllegalStateException("CountingBatch.end must be called before begin.");
+		drawing = true;
+	}
+
+	@Override
+	public void end() {
+		if(!drawing)
+			throw new IllegalStateException("CountingBatch.begin must be called before end.");
+		flush();
+		lastTexture = null;
+		drawing = false;
+	}
+
+	@Override
+	public void setColor(Color tint) {
+		color.set(tint);
+		packedColor = tint.toFloatBits();
+	}
+
+	@Override
+	public void setColor(float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+		packedColor = color.toFloatBits();
+	}
+
+	@Override
+	public Color getColor() {
+		return color;
+	}
+
+	@Override
+	public void setPackedColor(float packedColor) {
+		Color.abgr8888ToColor(color, packedColor);
+		this.packedColor = packedColor;
+	}
+
+	@Override
+	public float getPackedColor() {
+		return packedColor;
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height,
+	                 float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight,
+	                 boolean flipX, boolean flipY) {
+		quad(texture);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+	                 int srcHeight, boolean flipX, boolean flipY) {
+		quad(texture);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+		quad(texture);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		quad(texture);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y) {
+		quad(texture);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height) {
+		quad(texture);
+	}
+
+	@Override
+	public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+		for(int i = 0, n = count / 20; i < n; i++) // 20 floats per sprite
+			quad(texture);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y) {
+		quad(region.getTexture());
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float width, float height) {
+		quad(region.getTexture());
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+	                 float scaleX, float scaleY, float rotation) {
+		quad(region.getTexture());
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+	                 float scaleX, float scaleY, float rotation, boolean clockwise) {
+		quad(region.getTexture());
+	}
+
+	@Override
+	public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+		quad(region.getTexture());
+	}
+
+	@Override
+	public void flush() {
+		if(pending == 0)
+			return;
+		pending = 0;
+		renderCalls++;
+	}
+
+	@Override
+	public void disableBlending() {
+		if(!blending)
+			return;
+		flush();
+		blending = false;
+	}
+
+	@Override
+	public void enableBlending() {
+		if(blending)
+			return;
+		flush();
+		blending = true;
+	}
+
+	@Override
+	public void setBlendFunction(int srcFunc, int dstFunc) {
+		setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+	}
+
+	@Override
+	public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+		flush();
+		blendSrc = srcFuncColor;
+		blendDst = dstFuncColor;
+		blendSrcAlpha = srcFuncAlpha;
+		blendDstAlpha = dstFuncAlpha;
+	}
+
+	@Override
+	public int getBlendSrcFunc() {
+		return blendSrc;
+	}
+
+	@Override
+	public int getBlendDstFunc() {
+		return blendDst;
+	}
+
+	@Override
+	public int getBlendSrcFuncAlpha() {
+		return blendSrcAlpha;
+	}
+
+	@Override
+	public int getBlendDstFuncAlpha() {
+		return blendDstAlpha;
+	}
+
+	@Override
+	public Matrix4 getProjectionMatrix() {
+		return projectionMatrix;
+	}
+
+	@Override
+	public Matrix4 getTransformMatrix() {
+		return transformMatrix;
+	}
+
+	@Override
+	public void setProjectionMatrix(Matrix4 projection) {
+		if(drawing)
+			flush();
+		projectionMatrix.set(projection);
+	}
+
+	@Override
+	public void setTransformMatrix(Matrix4 transform) {
+		if(drawing)
+			flush();
+		transformMatrix.set(transform);
+		transformChanges++;
+	}
+
+	@Override
+	public void setShader(ShaderProgram shader) {
+		if(drawing)
+			flush();
+		this.shader = shader;
+	}
+
+	@Override
+	public ShaderProgram getShader() {
+		return shader;
+	}
+
+	@Override
+	public boolean isBlendingEnabled() {
+		return blending;
+	}
+
+	@Override
+	public boolean isDrawing() {
+		return drawing;
+	}
+
+	@Override
+	public void dispose() {}
+}
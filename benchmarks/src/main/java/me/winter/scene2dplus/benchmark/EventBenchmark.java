@@ -0,0 +1,127 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.math.RandomXS128;
+import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.Group;
+import me.winter.scene2dplus.InputEvent;
+import me.winter.scene2dplus.InputListener;
+import me.winter.scene2dplus.Stage;
+import me.winter.scene2dplus.utils.ClickListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures event propagation under mouse move storms, with a listener on every actor. Run with {@code -prof gc}:
+ * {@code gc.alloc.rate.norm} must stay at 0 bytes per operation.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+	private static final int POINTS = 1024;
+
+	@Param({ "1000", "10000" })
+	public int actorCount;
+
+	@Param({ "10" })
+	public int fanout;
+
+	/**
+	 * Listener added to every actor: "mouseMoved" handles mouse moves, "click" is a {@link ClickListener} which is skipped for
+	 * them.
+	 */
+	@Param({ "mouseMoved", "click" })
+	public String listener;
+
+	private Stage stage;
+	private final int[] screenX = new int[POINTS], screenY = new int[POINTS];
+	private final Actor[] targets = new Actor[POINTS];
+	private final InputEvent event = new InputEvent();
+	private int index;
+	public int handled;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		stage = Headless.createStage(new CountingBatch());
+		Group root = ActorTrees.build(actorCount, fanout, Headless.SCREEN_SIZE, false, 0);
+		stage.addActor(root);
+		addListeners(root, listener.equals("click") ? new ClickListener() : new InputListener() {
+			@Override
+			public boolean mouseMoved(InputEvent event, float x, float y) {
+				handled++;
+				return false;
+			}
+		});
+
+		RandomXS128 random = new RandomXS128(42);
+		for(int i = 0; i < POINTS; i++) {
+			screenX[i] = random.nextInt(Headless.SCREEN_SIZE);
+			screenY[i] = random.nextInt(Headless.SCREEN_SIZE);
+			targets[i] = stage.hit(screenX[i], Headless.SCREEN_SIZE - 1 - screenY[i], true);
+		}
+	}
+
+	private static void addListeners(Actor actor, InputListener listener) {
+		actor.addListener(listener);
+		if(actor instanceof Group)
+			for(Actor child : ((Group)actor).getChildren())
+				addListeners(child, listener);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		stage.dispose();
+	}
+
+	/**
+	 * Fires a mouse moved event on the deepest actor, notifying every ascendant.
+	 */
+	@Benchmark
+	public boolean fire() {
+		int i = index++ & POINTS - 1;
+		event.reset();
+		event.setType(InputEvent.Type.mouseMoved);
+		event.setStage(stage);
+		return targets[i].fire(event);
+	}
+
+	/**
+	 * Moves the mouse through the stage, which hits the actor under the mouse and fires the event on it.
+	 */
+	@Benchmark
+	public boolean mouseMoved() {
+		int i = index++ & POINTS - 1;
+		return stage.mouseMoved(screenX[i], screenY[i]);
+	}
+
+	/**
+	 * Moves the mouse then acts with no time elapsed, firing the enter and exit events.
+	 */
+	@Benchmark
+	public Stage mouseMovedAndAct() {
+		int i = index++ & POINTS - 1;
+		stage.mouseMoved(screenX[i], screenY[i]);
+		stage.act(0);
+		return stage;
+	}
+}
@@ -0,0 +1,90 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import me.winter.scene2dplus.Stage;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+/**
+ * Boots a headless libGDX application once per JVM so {@link Stage} can be created and driven outside of a real backend. The
+ * headless backend does not provide GL, so a no-op {@link GL20} is installed for the few calls the stage makes (viewport,
+ * scissors, frame buffers) and the graphics are made to report a screen of {@link #SCREEN_SIZE} pixels.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public final class Headless {
+	/**
+	 * Width and height of the stage viewport used by every benchmark.
+	 */
+	public static final int SCREEN_SIZE = 1024;
+
+	private Headless() {}
+
+	public static synchronized void init() {
+		if(Gdx.app != null)
+			return;
+		HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+		config.renderInterval = -1; // never call render, benchmarks drive the stage themselves
+		new HeadlessApplication(new ApplicationAdapter() {}, config);
+		Gdx.gl = Gdx.gl20 = noopGL();
+		Gdx.graphics = screenSized(Gdx.graphics);
+	}
+
+	/**
+	 * The headless graphics report a 0x0 screen, which puts every input event outside the stage viewport.
+	 */
+	private static Graphics screenSized(Graphics graphics) {
+		return (Graphics)Proxy.newProxyInstance(Graphics.class.getClassLoader(), new Class<?>[] { Graphics.class },
+				(proxy, method, args) -> {
+					switch(method.getName()) {
+						case "getWidth":
+						case "getHeight":
+						case "getBackBufferWidth":
+						case "getBackBufferHeight":
+							return SCREEN_SIZE;
+						default:
+							try {
+								return method.invoke(graphics, args);
+							} catch(InvocationTargetException ex) {
+								throw ex.getCause();
+							}
+					}
+				});
+	}
+
+	private static GL20 noopGL() {
+		return (GL20)Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] { GL20.class }, (proxy, method, args) -> {
+			if(method.getName().equals("glCheckFramebufferStatus"))
+				return GL20.GL_FRAMEBUFFER_COMPLETE;
+			Class<?> type = method.getReturnType();
+			if(type == boolean.class)
+				return false;
+			if(type == int.class)
+				return 0;
+			if(type == float.class)
+				return 0f;
+			return null;
+		});
+	}
+
+	/**
+	 * Creates a stage of {@link #SCREEN_SIZE} squared world units drawing into the specified batch.
+	 */
+	public static Stage createStage(Batch batch) {
+		init();
+		ScreenViewport viewport = new ScreenViewport();
+		Stage stage = new Stage(viewport, batch);
+		viewport.update(SCREEN_SIZE, SCREEN_SIZE, true);
+		return stage;
+	}
+}
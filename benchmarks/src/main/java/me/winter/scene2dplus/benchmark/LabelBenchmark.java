@@ -0,0 +1,77 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import me.winter.scene2dplus.ui.Label;
+import me.winter.scene2dplus.ui.Label.LabelStyle;
+import me.winter.scene2dplus.ui.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures laying out a {@link Table} of {@link #rows} rows of labels repeating a few texts, as a table of numbers and column
+ * headers would.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LabelBenchmark {
+	private static final String[] TEXTS = { "0", "1", "OK", "Cancel", "Name", "Size", "Modified", "N/A" };
+
+	@Param({ "100", "1000" })
+	public int rows;
+
+	private BitmapFont font;
+	private Table table;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Headless.init();
+		font = new BitmapFont();
+		LabelStyle style = new LabelStyle(font, Color.WHITE);
+		table = new Table();
+		for(int i = 0; i < rows; i++) {
+			for(int ii = 0; ii < 4; ii++)
+				table.add(new Label(TEXTS[(i * 4 + ii) % TEXTS.length], style));
+			table.row();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		font.dispose();
+	}
+
+	/**
+	 * Invalidates every label then lays out the table, computing the labels' preferred size and layout.
+	 */
+	@Benchmark
+	public Table layout() {
+		table.invalidateHierarchy();
+		for(int i = 0, n = table.getChildren().size; i < n; i++)
+			((Label)table.getChildren().get(i)).invalidate();
+		table.setSize(table.getPrefWidth(), table.getPrefHeight());
+		table.validate();
+		return table;
+	}
+}
@@ -0,0 +1,93 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import me.winter.scene2dplus.ui.List;
+import me.winter.scene2dplus.ui.List.ListStyle;
+import me.winter.scene2dplus.utils.BaseDrawable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures opening a {@link List} (setting its items and laying it out) and scrolling it (drawing a screen of items at a
+ * moving culling area), with and without {@link List#setVirtual(boolean) virtualization}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBenchmark {
+	@Param({ "1000", "100000", "1000000" })
+	public int itemCount;
+
+	@Param({ "false", "true" })
+	public boolean virtual;
+
+	private BitmapFont font;
+	private List<String> list;
+	private final Array<String> items = new Array<>();
+	private final Rectangle cullingArea = new Rectangle();
+	private final CountingBatch batch = new CountingBatch();
+	private int scroll;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Headless.init();
+		font = new BitmapFont();
+		ListStyle style = new ListStyle(font, Color.WHITE, Color.GRAY, new BaseDrawable());
+		list = new List<>(style);
+		list.setVirtual(virtual);
+		for(int i = 0; i < itemCount; i++)
+			items.add("Item " + i);
+		list.setItems(items);
+		list.setSize(list.getPrefWidth(), list.getPrefHeight());
+		list.validate();
+		cullingArea.set(0, 0, list.getWidth(), Headless.SCREEN_SIZE);
+		list.setCullingArea(cullingArea);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		font.dispose();
+	}
+
+	@Benchmark
+	public List<String> open() {
+		list.setItems(items);
+		list.validate();
+		return list;
+	}
+
+	/**
+	 * Draws the items at a culling area moving down by one item per call.
+	 */
+	@Benchmark
+	public int scroll() {
+		float height = list.getHeight() - Headless.SCREEN_SIZE;
+		cullingArea.y = height - (scroll++ * list.getItemHeight()) % height;
+		batch.quads = 0;
+		list.draw(batch, 1);
+		return batch.quads;
+	}
+}
@@ -0,0 +1,104 @@
+package me.winter.scene2dplus.benchmark;
+
+import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.Group;
+import me.winter.scene2dplus.Stage;
+import me.winter.scene2dplus.ui.Container;
+import me.winter.scene2dplus.ui.ScrollPane;
+import me.winter.scene2dplus.ui.ScrollPane.ScrollPaneStyle;
+import me.winter.scene2dplus.ui.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Stage#draw()} of a {@link ScrollPane} scrolled halfway through {@link #rowCount} rows of quads. The table of
+ * rows is wrapped in a container so it doesn't receive the scroll pane's culling area and only the stage's clip area can cull
+ * the rows.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScrollPaneBenchmark {
+	private static final int QUADS_PER_ROW = 10;
+
+	@Param({ "100", "1000", "10000" })
+	public int rowCount;
+
+	/**
+	 * If true, the rows are transform groups.
+	 */
+	@Param({ "false", "true" })
+	public boolean transform;
+
+	@Param({ "true", "false" })
+	public boolean clipCulling;
+
+	private CountingBatch batch;
+	private Stage stage;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		batch = new CountingBatch();
+		stage = Headless.createStage(batch);
+
+		Table table = new Table();
+		for(int i = 0; i < rowCount; i++) {
+			Group row = new Group();
+			row.setTransform(transform);
+			row.setClipCulling(clipCulling);
+			for(int j = 0; j < QUADS_PER_ROW; j++) {
+				Actor quad = new ActorTrees.Quad();
+				quad.setBounds(j * 40, 2, 36, 16);
+				row.addActor(quad);
+			}
+			table.add(row).size(QUADS_PER_ROW * 40, 20).row();
+		}
+		Container<Table> container = new Container<>(table);
+		container.setClipCulling(clipCulling);
+		table.setClipCulling(clipCulling);
+
+		ScrollPane scrollPane = new ScrollPane(container, new ScrollPaneStyle());
+		scrollPane.setClipCulling(clipCulling);
+		scrollPane.setSmoothScrolling(false);
+		scrollPane.setBounds(100, 100, 400, 600);
+		stage.addActor(scrollPane);
+		stage.getRoot().setClipCulling(clipCulling);
+
+		scrollPane.layout();
+		scrollPane.setScrollPercentY(0.5f);
+		scrollPane.updateVisualScroll();
+		stage.act(0);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		stage.dispose();
+	}
+
+	@Benchmark
+	public int draw() {
+		batch.reset();
+		stage.draw();
+		return batch.quads;
+	}
+}
@@ -0,0 +1,68 @@
+package me.winter.scene2dplus.benchmark;
+
+import me.winter.scene2dplus.ui.Button;
+import me.winter.scene2dplus.ui.Button.ButtonStyle;
+import me.winter.scene2dplus.ui.Skin;
+import me.winter.scene2dplus.utils.BaseDrawable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Skin#setEnabled(me.winter.scene2dplus.Actor, boolean) disabling and enabling} {@link #buttons} buttons, each
+ * using one of {@link #styles} button styles which all have a "-disabled" style in the skin.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkinBenchmark {
+	@Param({ "10", "1000" })
+	public int styles;
+
+	@Param({ "100" })
+	public int buttons;
+
+	private Skin skin;
+	private Button[] buttonArray;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Headless.init();
+		skin = new Skin();
+		for(int i = 0; i < styles; i++) {
+			ButtonStyle style = new ButtonStyle(new BaseDrawable(), null, null);
+			skin.add("style" + i, style);
+			skin.add("style" + i + "-disabled", new ButtonStyle(style));
+		}
+		buttonArray = new Button[buttons];
+		for(int i = 0; i < buttons; i++)
+			buttonArray[i] = new Button(skin, "style" + i % styles);
+	}
+
+	@Benchmark
+	public Skin toggleEnabled() {
+		for(Button button : buttonArray)
+			skin.setEnabled(button, false);
+		for(Button button : buttonArray)
+			skin.setEnabled(button, true);
+		return skin;
+	}
+}
@@ -0,0 +1,99 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import me.winter.scene2dplus.ui.BinarySkin;
+import me.winter.scene2dplus.ui.Skin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a skin of {@link #styles} button and label styles from skin JSON and from the same skin written by
+ * {@link BinarySkin}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkinLoadBenchmark {
+	@Param({ "100", "1000" })
+	public int styles;
+
+	private FileHandle directory, jsonFile, binaryFile;
+	private Texture texture;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Headless.init();
+		Pixmap pixmap = new Pixmap(4, 4, Format.RGBA8888);
+		texture = new Texture(pixmap);
+		pixmap.dispose();
+
+		StringBuilder json = new StringBuilder("{\n");
+		json.append("Color: { red: { r: 1, g: 0, b: 0, a: 1 }, blue: { hex: 0000ffff } },\n");
+		json.append("TintedDrawable: { red-white: { name: white, color: red } },\n");
+		json.append("me.winter.scene2dplus.ui.TextButton$TextButtonStyle: {\n");
+		for(int i = 0; i < styles; i++) {
+			json.append("style").append(i).append(": { up: white, down: red-white, fontColor: red, overFontColor: blue, ")
+					.append("disabledFontColor: { r: 0.5, g: 0.5, b: 0.5, a: 1 }, pressedOffsetY: -1 },\n");
+		}
+		json.append("},\nme.winter.scene2dplus.ui.Label$LabelStyle: {\n");
+		for(int i = 0; i < styles; i++)
+			json.append("style").append(i).append(": { fontColor: blue, background: white },\n");
+		json.append("}\n}\n");
+
+		directory = FileHandle.tempDirectory("skin");
+		jsonFile = directory.child("skin.json");
+		jsonFile.writeString(json.toString(), false);
+		binaryFile = directory.child("skin.bin");
+		BinarySkin.write(loadJson(), binaryFile);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		texture.dispose();
+		directory.deleteDirectory();
+	}
+
+	private Skin newSkin() {
+		Skin skin = new Skin();
+		skin.add("white", new TextureRegion(texture));
+		return skin;
+	}
+
+	@Benchmark
+	public Skin loadJson() {
+		Skin skin = newSkin();
+		skin.load(jsonFile);
+		return skin;
+	}
+
+	@Benchmark
+	public Skin loadBinary() {
+		Skin skin = newSkin();
+		BinarySkin.read(skin, binaryFile);
+		return skin;
+	}
+}
@@ -0,0 +1,140 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.math.RandomXS128;
+import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.Group;
+import me.winter.scene2dplus.Stage;
+import me.winter.scene2dplus.ui.BufferedContainer;
+import me.winter.scene2dplus.utils.TransformBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Stage#act(float)}, {@link Stage#draw()} and {@link Stage#hit(float, float, boolean)} on generated trees.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StageBenchmark {
+	private static final int HIT_POINTS = 1024;
+
+	@Param({ "1000", "10000", "100000" })
+	public int actorCount;
+
+	@Param({ "10", "100" })
+	public int fanout;
+
+	@Param({ "true", "false" })
+	public boolean transform;
+
+	@Param({ "0", "10" })
+	public int animatedPercent;
+
+	/**
+	 * Cell size of the {@link Group#setHitGrid(float) hit grid} of every group, 0 for none. Run with
+	 * {@code -p hitGridCellSize=0,32} to compare.
+	 */
+	@Param({ "0" })
+	public float hitGridCellSize;
+
+	/**
+	 * If true the stage draws through a {@link TransformBatch} wrapping the counting batch. Run with
+	 * {@code -p cpuTransform=false,true} to compare.
+	 */
+	@Param({ "false" })
+	public boolean cpuTransform;
+
+	/**
+	 * If true the root group {@link Group#setRenderCache(boolean) caches its rendering}. Run with
+	 * {@code -p renderCache=false,true} to compare.
+	 */
+	@Param({ "false" })
+	public boolean renderCache;
+
+	/**
+	 * If true the root group is put in a {@link BufferedContainer}. Run with {@code -p frameBuffer=false,true} to compare.
+	 */
+	@Param({ "false" })
+	public boolean frameBuffer;
+
+	/**
+	 * Number of pointers held down on the stage, for which {@link #act()} fires enter and exit events. Run with
+	 * {@code -p touchedPointers=0,10} to compare.
+	 */
+	@Param({ "0" })
+	public int touchedPointers;
+
+	private CountingBatch batch;
+	private Stage stage;
+	private final float[] hitX = new float[HIT_POINTS], hitY = new float[HIT_POINTS];
+	private int hitIndex;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		batch = new CountingBatch();
+		stage = Headless.createStage(cpuTransform ? new TransformBatch(batch) : batch);
+		Group root = ActorTrees.build(actorCount, fanout, Headless.SCREEN_SIZE, transform, animatedPercent);
+		if(hitGridCellSize > 0)
+			ActorTrees.setHitGrids(root, hitGridCellSize);
+		root.setRenderCache(renderCache);
+		if(frameBuffer) {
+			BufferedContainer<Group> container = new BufferedContainer<>(root);
+			container.setFillParent(true);
+			container.fill();
+			stage.addActor(container);
+		} else
+			stage.addActor(root);
+
+		RandomXS128 random = new RandomXS128(42);
+		for(int i = 0; i < HIT_POINTS; i++) {
+			hitX[i] = random.nextFloat() * Headless.SCREEN_SIZE;
+			hitY[i] = random.nextFloat() * Headless.SCREEN_SIZE;
+		}
+		for(int pointer = 0; pointer < touchedPointers; pointer++)
+			stage.touchDown(random.nextInt(Headless.SCREEN_SIZE), random.nextInt(Headless.SCREEN_SIZE), pointer, 0);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		stage.dispose();
+	}
+
+	@Benchmark
+	public Stage act() {
+		stage.act(1 / 60f);
+		return stage;
+	}
+
+	@Benchmark
+	public int draw() {
+		batch.reset();
+		stage.draw();
+		return batch.renderCalls;
+	}
+
+	@Benchmark
+	public Actor hit() {
+		int i = hitIndex++ & HIT_POINTS - 1;
+		return stage.hit(hitX[i], hitY[i], true);
+	}
+}
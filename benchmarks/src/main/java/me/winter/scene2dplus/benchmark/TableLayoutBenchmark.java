@@ -0,0 +1,89 @@
+package me.winter.scene2dplus.benchmark;
+
+import me.winter.scene2dplus.ui.Table;
+import me.winter.scene2dplus.ui.Widget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Table#layout()} on grids of fixed size widgets, both as a full relayout and as the relayout caused by a
+ * single cell changing its preferred size.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableLayoutBenchmark {
+	@Param({ "1000", "10000", "100000" })
+	public int cellCount;
+
+	@Param({ "10" })
+	public int columns;
+
+	private Table table;
+	private FixedWidget[] widgets;
+	private int changed;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Headless.init();
+		table = new Table();
+		widgets = new FixedWidget[cellCount];
+		for(int i = 0; i < cellCount; i++) {
+			if(i > 0 && i % columns == 0)
+				table.row();
+			widgets[i] = new FixedWidget();
+			table.add(widgets[i]).pad(2);
+		}
+		table.setSize(table.getPrefWidth(), table.getPrefHeight());
+		table.validate();
+	}
+
+	@Benchmark
+	public Table layout() {
+		table.invalidate();
+		table.layout();
+		return table;
+	}
+
+	@Benchmark
+	public Table singleCellChanged() {
+		FixedWidget widget = widgets[changed++ % cellCount];
+		widget.prefWidth = widget.prefWidth == 32 ? 33 : 32;
+		widget.invalidateHierarchy();
+		table.validate();
+		return table;
+	}
+
+	static class FixedWidget extends Widget {
+		float prefWidth = 32, prefHeight = 16;
+
+		@Override
+		public float getPrefWidth() {
+			return prefWidth;
+		}
+
+		@Override
+		public float getPrefHeight() {
+			return prefHeight;
+		}
+	}
+}
@@ -0,0 +1,222 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.ui.Cell;
+import me.winter.scene2dplus.ui.Table;
+import me.winter.scene2dplus.ui.Value;
+import me.winter.scene2dplus.ui.Widget;
+
+import java.util.Arrays;
+
+/**
+ * Checks that the incremental layout of a {@link Table}, done when only some cells' actors changed, gives the same bounds as a
+ * full layout. Each random table, with and without colspans, uniform cells, percentages and nested tables, is built twice and
+ * both receive the same random changes to their actors and cells. One is laid out as usual, the other is invalidated before
+ * each layout so its cells are all computed again. Run with
+ * {@code java -cp benchmarks.jar me.winter.scene2dplus.benchmark.TableLayoutCheck}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public final class TableLayoutCheck {
+	private TableLayoutCheck() {}
+
+	public static void main(String[] args) {
+		Headless.init();
+		int checks = 0;
+		for(int t = 0; t < 400; t++) {
+			// Both tables use the same random sequence, so they are built and changed the same way.
+			RandomXS128 random = new RandomXS128(t), fullRandom = new RandomXS128(t);
+			Table table = new Table(), fullTable = new Table();
+			Array<Actor> actors = new Array<>(), fullActors = new Array<>();
+			Array<SizedWidget> widgets = new Array<>(), fullWidgets = new Array<>();
+			buildTable(table, actors, widgets, random);
+			buildTable(fullTable, fullActors, fullWidgets, fullRandom);
+
+			for(int m = 0; m < 50; m++) {
+				change(table, actors, widgets, random);
+				change(fullTable, fullActors, fullWidgets, fullRandom);
+				// The table is only laid out if a change invalidated it. Laying out actors which aren't widgets may change their
+				// size, and so their preferred size for the next layout.
+				boolean laidOut = table.needsLayout();
+				table.validate();
+				if(laidOut)
+					fullTable.invalidate();
+				fullTable.validate();
+
+				float[] incremental = bounds(actors), full = bounds(fullActors);
+				if(!Arrays.equals(incremental, full)) {
+					throw new IllegalStateException("Incremental layout differs from full layout, table " + t + ", change " + m
+							+ ":\n" + Arrays.toString(incremental) + "\n" + Arrays.toString(full));
+				}
+				checks++;
+			}
+		}
+		System.out.println("TableLayoutCheck: " + checks + " layouts match.");
+	}
+
+	/**
+	 * Adds random cells to the table. Half of the tables are simple grids, which take the incremental path the most.
+	 */
+	private static void buildTable(Table table, Array<Actor> actors, Array<SizedWidget> widgets, RandomXS128 random) {
+		boolean simple = random.nextBoolean();
+		int columns = 1 + random.nextInt(simple ? 12 : 6), cellCount = simple ? 20 + random.nextInt(200) : 1 + random.nextInt(60);
+		for(int i = 0; i < cellCount; i++) {
+			if(i > 0 && random.nextInt(columns) == 0)
+				table.row();
+			Actor actor;
+			int kind = random.nextInt(10);
+			if(kind == 0 && !simple) {
+				actor = new Actor();
+				actor.setSize(random.nextInt(50), random.nextInt(50));
+			} else if(kind == 1) {
+				Table nested = new Table();
+				SizedWidget widget = new SizedWidget(random);
+				nested.add(widget).pad(random.nextInt(4));
+				actors.add(widget);
+				widgets.add(widget);
+				actor = nested;
+			} else {
+				SizedWidget widget = new SizedWidget(random);
+				widgets.add(widget);
+				actor = widget;
+			}
+			actors.add(actor);
+
+			Cell<?> cell = table.add(actor);
+			if(random.nextInt(4) == 0)
+				cell.pad(random.nextInt(5));
+			if(random.nextInt(4) == 0)
+				cell.space(random.nextInt(5));
+			if(random.nextInt(5) == 0)
+				cell.expand();
+			if(random.nextInt(5) == 0)
+				cell.fill();
+			if(random.nextInt(8) == 0)
+				cell.spaceBottom(Value.prefHeight);
+			if(random.nextInt(8) == 0)
+				cell.spaceRight(Value.prefWidth);
+			if(random.nextInt(8) == 0)
+				cell.maxWidth(random.nextInt(50));
+			if(!simple) {
+				if(random.nextInt(6) == 0)
+					cell.colspan(1 + random.nextInt(3));
+				if(random.nextInt(6) == 0)
+					cell.uniform();
+				if(random.nextInt(8) == 0)
+					cell.width(Value.percentWidth(0.5f, table));
+				if(random.nextInt(3) == 0)
+					table.add();
+			}
+		}
+		if(random.nextBoolean())
+			table.pad(3);
+		table.setRound(random.nextBoolean());
+		table.setSize(100 + random.nextInt(400), 100 + random.nextInt(400));
+		table.validate();
+	}
+
+	/**
+	 * Changes random actors of the table and sometimes its size.
+	 */
+	private static void change(Table table, Array<Actor> actors, Array<SizedWidget> widgets, RandomXS128 random) {
+		boolean resized = false;
+		for(int changes = 1 + random.nextInt(2); changes > 0; changes--) {
+			Actor actor = actors.get(random.nextInt(actors.size));
+			if(actor instanceof SizedWidget) {
+				SizedWidget widget = (SizedWidget)actor;
+				if(random.nextBoolean())
+					widget.randomize(random);
+				widget.invalidateHierarchy();
+			} else if(!(actor instanceof Table)) {
+				actor.setSize(random.nextInt(50), random.nextInt(50));
+				resized = true;
+			}
+		}
+		// Resizing an actor which isn't a widget doesn't invalidate the table, a widget is invalidated so the table is laid out
+		// and uses the new size.
+		if(resized && widgets.size > 0)
+			widgets.get(random.nextInt(widgets.size)).invalidateHierarchy();
+		if(random.nextInt(10) == 0)
+			table.setSize(100 + random.nextInt(400), 100 + random.nextInt(400));
+		// Changing a cell doesn't invalidate the table, the change is laid out with the next change to an actor.
+		if(random.nextInt(4) == 0)
+			changeCell(table.getCells().get(random.nextInt(table.getCells().size)), random);
+	}
+
+	private static void changeCell(Cell<?> cell, RandomXS128 random) {
+		switch(random.nextInt(7)) {
+			case 0:
+				cell.pad(random.nextInt(5));
+				break;
+			case 1:
+				cell.spaceRight(random.nextInt(5));
+				break;
+			case 2:
+				cell.spaceBottom(random.nextInt(5));
+				break;
+			case 3:
+				cell.width(random.nextInt(60));
+				break;
+			case 4:
+				cell.expand(random.nextBoolean(), random.nextBoolean());
+				break;
+			case 5:
+				cell.fill(random.nextBoolean(), random.nextBoolean());
+				break;
+			default:
+				cell.align(random.nextBoolean() ? Align.topLeft : Align.bottomRight);
+		}
+	}
+
+	private static float[] bounds(Array<Actor> actors) {
+		float[] bounds = new float[actors.size * 4];
+		for(int i = 0, n = actors.size; i < n; i++) {
+			Actor actor = actors.get(i);
+			bounds[i * 4] = actor.getX();
+			bounds[i * 4 + 1] = actor.getY();
+			bounds[i * 4 + 2] = actor.getWidth();
+			bounds[i * 4 + 3] = actor.getHeight();
+		}
+		return bounds;
+	}
+
+	static class SizedWidget extends Widget {
+		float prefWidth, prefHeight, minWidth, minHeight;
+
+		SizedWidget(RandomXS128 random) {
+			randomize(random);
+		}
+
+		void randomize(RandomXS128 random) {
+			prefWidth = random.nextInt(60);
+			prefHeight = random.nextInt(60);
+			minWidth = random.nextInt((int)prefWidth + 1);
+			minHeight = random.nextInt((int)prefHeight + 1);
+		}
+
+		@Override
+		public float getPrefWidth() {
+			return prefWidth;
+		}
+
+		@Override
+		public float getPrefHeight() {
+			return prefHeight;
+		}
+
+		@Override
+		public float getMinWidth() {
+			return minWidth;
+		}
+
+		@Override
+		public float getMinHeight() {
+			return minHeight;
+		}
+	}
+}
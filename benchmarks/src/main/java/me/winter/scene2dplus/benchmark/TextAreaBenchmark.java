@@ -0,0 +1,80 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import me.winter.scene2dplus.ui.TextArea;
+import me.winter.scene2dplus.ui.TextField.TextFieldStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures typing in the middle of a {@link TextArea} holding {@link #lineCount} lines of text, some wider than the text area:
+ * appending a character then removing it, drawing the text area after each change to break its lines.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextAreaBenchmark {
+	@Param({ "100", "5000" })
+	public int lineCount;
+
+	private BitmapFont font;
+	private TextArea textArea;
+	private String text, typed;
+	private final CountingBatch batch = new CountingBatch();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Headless.init();
+		font = new BitmapFont();
+		textArea = new TextArea("", new TextFieldStyle(font, Color.WHITE, null, null, null));
+		textArea.setSize(400, Headless.SCREEN_SIZE);
+		StringBuilder builder = new StringBuilder();
+		for(int i = 0; i < lineCount; i++) {
+			builder.append("[INFO] Line ").append(i).append(" of the log");
+			for(int ii = i % 5; ii > 0; ii--)
+				builder.append(", with more words wrapped");
+			builder.append('\n');
+		}
+		text = builder.toString();
+		builder.insert(text.length() / 2, 'W');
+		typed = builder.toString();
+		textArea.setText(text);
+		textArea.draw(batch, 1);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		font.dispose();
+	}
+
+	@Benchmark
+	public int type() {
+		batch.quads = 0;
+		textArea.setText(typed);
+		textArea.draw(batch, 1);
+		textArea.setText(text);
+		textArea.draw(batch, 1);
+		return batch.quads;
+	}
+}
@@ -0,0 +1,148 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntArray;
+import me.winter.scene2dplus.ui.TextArea;
+import me.winter.scene2dplus.ui.TextField.TextFieldStyle;
+
+/**
+ * Checks that the lines a {@link TextArea} breaks again only in the paragraphs which changed are the same as those of a full
+ * break. Two text areas receive the same random edits, cursor moves and resizes. The lines of the second are all broken again
+ * whenever its text changed. The lines drawn, the number of lines and the cursor line must match after each change. Run with
+ * {@code java -cp benchmarks.jar me.winter.scene2dplus.benchmark.TextAreaCheck}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public final class TextAreaCheck {
+	private static final String ALPHABET = "abcdefghijWWWWWWWW      .,\n\n\r-_MMMMMMMMMMMMiiii";
+
+	private TextAreaCheck() {}
+
+	public static void main(String[] args) {
+		Headless.init();
+		BitmapFont font = new BitmapFont();
+		TextFieldStyle style = new TextFieldStyle(font, Color.WHITE, null, null, null);
+		CheckedTextArea area = new CheckedTextArea(style, false), fullArea = new CheckedTextArea(style, true);
+		CountingBatch batch = new CountingBatch();
+		RandomXS128 random = new RandomXS128(11);
+		int steps = 30000;
+		for(int step = 0; step < steps; step++) {
+			String text = area.getText();
+			int op = random.nextInt(20);
+			if(op < 9) {
+				String inserted = randomText(random, random.nextInt(4) == 0 ? random.nextInt(40) : 1);
+				int index = random.nextInt(text.length() + 1);
+				setText(area, fullArea, text.substring(0, index) + inserted + text.substring(index));
+			} else if(op < 15) {
+				if(text.length() > 0) {
+					int start = random.nextInt(text.length());
+					int end = start + 1 + random.nextInt(Math.min(8, text.length() - start));
+					setText(area, fullArea, text.substring(0, start) + text.substring(end));
+				}
+			} else if(op == 15)
+				setText(area, fullArea, randomText(random, random.nextInt(200)));
+			else if(op == 16) {
+				// The text areas are tall enough for all their lines to be drawn.
+				float width = 40 + random.nextInt(200);
+				area.setSize(width, CheckedTextArea.HEIGHT);
+				fullArea.setSize(width, CheckedTextArea.HEIGHT);
+			} else if(op == 17 && text.length() > 300)
+				setText(area, fullArea, text.substring(150));
+			else if(op == 18) {
+				int cursor = random.nextInt(text.length() + 1);
+				area.setCursorPosition(cursor);
+				fullArea.setCursorPosition(cursor);
+			} else {
+				int line = random.nextInt(area.getLines() + 2) - 1;
+				area.moveCursorLine(line);
+				fullArea.moveCursorLine(line);
+			}
+
+			area.draw(batch, 1);
+			fullArea.draw(batch, 1);
+			if(!area.lines.equals(fullArea.lines)) {
+				throw new IllegalStateException("Lines differ from a full break at step " + step + ":\n" + area.lines + "\n"
+						+ fullArea.lines);
+			}
+			if(area.getLines() != fullArea.getLines() || area.getCursorLine() != fullArea.getCursorLine()
+					|| area.getFirstLineShowing() != fullArea.getFirstLineShowing()) {
+				throw new IllegalStateException("Cursor line differs from a full break at step " + step + ": " + area.getCursorLine()
+						+ " " + fullArea.getCursorLine());
+			}
+		}
+		font.dispose();
+		System.out.println("TextAreaCheck: " + steps + " changes match.");
+	}
+
+	private static void setText(TextArea area, TextArea fullArea, String text) {
+		area.setText(text);
+		fullArea.setText(text);
+	}
+
+	private static String randomText(RandomXS128 random, int length) {
+		StringBuilder builder = new StringBuilder(length);
+		for(int i = 0; i < length; i++)
+			builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+		return builder.toString();
+	}
+
+	static class CheckedTextArea extends TextArea {
+		static final float HEIGHT = 20000;
+
+		private final boolean fullBreak;
+		private String brokenText;
+		private final LineFont lineFont = new LineFont();
+		/**
+		 * Start and end of each line drawn, in the order they were drawn.
+		 */
+		final IntArray lines = lineFont.lines;
+
+		CheckedTextArea(TextFieldStyle style, boolean fullBreak) {
+			super("", style);
+			this.fullBreak = fullBreak;
+			setSize(120, HEIGHT);
+		}
+
+		@Override
+		protected void calculateOffsets() {
+			// Like a resize, forgets the last text so all lines are broken again. The cursor line is only updated when the text
+			// changed, as the incremental break does.
+			if(fullBreak && !getText().equals(brokenText)) {
+				brokenText = getText();
+				sizeChanged();
+			}
+			super.calculateOffsets();
+		}
+
+		@Override
+		public void draw(Batch batch, float parentAlpha) {
+			lines.clear();
+			super.draw(batch, parentAlpha);
+		}
+
+		@Override
+		protected void drawText(Batch batch, BitmapFont font, float x, float y) {
+			super.drawText(batch, lineFont, x, y);
+		}
+	}
+
+	/**
+	 * Font which records the lines drawn instead of drawing them.
+	 */
+	static class LineFont extends BitmapFont {
+		final IntArray lines = new IntArray();
+
+		@Override
+		public GlyphLayout draw(Batch batch, CharSequence str, float x, float y, int start, int end, float targetWidth, int halign,
+				boolean wrap) {
+			lines.add(start, end);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import me.winter.scene2dplus.ui.TextField;
+import me.winter.scene2dplus.ui.TextField.TextFieldStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures typing in the middle of a {@link TextField} holding {@link #textLength} characters: appending a character then
+ * removing it, which updates the display text and the glyph positions twice.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextFieldBenchmark {
+	@Param({ "100", "10000", "100000" })
+	public int textLength;
+
+	private BitmapFont font;
+	private TextField textField;
+	private String text, typed;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Headless.init();
+		font = new BitmapFont();
+		textField = new TextField("", new TextFieldStyle(font, Color.WHITE, null, null, null));
+		StringBuilder builder = new StringBuilder(textLength + 1);
+		for(int i = 0; i < textLength; i++)
+			builder.append(i % 7 == 6 ? ' ' : (char)('a' + i % 26));
+		text = builder.toString();
+		builder.insert(textLength / 2, 'W');
+		typed = builder.toString();
+		textField.setText(text);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		font.dispose();
+	}
+
+	@Benchmark
+	public TextField type() {
+		textField.setText(typed);
+		textField.setText(text);
+		return textField;
+	}
+}
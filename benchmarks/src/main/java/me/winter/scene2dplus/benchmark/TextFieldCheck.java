@@ -0,0 +1,121 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.FloatArray;
+import me.winter.scene2dplus.ui.TextField;
+import me.winter.scene2dplus.ui.TextField.TextFieldStyle;
+
+/**
+ * Checks that the display text and glyph positions a {@link TextField} updates incrementally are the same as those laid out
+ * through a {@link com.badlogic.gdx.graphics.g2d.GlyphLayout}. Two text fields receive the same random edits, password mode and
+ * style changes. The second uses fonts with markup enabled, for which the whole display text is always laid out. Run with
+ * {@code java -cp benchmarks.jar me.winter.scene2dplus.benchmark.TextFieldCheck}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public final class TextFieldCheck {
+	private static final String ALPHABET = "abcdeAVWTy .,;'\"\n\r\t€一ffiLTo";
+
+	private TextFieldCheck() {}
+
+	public static void main(String[] args) {
+		Headless.init();
+		CheckedTextField field = new CheckedTextField(false), laidOut = new CheckedTextField(true);
+		RandomXS128 random = new RandomXS128(7);
+		int steps = 20000;
+		for(int step = 0; step < steps; step++) {
+			String text = field.getText();
+			int op = random.nextInt(20);
+			if(op < 8) {
+				String inserted = randomText(random, random.nextInt(4) == 0 ? random.nextInt(30) : 1);
+				int index = random.nextInt(text.length() + 1);
+				setText(field, laidOut, text.substring(0, index) + inserted + text.substring(index));
+			} else if(op < 13) {
+				if(text.length() > 0) {
+					int start = random.nextInt(text.length());
+					int end = start + 1 + random.nextInt(Math.min(5, text.length() - start));
+					setText(field, laidOut, text.substring(0, start) + text.substring(end));
+				}
+			} else if(op == 13)
+				setText(field, laidOut, randomText(random, random.nextInt(40)));
+			else if(op == 14) {
+				field.setPasswordMode(!field.isPasswordMode());
+				laidOut.setPasswordMode(field.isPasswordMode());
+			} else if(op == 15) {
+				char passwordCharacter = random.nextBoolean() ? '*' : '•';
+				field.setPasswordCharacter(passwordCharacter);
+				laidOut.setPasswordCharacter(passwordCharacter);
+			} else if(op == 16) {
+				boolean scaled = random.nextBoolean();
+				field.setScaled(scaled);
+				laidOut.setScaled(scaled);
+			} else if(op == 17) {
+				field.appendText("xy");
+				laidOut.appendText("xy");
+			} else if(op == 18 && text.length() > 60)
+				setText(field, laidOut, text.substring(30));
+
+			String displayText = field.getDisplayText(), expected = laidOut.getDisplayText();
+			if(!displayText.equals(expected))
+				throw new IllegalStateException("Display text differs at step " + step + ": [" + displayText + "] [" + expected + "]");
+			if(field.getFontOffset() != laidOut.getFontOffset())
+				throw new IllegalStateException("Font offset differs at step " + step + ": " + field.getFontOffset() + " "
+						+ laidOut.getFontOffset());
+			if(!field.getGlyphPositions().equals(laidOut.getGlyphPositions())) {
+				throw new IllegalStateException("Glyph positions differ at step " + step + ":\n" + field.getGlyphPositions() + "\n"
+						+ laidOut.getGlyphPositions());
+			}
+		}
+		System.out.println("TextFieldCheck: " + steps + " edits match.");
+	}
+
+	private static void setText(TextField field, TextField laidOut, String text) {
+		field.setText(text);
+		laidOut.setText(text);
+	}
+
+	private static String randomText(RandomXS128 random, int length) {
+		StringBuilder builder = new StringBuilder(length);
+		for(int i = 0; i < length; i++)
+			builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+		return builder.toString();
+	}
+
+	static class CheckedTextField extends TextField {
+		private final TextFieldStyle style, scaledStyle;
+
+		CheckedTextField(boolean markupEnabled) {
+			super("", newStyle(markupEnabled, 1));
+			style = getStyle();
+			scaledStyle = newStyle(markupEnabled, 1.5f);
+			setOnlyFontChars(false);
+		}
+
+		void setScaled(boolean scaled) {
+			setStyle(scaled ? scaledStyle : style);
+		}
+
+		String getDisplayText() {
+			return displayText.toString();
+		}
+
+		FloatArray getGlyphPositions() {
+			return glyphPositions;
+		}
+
+		float getFontOffset() {
+			return fontOffset;
+		}
+
+		private static TextFieldStyle newStyle(boolean markupEnabled, float scale) {
+			BitmapFont font = new BitmapFont();
+			font.getData().markupEnabled = markupEnabled;
+			font.getData().setScale(scale);
+			return new TextFieldStyle(font, Color.WHITE, null, null, null);
+		}
+	}
+}
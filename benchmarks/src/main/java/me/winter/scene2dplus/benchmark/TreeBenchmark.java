@@ -0,0 +1,136 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.math.Rectangle;
+import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.ui.Tree;
+import me.winter.scene2dplus.ui.Tree.TreeStyle;
+import me.winter.scene2dplus.ui.Widget;
+import me.winter.scene2dplus.utils.BaseDrawable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a {@link Tree} of folders of {@link #leaves} nodes each: expanding and collapsing a folder, scrolling (drawing the
+ * nodes at a moving culling area) and finding the node at a position, with and without
+ * {@link Tree#setVirtual(boolean) virtualization}, and finding nodes by value. The virtual tree creates the node actors when
+ * they are first shown.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeBenchmark {
+	@Param({ "10000", "200000" })
+	public int nodeCount;
+
+	@Param({ "1000" })
+	public int leaves;
+
+	@Param({ "false", "true" })
+	public boolean virtual;
+
+	private Tree<FileNode, Integer> tree;
+	private FileNode folder;
+	private final Rectangle cullingArea = new Rectangle();
+	private final CountingBatch batch = new CountingBatch();
+	private int scroll, query;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Headless.init();
+		BaseDrawable icon = new BaseDrawable();
+		icon.setMinWidth(12);
+		icon.setMinHeight(12);
+		tree = new Tree<>(new TreeStyle(icon, icon, new BaseDrawable()));
+		tree.setVirtual(virtual);
+		tree.setNodeActorFactory(node -> new RowWidget());
+		tree.setEstimatedNodeHeight(16);
+		for(int i = 0; i < nodeCount; i += leaves + 1) {
+			FileNode folder = virtual ? new FileNode() : new FileNode(new RowWidget());
+			folder.setValue(i);
+			for(int ii = 0; ii < leaves; ii++) {
+				FileNode file = virtual ? new FileNode() : new FileNode(new RowWidget());
+				file.setValue(i + 1 + ii);
+				folder.add(file);
+			}
+			folder.setExpanded(true);
+			tree.add(folder);
+		}
+		folder = tree.getRootNodes().first();
+		tree.setSize(tree.getPrefWidth(), tree.getPrefHeight());
+		cullingArea.set(0, tree.getHeight() - Headless.SCREEN_SIZE, tree.getWidth(), Headless.SCREEN_SIZE);
+		tree.setCullingArea(cullingArea);
+		tree.validate();
+	}
+
+	/**
+	 * Collapses or expands the first folder then lays out the tree.
+	 */
+	@Benchmark
+	public Tree<FileNode, Integer> toggleFolder() {
+		folder.setExpanded(!folder.isExpanded());
+		tree.setSize(tree.getPrefWidth(), tree.getPrefHeight());
+		tree.validate();
+		return tree;
+	}
+
+	/**
+	 * Draws the tree at a culling area moving down by 20 units per call.
+	 */
+	@Benchmark
+	public int scroll() {
+		float range = tree.getHeight() - Headless.SCREEN_SIZE;
+		cullingArea.y = range - (scroll++ * 20) % range;
+		batch.quads = 0;
+		tree.draw(batch, 1);
+		return batch.quads;
+	}
+
+	@Benchmark
+	public FileNode getNodeAt() {
+		return tree.getNodeAt(tree.getHeight() * (query++ & 1023) / 1024f);
+	}
+
+	@Benchmark
+	public FileNode findNode() {
+		return tree.findNode((int)((query++ * 7919L) % nodeCount));
+	}
+
+	static class FileNode extends Tree.Node<FileNode, Integer, Actor> {
+		FileNode() {}
+
+		FileNode(Actor actor) {
+			super(actor);
+		}
+	}
+
+	static class RowWidget extends Widget {
+		@Override
+		public float getPrefWidth() {
+			return 120;
+		}
+
+		@Override
+		public float getPrefHeight() {
+			return 16;
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.ui.Tree;
+import me.winter.scene2dplus.ui.Tree.TreeStyle;
+import me.winter.scene2dplus.ui.Widget;
+import me.winter.scene2dplus.utils.BaseDrawable;
+
+/**
+ * Checks that a {@link Tree#setVirtual(boolean) virtual} {@link Tree} finds the same nodes and positions the rows it shows the
+ * same way as a regular tree. Both trees receive the same random node insertions, removals, expansions and scrolling. The nodes
+ * of the virtual tree either have their actor from the start, with rows and icons of various sizes, or have it created by a
+ * node actor factory when first shown, with rows of the estimated height. After each change, the nodes at random heights and
+ * the bounds of the actors shown by the virtual tree must match the regular tree's. Run with
+ * {@code java -cp benchmarks.jar me.winter.scene2dplus.benchmark.TreeCheck}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public final class TreeCheck {
+	private static final float ESTIMATED_HEIGHT = 16;
+
+	private TreeCheck() {}
+
+	public static void main(String[] args) {
+		Headless.init();
+		int checks = 0;
+		for(int t = 0; t < 60; t++) {
+			boolean factory = t % 2 == 1;
+			RandomXS128 random = new RandomXS128(t);
+			Trees trees = new Trees(factory);
+			for(int i = 20 + random.nextInt(100); i > 0; i--)
+				trees.insert(random);
+			for(int step = 0; step < 100; step++) {
+				trees.change(random);
+				trees.check(random, "tree " + t + ", step " + step);
+				checks++;
+			}
+		}
+		System.out.println("TreeCheck: " + checks + " changes match.");
+	}
+
+	/**
+	 * A regular and a virtual tree with the same nodes, identified by their value.
+	 */
+	static class Trees {
+		final boolean factory;
+		final Tree<CheckNode, Integer> tree, virtualTree;
+		final IntMap<CheckNode> nodes = new IntMap<>(), virtualNodes = new IntMap<>();
+		final IntArray ids = new IntArray();
+		final Rectangle cullingArea = new Rectangle(), virtualCullingArea = new Rectangle();
+		final BaseDrawable icon = new BaseDrawable();
+		int nextId;
+
+		Trees(boolean factory) {
+			this.factory = factory;
+			BaseDrawable plusMinus = new BaseDrawable();
+			plusMinus.setMinWidth(12);
+			plusMinus.setMinHeight(12);
+			icon.setMinWidth(10);
+			icon.setMinHeight(20);
+			tree = new Tree<>(new TreeStyle(plusMinus, plusMinus, new BaseDrawable()));
+			virtualTree = new Tree<>(new TreeStyle(plusMinus, plusMinus, new BaseDrawable()));
+			virtualTree.setVirtual(true);
+			virtualTree.setEstimatedNodeHeight(ESTIMATED_HEIGHT);
+			virtualTree.setNodeActorFactory(node -> new RowWidget(node.getValue(), factory));
+			tree.setIndentSpacing(7);
+			virtualTree.setIndentSpacing(7);
+			tree.setCullingArea(cullingArea);
+			virtualTree.setCullingArea(virtualCullingArea);
+		}
+
+		/**
+		 * Adds a node at a random place, under a random node or at the root.
+		 */
+		void insert(RandomXS128 random) {
+			int id = nextId++;
+			CheckNode node = new CheckNode(new RowWidget(id, factory));
+			CheckNode virtualNode = factory ? new CheckNode() : new CheckNode(new RowWidget(id, false));
+			node.setValue(id);
+			virtualNode.setValue(id);
+			if(!factory && id % 5 == 0) {
+				node.setIcon(icon);
+				virtualNode.setIcon(icon);
+			}
+			if(ids.size == 0 || random.nextInt(5) == 0) {
+				int index = random.nextInt(tree.getRootNodes().size + 1);
+				tree.insert(index, node);
+				virtualTree.insert(index, virtualNode);
+			} else {
+				int parentId = ids.get(random.nextInt(ids.size));
+				CheckNode parent = nodes.get(parentId);
+				int index = random.nextInt(parent.getChildren().size + 1);
+				parent.insert(index, node);
+				virtualNodes.get(parentId).insert(index, virtualNode);
+			}
+			nodes.put(id, node);
+			virtualNodes.put(id, virtualNode);
+			ids.add(id);
+		}
+
+		void change(RandomXS128 random) {
+			int op = random.nextInt(10);
+			if(op < 3 || ids.size == 0)
+				insert(random);
+			else if(op < 6) {
+				CheckNode node = nodes.get(ids.get(random.nextInt(ids.size)));
+				boolean expanded = !node.isExpanded();
+				node.setExpanded(expanded);
+				virtualNodes.get(node.getValue()).setExpanded(expanded);
+			} else if(op == 6) {
+				CheckNode node = nodes.get(ids.get(random.nextInt(ids.size)));
+				CheckNode virtualNode = virtualNodes.get(node.getValue());
+				forget(node);
+				node.remove();
+				virtualNode.remove();
+			} else if(op == 7 && random.nextInt(4) == 0) {
+				CheckNode node = nodes.get(ids.get(random.nextInt(ids.size)));
+				CheckNode virtualNode = virtualNodes.get(node.getValue());
+				for(int i = 0, n = node.getChildren().size; i < n; i++)
+					forget(node.getChildren().get(i));
+				node.clearChildren();
+				virtualNode.clearChildren();
+			}
+
+			tree.setSize(tree.getPrefWidth(), tree.getPrefHeight());
+			virtualTree.setSize(tree.getWidth(), tree.getHeight());
+			// Scrolls to a random position of the tree.
+			float y = random.nextFloat() * Math.max(0, tree.getHeight() - 200);
+			cullingArea.set(0, y, tree.getWidth(), 200);
+			virtualCullingArea.set(cullingArea);
+			tree.validate();
+			virtualTree.validate();
+			virtualTree.draw(new CountingBatch(), 1);
+		}
+
+		/**
+		 * Forgets the node and its descendants, which are removed from the trees.
+		 */
+		private void forget(CheckNode node) {
+			nodes.remove(node.getValue());
+			virtualNodes.remove(node.getValue());
+			ids.removeValue(node.getValue());
+			Array<CheckNode> children = node.getChildren();
+			for(int i = 0, n = children.size; i < n; i++)
+				forget(children.get(i));
+		}
+
+		void check(RandomXS128 random, String where) {
+			if(tree.getPrefHeight() != virtualTree.getPrefHeight())
+				throw new IllegalStateException("Preferred height differs, " + where);
+			if(!factory && tree.getPrefWidth() != virtualTree.getPrefWidth())
+				throw new IllegalStateException("Preferred width differs, " + where);
+
+			for(int i = 0; i < 20; i++) {
+				float y = random.nextFloat() * (tree.getHeight() + 20) - 10;
+				CheckNode node = tree.getNodeAt(y), virtualNode = virtualTree.getNodeAt(y);
+				Integer id = node == null ? null : node.getValue();
+				Integer virtualId = virtualNode == null ? null : virtualNode.getValue();
+				if(id == null ? virtualId != null : !id.equals(virtualId))
+					throw new IllegalStateException("Node at " + y + " differs, " + where + ": " + id + " " + virtualId);
+			}
+
+			// The rows shown by the virtual tree are where the regular tree lays them out.
+			for(Actor actor : virtualTree.getChildren()) {
+				Actor expected = nodes.get(((RowWidget)actor).id).getActor();
+				if(expected.getParent() != tree || actor.getX() != expected.getX() || actor.getY() != expected.getY()
+						|| actor.getWidth() != expected.getWidth() || actor.getHeight() != expected.getHeight()) {
+					throw new IllegalStateException("Row " + ((RowWidget)actor).id + " differs, " + where + ": " + actor + " "
+							+ expected);
+				}
+			}
+			// Every row in the culling area is shown.
+			float bottom = cullingArea.y + tree.getYSpacing(), top = cullingArea.y + cullingArea.height - tree.getYSpacing();
+			for(Actor actor : tree.getChildren()) {
+				if(actor.getY() + actor.getHeight() <= bottom || actor.getY() >= top)
+					continue;
+				Actor shown = virtualNodes.get(((RowWidget)actor).id).getActor();
+				if(shown == null || shown.getParent() != virtualTree)
+					throw new IllegalStateException("Row " + ((RowWidget)actor).id + " isn't shown, " + where);
+			}
+		}
+	}
+
+	static class CheckNode extends Tree.Node<CheckNode, Integer, Actor> {
+		CheckNode() {}
+
+		CheckNode(Actor actor) {
+			super(actor);
+		}
+	}
+
+	static class RowWidget extends Widget {
+		final int id;
+		final boolean estimated;
+
+		RowWidget(int id, boolean estimated) {
+			this.id = id;
+			this.estimated = estimated;
+		}
+
+		@Override
+		public float getPrefWidth() {
+			return estimated ? 120 : 40 + id % 37;
+		}
+
+		@Override
+		public float getPrefHeight() {
+			return estimated ? ESTIMATED_HEIGHT : 10 + id % 13;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.ui.Tree;
+import me.winter.scene2dplus.ui.Tree.TreeStyle;
+import me.winter.scene2dplus.utils.BaseDrawable;
+
+/**
+ * Checks that the nodes {@link Tree#findNode(Object)} and {@link Tree.Node#findNode(Object)} find by value are those a search
+ * of every node would find. Regular and {@link Tree#setVirtual(boolean) virtual} trees receive random node insertions,
+ * removals, moves, expansions and value changes, with few distinct values so many nodes share theirs. Removed nodes are kept
+ * and may be searched or added back with their children. After each change, a node must be found for each value exactly when
+ * the search finds one, and it must have that value and be in the tree, or be the searched node or one of its descendants.
+ * When several nodes have the value, any of them may be found. Run with
+ * {@code java -cp benchmarks.jar me.winter.scene2dplus.benchmark.TreeValueCheck}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public final class TreeValueCheck {
+	private static final int VALUES = 30;
+
+	private TreeValueCheck() {}
+
+	public static void main(String[] args) {
+		Headless.init();
+		int checks = 0;
+		for(int t = 0; t < 20; t++) {
+			RandomXS128 random = new RandomXS128(t);
+			BaseDrawable plusMinus = new BaseDrawable();
+			Tree<CheckNode, Integer> tree = new Tree<>(new TreeStyle(plusMinus, plusMinus, new BaseDrawable()));
+			tree.setVirtual(t % 2 == 1);
+			Array<CheckNode> nodes = new Array<>();
+			for(int step = 0; step < 1000; step++) {
+				change(tree, nodes, random);
+				check(tree, nodes, random, "tree " + t + ", step " + step);
+				checks++;
+			}
+		}
+		System.out.println("TreeValueCheck: " + checks + " changes match.");
+	}
+
+	private static void change(Tree<CheckNode, Integer> tree, Array<CheckNode> nodes, RandomXS128 random) {
+		int op = random.nextInt(20);
+		if(op < 6 || nodes.size == 0) {
+			CheckNode node = new CheckNode(randomValue(random));
+			node.setExpanded(random.nextBoolean());
+			add(tree, nodes, node, random);
+			nodes.add(node);
+		} else if(op < 9) {
+			// Removes a node, which keeps its children and may be searched or added back.
+			CheckNode node = nodes.random();
+			node.remove();
+			if(random.nextBoolean())
+				forget(nodes, node);
+		} else if(op < 12) {
+			// Adds back a removed node.
+			CheckNode node = nodes.random();
+			if(node.getParent() == null && !tree.getRootNodes().contains(node, true))
+				add(tree, nodes, node, random);
+		} else if(op < 16)
+			nodes.random().setValue(randomValue(random));
+		else if(op < 18) {
+			CheckNode node = nodes.random();
+			node.setExpanded(!node.isExpanded());
+		} else if(op == 18) {
+			CheckNode node = nodes.random();
+			if(random.nextBoolean()) {
+				Array<CheckNode> children = node.getChildren();
+				for(int i = 0, n = children.size; i < n; i++)
+					forget(nodes, children.get(i));
+			}
+			node.clearChildren();
+		} else if(random.nextInt(20) == 0) {
+			Array<CheckNode> roots = tree.getRootNodes();
+			for(int i = 0, n = roots.size; i < n; i++)
+				forget(nodes, roots.get(i));
+			tree.clearChildren();
+		}
+		if(nodes.size > 400) {
+			CheckNode node = nodes.random();
+			node.remove();
+			forget(nodes, node);
+		}
+		tree.layout();
+	}
+
+	/**
+	 * Adds the node at a random place, under a random node or at the root of the tree.
+	 */
+	private static void add(Tree<CheckNode, Integer> tree, Array<CheckNode> nodes, CheckNode node, RandomXS128 random) {
+		CheckNode parent = nodes.size == 0 || random.nextInt(4) == 0 ? null : nodes.random();
+		if(parent == null || parent == node || parent.isDescendantOf(node))
+			tree.insert(random.nextInt(tree.getRootNodes().size + 1), node);
+		else
+			parent.insert(random.nextInt(parent.getChildren().size + 1), node);
+	}
+
+	/**
+	 * Forgets the node and its descendants, which are no longer changed or searched.
+	 */
+	private static void forget(Array<CheckNode> nodes, CheckNode node) {
+		nodes.removeValue(node, true);
+		Array<CheckNode> children = node.getChildren();
+		for(int i = 0, n = children.size; i < n; i++)
+			forget(nodes, children.get(i));
+	}
+
+	private static void check(Tree<CheckNode, Integer> tree, Array<CheckNode> nodes, RandomXS128 random, String where) {
+		Array<CheckNode> roots = tree.getRootNodes();
+		for(int value = 0; value < VALUES; value++) {
+			CheckNode found = tree.findNode(value);
+			boolean expected = false;
+			for(int i = 0, n = roots.size; i < n && !expected; i++)
+				expected = search(roots.get(i), value);
+			if(found == null ? expected : !expected || !hasValue(found, value) || !inTree(tree, found))
+				throw new IllegalStateException("Tree node with value " + value + " differs, " + where + ": " + found);
+		}
+		for(int i = 0; i < 5 && nodes.size > 0; i++) {
+			CheckNode node = nodes.random();
+			for(int value = 0; value < VALUES; value++) {
+				CheckNode found = node.findNode(value);
+				boolean expected = search(node, value);
+				if(found == null ? expected : !expected || !hasValue(found, value) || !found.isDescendantOf(node))
+					throw new IllegalStateException("Node with value " + value + " differs, " + where + ": " + found);
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the node or one of its descendants has the value, searching all of them.
+	 */
+	private static boolean search(CheckNode node, int value) {
+		if(hasValue(node, value))
+			return true;
+		Array<CheckNode> children = node.getChildren();
+		for(int i = 0, n = children.size; i < n; i++)
+			if(search(children.get(i), value))
+				return true;
+		return false;
+	}
+
+	private static boolean hasValue(CheckNode node, int value) {
+		return node.getValue() != null && node.getValue() == value;
+	}
+
+	private static boolean inTree(Tree<CheckNode, Integer> tree, CheckNode node) {
+		while(node.getParent() != null)
+			node = node.getParent();
+		return tree.getRootNodes().contains(node, true);
+	}
+
+	/**
+	 * Returns one of the few values, or sometimes null.
+	 */
+	private static Integer randomValue(RandomXS128 random) {
+		return random.nextInt(10) == 0 ? null : random.nextInt(VALUES);
+	}
+
+	static class CheckNode extends Tree.Node<CheckNode, Integer, Actor> {
+		CheckNode(Integer value) {
+			super(new Actor());
+			setValue(value);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package me.winter.scene2dplus.benchmark;
+
+import com.badlogic.gdx.math.Interpolation;
+import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.Stage;
+import me.winter.scene2dplus.actions.Actions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Stage#act(float)} with {@link #tweenCount} tweens in progress, spread over move, scale, rotate and alpha
+ * tweens, acted by their actors or by the stage's {@link Stage#setTweenScheduling(boolean) tween scheduler}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TweenBenchmark {
+	@Param({ "1000", "50000" })
+	public int tweenCount;
+
+	@Param({ "false", "true" })
+	public boolean tweenScheduling;
+
+	private Stage stage;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		stage = Headless.createStage(new CountingBatch());
+		stage.setTweenScheduling(tweenScheduling);
+		for(int i = 0; i < tweenCount; i++) {
+			Actor actor = new Actor();
+			actor.setBounds(i % 1000, i / 1000, 10, 10);
+			stage.addActor(actor);
+			// Long enough to never complete while measured.
+			switch(i & 3) {
+				case 0:
+					actor.addAction(Actions.moveTo(500, 500, 1e6f, Interpolation.smooth));
+					break;
+				case 1:
+					actor.addAction(Actions.scaleTo(2, 2, 1e6f));
+					break;
+				case 2:
+					actor.addAction(Actions.rotateBy(360, 1e6f));
+					break;
+				case 3:
+					actor.addAction(Actions.alpha(0, 1e6f));
+					break;
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		stage.dispose();
+	}
+
+	@Benchmark
+	public Stage act() {
+		stage.act(1 / 60f);
+		return stage;
+	}
+}
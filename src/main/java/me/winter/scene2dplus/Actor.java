@@ -22,10 +22,12 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.*;
 import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
 import me.winter.scene2dplus.utils.ActorGestureListener;
 import me.winter.scene2dplus.utils.ClickListener;
 import me.winter.scene2dplus.utils.ScissorStack;
@@ -54,12 +56,41 @@ import static com.badlogic.gdx.utils.Align.*;
  * @author Nathan Sweet
  */
 public class Actor {
+	/**
+	 * Ascendants of the targets of the events being fired by actors not in a stage, see {@link #fire(Event)}.
+	 */
+	private static final Array<Group> eventAscendants = new Array<>(true, 16, Group.class);
+	/**
+	 * Whether the actor classes override {@link #act(float)}, see {@link #setContinuousAct(boolean)}.
+	 */
+	private static final ObjectMap<Class<?>, Boolean> actOverrides = new ObjectMap<>();
+
 	private @Null Stage stage;
 	@Null
 	Group parent;
 	private final DelayedRemovalArray<EventListener> listeners = new DelayedRemovalArray<>(0);
 	private final DelayedRemovalArray<EventListener> captureListeners = new DelayedRemovalArray<>(0);
+	/**
+	 * Union of the {@link InputListener#handles(InputEvent.Type) input event types handled} by the listeners, computed for the
+	 * listener count stored alongside so direct changes to the listener arrays are noticed.
+	 */
+	private int listenerInputTypes, captureListenerInputTypes;
+	private int listenerInputTypesSize = -1, captureListenerInputTypesSize = -1;
 	private final Array<Action> actions = new Array<>(0);
+	/**
+	 * The scheduler of the stage acting tweens of this actor and their number.
+	 */
+	@Null
+	TweenScheduler tweenScheduler;
+	int tweenCount;
+	private boolean continuousAct = overridesAct(getClass());
+	/**
+	 * True if this actor has actions or acts continuously, and the number of such actors in this actor's subtree, so idle subtrees
+	 * aren't {@link Group#act(float) acted}.
+	 */
+	boolean acting = continuousAct;
+	int actingCount = acting ? 1 : 0;
+	float timeScale = 1;
 
 	private @Null String name;
 	private Touchable touchable = Touchable.enabled;
@@ -89,7 +120,8 @@ public class Actor {
 	/**
 	 * Updates the actor based on time. Typically this is called each frame by {@link Stage#act(float)}.
 	 * <p>
-	 * The default implementation calls {@link Action#act(float)} on each action and removes actions that are complete.
+	 * The default implementation calls {@link Action#act(float)} on each action and removes actions that are complete. The parent
+	 * only calls this method while the actor has actions, unless it {@link #setContinuousAct(boolean) acts continuously}.
 	 *
 	 * @param delta Time in seconds since the last frame.
 	 */
@@ -97,6 +129,8 @@ public class Actor {
 		Array<Action> actions = this.actions;
 		if(actions.size == 0)
 			return;
+		if(parent != null)
+			parent.invalidateRenderCache();
 		if(stage != null && stage.getActionsRequestRendering())
 			Gdx.graphics.requestRendering();
 		try {
@@ -116,6 +150,7 @@ public class Actor {
 			String context = toString();
 			throw new RuntimeException("Actor: " + context.substring(0, Math.min(context.length(), 128)), ex);
 		}
+		updateActing();
 	}
 
 	/**
@@ -138,21 +173,24 @@ public class Actor {
 			event.setStage(getStage());
 		event.setTarget(this);
 
-		// Collect ascendants so event propagation is unaffected by hierarchy changes.
-		//noinspection unchecked
-		Array<Group> ascendants = Pools.obtain(Array.class);
-		Group parent = this.parent;
-		while(parent != null) {
+		// Events other than mouse moves usually change how the target is drawn (over, pressed, checked, typed text, etc).
+		if(!(event instanceof InputEvent) || ((InputEvent)event).getType() != InputEvent.Type.mouseMoved)
+			invalidateRenderCache();
+
+		// Collect ascendants so event propagation is unaffected by hierarchy changes. They are pushed on a stack shared by the
+		// stage, events fired by listeners push their own ascendants above and pop them before returning.
+		Stage stage = event.getStage();
+		Array<Group> ascendants = stage != null ? stage.eventAscendants : eventAscendants;
+		int start = ascendants.size;
+		for(Group parent = this.parent; parent != null; parent = parent.parent)
 			ascendants.add(parent);
-			parent = parent.parent;
-		}
+		int end = ascendants.size;
 
 		try {
 			// Notify ascendants' capture listeners, starting at the root. Ascendants may stop an event before children receive it.
-			Object[] ascendantsArray = ascendants.items;
-			for(int i = ascendants.size - 1; i >= 0; i--) {
-				Group currentTarget = (Group)ascendantsArray[i];
-				currentTarget.notify(event, true);
+			// Items are read again after each notification since events fired by listeners may grow the stack.
+			for(int i = end - 1; i >= start; i--) {
+				ascendants.items[i].notify(event, true);
 				if(event.isStopped())
 					return event.isCancelled();
 			}
@@ -170,16 +208,15 @@ public class Actor {
 				return event.isCancelled();
 
 			// Notify ascendants' actor listeners, starting at the target. Children may stop an event before ascendants receive it.
-			for(int i = 0, n = ascendants.size; i < n; i++) {
-				((Group)ascendantsArray[i]).notify(event, false);
+			for(int i = start; i < end; i++) {
+				ascendants.items[i].notify(event, false);
 				if(event.isStopped())
 					return event.isCancelled();
 			}
 
 			return event.isCancelled();
 		} finally {
-			ascendants.clear();
-			Pools.free(ascendants);
+			ascendants.truncate(start);
 		}
 	}
 
@@ -200,25 +237,62 @@ public class Actor {
 		if(listeners.size == 0)
 			return event.isCancelled();
 
+		// Input events only visit the listeners handling their type, mouse moves and enter/exit skip click listeners.
+		int inputType = 0;
+		if(event instanceof InputEvent) {
+			inputType = 1 << ((InputEvent)event).getType().ordinal();
+			if((inputTypes(capture) & inputType) == 0)
+				return event.isCancelled();
+		}
+
 		event.setListenerActor(this);
 		event.setCapture(capture);
 		if(event.getStage() == null)
 			event.setStage(stage);
 
+		listeners.begin();
 		try {
-			listeners.begin();
-			for(int i = 0, n = listeners.size; i < n; i++)
-				if(listeners.get(i).handle(event))
+			for(int i = 0, n = listeners.size; i < n; i++) {
+				EventListener listener = listeners.get(i);
+				if(inputType != 0 && listener instanceof InputListener && (((InputListener)listener).handledTypes & inputType) == 0)
+					continue;
+				if(listener.handle(event))
 					event.handle();
-			listeners.end();
+			}
 		} catch(RuntimeException ex) {
 			String context = toString();
 			throw new RuntimeException("Actor: " + context.substring(0, Math.min(context.length(), 128)), ex);
+		} finally {
+			listeners.end();
 		}
 
 		return event.isCancelled();
 	}
 
+	/**
+	 * Returns the union of the input event types handled by the listeners or capture listeners, as a mask of
+	 * {@link InputEvent.Type} ordinals.
+	 */
+	private int inputTypes(boolean capture) {
+		DelayedRemovalArray<EventListener> listeners = capture ? captureListeners : this.listeners;
+		if(listeners.size == (capture ? captureListenerInputTypesSize : listenerInputTypesSize))
+			return capture ? captureListenerInputTypes : listenerInputTypes;
+
+		int types = 0;
+		for(int i = 0, n = listeners.size; i < n; i++) {
+			EventListener listener = listeners.get(i);
+			types |= listener instanceof InputListener ? ((InputListener)listener).handledTypes : -1;
+		}
+		if(capture) {
+			captureListenerInputTypes = types;
+			captureListenerInputTypesSize = listeners.size;
+		} else {
+			listenerInputTypes = types;
+			listenerInputTypesSize = listeners.size;
+		}
+		return types;
+	}
+
 	/**
 	 * Returns the deepest {@link #isVisible() visible} (and optionally, {@link #getTouchable() touchable}) actor that contains
 	 * the specified point, or null if no actor was hit. The point is specified in the actor's local coordinate system (0,0 is the
@@ -262,6 +336,7 @@ public class Actor {
 			throw new IllegalArgumentException("listener cannot be null.");
 		if(!listeners.contains(listener, true)) {
 			listeners.add(listener);
+			listenerInputTypesSize = -1;
 			return true;
 		}
 		return false;
@@ -270,6 +345,7 @@ public class Actor {
 	public boolean removeListener(EventListener listener) {
 		if(listener == null)
 			throw new IllegalArgumentException("listener cannot be null.");
+		listenerInputTypesSize = -1;
 		return listeners.removeValue(listener, true);
 	}
 
@@ -287,12 +363,14 @@ public class Actor {
 			throw new IllegalArgumentException("listener cannot be null.");
 		if(!captureListeners.contains(listener, true))
 			captureListeners.add(listener);
+		captureListenerInputTypesSize = -1;
 		return true;
 	}
 
 	public boolean removeCaptureListener(EventListener listener) {
 		if(listener == null)
 			throw new IllegalArgumentException("listener cannot be null.");
+		captureListenerInputTypesSize = -1;
 		return captureListeners.removeValue(listener, true);
 	}
 
@@ -300,9 +378,16 @@ public class Actor {
 		return captureListeners;
 	}
 
+	/**
+	 * Adds the action, or gives it to the stage's {@link Stage#getTweenScheduler() tween scheduler} if it can act it.
+	 */
 	public void addAction(Action action) {
-		action.setActor(this);
-		actions.add(action);
+		TweenScheduler scheduler = stage != null ? stage.getTweenScheduler() : null;
+		if(scheduler == null || !scheduler.add(this, action)) {
+			action.setActor(this);
+			actions.add(action);
+			updateActing();
+		}
 
 		if(stage != null && stage.getActionsRequestRendering())
 			Gdx.graphics.requestRendering();
@@ -312,28 +397,98 @@ public class Actor {
 	 * @param action May be null, in which case nothing is done.
 	 */
 	public void removeAction(@Null Action action) {
-		if(action != null && actions.removeValue(action, true))
+		if(action != null && actions.removeValue(action, true)) {
 			action.setActor(null);
+			updateActing();
+		}
 	}
 
+	/**
+	 * Returns the actions of this actor. Actions added to the returned array directly aren't acted until
+	 * {@link #addAction(Action)} is called or the actor {@link #setContinuousAct(boolean) acts continuously}.
+	 */
 	public Array<Action> getActions() {
 		return actions;
 	}
 
 	/**
-	 * Returns true if the actor has one or more actions.
+	 * Returns true if the actor has one or more actions, including tweens acted by the stage's
+	 * {@link Stage#getTweenScheduler() tween scheduler}.
 	 */
 	public boolean hasActions() {
-		return actions.size > 0;
+		return actions.size > 0 || tweenCount > 0;
 	}
 
 	/**
-	 * Removes all actions on this actor.
+	 * Removes all actions on this actor, including tweens acted by the stage's {@link Stage#getTweenScheduler() tween scheduler}.
 	 */
 	public void clearActions() {
 		for(int i = actions.size - 1; i >= 0; i--)
 			actions.get(i).setActor(null);
 		actions.clear();
+		if(tweenScheduler != null)
+			tweenScheduler.cancel(this);
+		updateActing();
+	}
+
+	/**
+	 * If true, {@link #act(float)} is called every frame. Otherwise it is only called while the actor has actions, which lets
+	 * groups skip the subtrees with nothing to act. Widgets overriding {@link #act(float)} to animate may disable it while they
+	 * have nothing to animate. Default is true if the actor's class overrides {@link #act(float)}, false otherwise.
+	 */
+	public void setContinuousAct(boolean continuousAct) {
+		this.continuousAct = continuousAct;
+		updateActing();
+	}
+
+	public boolean isContinuousAct() {
+		return continuousAct;
+	}
+
+	/**
+	 * Sets the factor by which the delta given to this actor's {@link #act(float)} is multiplied, which scales the time of its
+	 * actions and of its descendants, including their tweens acted by the stage's {@link Stage#getTweenScheduler() tween scheduler}.
+	 * For example, 0.5 plays the animations of a subtree at half speed and 0 pauses them. Default is 1.
+	 *
+	 * @see me.winter.scene2dplus.actions.TimeScaleAction
+	 */
+	public void setTimeScale(float timeScale) {
+		if(stage != null && (this.timeScale != 1) != (timeScale != 1))
+			stage.timeScaledActors += timeScale != 1 ? 1 : -1;
+		this.timeScale = timeScale;
+	}
+
+	public float getTimeScale() {
+		return timeScale;
+	}
+
+	/**
+	 * Updates whether this actor needs to act and the count of acting actors of its ascendants. Called when the actions change.
+	 */
+	void updateActing() {
+		boolean acting = continuousAct || actions.size > 0;
+		if(acting == this.acting)
+			return;
+		this.acting = acting;
+		int amount = acting ? 1 : -1;
+		for(Actor actor = this; actor != null; actor = actor.parent)
+			actor.actingCount += amount;
+	}
+
+	private static boolean overridesAct(Class<?> type) {
+		synchronized(actOverrides) {
+			Boolean overrides = actOverrides.get(type);
+			if(overrides == null) {
+				try {
+					Class<?> declaring = ClassReflection.getMethod(type, "act", float.class).getDeclaringClass();
+					overrides = declaring != Actor.class && declaring != Group.class;
+				} catch(ReflectionException ex) {
+					overrides = true;
+				}
+				actOverrides.put(type, overrides);
+			}
+			return overrides;
+		}
 	}
 
 	/**
@@ -342,6 +497,8 @@ public class Actor {
 	public void clearListeners() {
 		listeners.clear();
 		captureListeners.clear();
+		listenerInputTypesSize = -1;
+		captureListenerInputTypesSize = -1;
 	}
 
 	/**
@@ -368,6 +525,25 @@ public class Actor {
 		Stage prev = this.stage;
 		this.stage = stage;
 
+		if(prev != null)
+			prev.hitVersion++;
+		if(stage != null)
+			stage.hitVersion++;
+
+		if(timeScale != 1) {
+			if(prev != null)
+				prev.timeScaledActors--;
+			if(stage != null)
+				stage.timeScaledActors++;
+		}
+
+		// Tweens still scheduled by the stage the actor was removed from must be given back to be acted by the new stage.
+		if(stage != null && tweenScheduler != null && tweenScheduler.stage != stage)
+			tweenScheduler.giveBack(this);
+
+		if(stage != null && actions.size > 0 && stage.getTweenScheduler() != null)
+			stage.getTweenScheduler().addActions(this);
+
 		if(prev != null)
 			prev.actorRemoved(this);
 
@@ -441,6 +617,13 @@ public class Actor {
 	 * @param parent May be null if the actor has been removed from the parent.
 	 */
 	protected void setParent(@Null Group parent) {
+		int actingCount = this.actingCount;
+		if(actingCount > 0) {
+			for(Actor actor = this.parent; actor != null; actor = actor.parent)
+				actor.actingCount -= actingCount;
+			for(Actor actor = parent; actor != null; actor = actor.parent)
+				actor.actingCount += actingCount;
+		}
 		this.parent = parent;
 	}
 
@@ -459,6 +642,8 @@ public class Actor {
 	 * Determines how touch events are distributed to this actor. Default is {@link Touchable#enabled}.
 	 */
 	public void setTouchable(Touchable touchable) {
+		if(this.touchable != touchable)
+			hitChanged();
 		this.touchable = touchable;
 	}
 
@@ -470,6 +655,11 @@ public class Actor {
 	 * If false, the actor will not be drawn and will not receive touch events. Default is true.
 	 */
 	public void setVisible(boolean visible) {
+		if(this.visible != visible) {
+			if(parent != null)
+				parent.invalidateRenderCache();
+			hitChanged();
+		}
 		this.visible = visible;
 	}
 
@@ -576,6 +766,7 @@ public class Actor {
 	public void setX(float x) {
 		if(this.x != x) {
 			this.x = x;
+			geometryChanged();
 			positionChanged();
 		}
 	}
@@ -593,6 +784,7 @@ public class Actor {
 
 		if(this.x != x) {
 			this.x = x;
+			geometryChanged();
 			positionChanged();
 		}
 	}
@@ -607,6 +799,7 @@ public class Actor {
 	public void setY(float y) {
 		if(this.y != y) {
 			this.y = y;
+			geometryChanged();
 			positionChanged();
 		}
 	}
@@ -624,6 +817,7 @@ public class Actor {
 
 		if(this.y != y) {
 			this.y = y;
+			geometryChanged();
 			positionChanged();
 		}
 	}
@@ -647,6 +841,7 @@ public class Actor {
 		if(this.x != x || this.y != y) {
 			this.x = x;
 			this.y = y;
+			geometryChanged();
 			positionChanged();
 		}
 	}
@@ -669,6 +864,7 @@ public class Actor {
 		if(this.x != x || this.y != y) {
 			this.x = x;
 			this.y = y;
+			geometryChanged();
 			positionChanged();
 		}
 	}
@@ -680,6 +876,7 @@ public class Actor {
 		if(x != 0 || y != 0) {
 			this.x += x;
 			this.y += y;
+			geometryChanged();
 			positionChanged();
 		}
 	}
@@ -691,6 +888,7 @@ public class Actor {
 	public void setWidth(float width) {
 		if(this.width != width) {
 			this.width = width;
+			geometryChanged();
 			sizeChanged();
 		}
 	}
@@ -702,6 +900,7 @@ public class Actor {
 	public void setHeight(float height) {
 		if(this.height != height) {
 			this.height = height;
+			geometryChanged();
 			sizeChanged();
 		}
 	}
@@ -720,6 +919,53 @@ public class Actor {
 		return x + width;
 	}
 
+	/**
+	 * Called before {@link #positionChanged()}, {@link #sizeChanged()}, {@link #scaleChanged()} and {@link #rotationChanged()},
+	 * and when the origin changes, so the parent's {@link Group#setHitGrid(float) hit grid} and the ascendants'
+	 * {@link Group#setRenderCache(boolean) render caches} stay up to date even when those are overridden.
+	 */
+	void geometryChanged() {
+		if(stage != null)
+			stage.hitVersion++;
+		Group parent = this.parent;
+		if(parent == null)
+			return;
+		if(parent.hitGrid != null)
+			parent.hitGrid.update(this);
+		parent.invalidateRenderCache();
+	}
+
+	/**
+	 * Discards the recording of this actor and of every ascendant {@link Group#setRenderCache(boolean) caching its rendering},
+	 * so they are drawn again on the next frame. Must be called when the actor's appearance changes in a way that is not
+	 * detected automatically. Returns immediately when the actor's stage has no group {@link Group#cachesRendering() caching
+	 * its rendering}.
+	 *
+	 * @see Group#childrenRenderChanged()
+	 */
+	public void invalidateRenderCache() {
+		Stage stage = this.stage;
+		if(stage != null && stage.renderCaches == 0)
+			return;
+		Actor actor = this;
+		do {
+			if(actor instanceof Group)
+				((Group)actor).childrenRenderChanged();
+			actor = actor.parent;
+		} while(actor != null);
+	}
+
+	/**
+	 * Notifies the stage that this actor may hit differently, so the actors under the pointers and the mouse are found again by
+	 * the next {@link Stage#act(float)} to fire enter and exit events. Called when the bounds, origin, scale, rotation,
+	 * visibility, touchability or z-index of an actor change, when an actor is added or removed and when a widget is laid out.
+	 * Must be called when an override of {@link #hit(float, float, boolean)} depends on other state.
+	 */
+	public void hitChanged() {
+		if(stage != null)
+			stage.hitVersion++;
+	}
+
 	/**
 	 * Called when the actor's position has been changed.
 	 */
@@ -747,6 +993,7 @@ public class Actor {
 		if(this.width != width || this.height != height) {
 			this.width = width;
 			this.height = height;
+			geometryChanged();
 			sizeChanged();
 		}
 	}
@@ -758,6 +1005,7 @@ public class Actor {
 		if(size != 0) {
 			width += size;
 			height += size;
+			geometryChanged();
 			sizeChanged();
 		}
 	}
@@ -769,6 +1017,7 @@ public class Actor {
 		if(width != 0 || height != 0) {
 			this.width += width;
 			this.height += height;
+			geometryChanged();
 			sizeChanged();
 		}
 	}
@@ -780,11 +1029,13 @@ public class Actor {
 		if(this.x != x || this.y != y) {
 			this.x = x;
 			this.y = y;
+			geometryChanged();
 			positionChanged();
 		}
 		if(this.width != width || this.height != height) {
 			this.width = width;
 			this.height = height;
+			geometryChanged();
 			sizeChanged();
 		}
 	}
@@ -794,7 +1045,10 @@ public class Actor {
 	}
 
 	public void setOriginX(float originX) {
-		this.originX = originX;
+		if(this.originX != originX) {
+			this.originX = originX;
+			geometryChanged();
+		}
 	}
 
 	public float getOriginY() {
@@ -802,21 +1056,28 @@ public class Actor {
 	}
 
 	public void setOriginY(float originY) {
-		this.originY = originY;
+		if(this.originY != originY) {
+			this.originY = originY;
+			geometryChanged();
+		}
 	}
 
 	/**
 	 * Sets the origin position which is relative to the actor's bottom left corner.
 	 */
 	public void setOrigin(float originX, float originY) {
-		this.originX = originX;
-		this.originY = originY;
+		if(this.originX != originX || this.originY != originY) {
+			this.originX = originX;
+			this.originY = originY;
+			geometryChanged();
+		}
 	}
 
 	/**
 	 * Sets the origin position to the specified {@link Align alignment}.
 	 */
 	public void setOrigin(int alignment) {
+		float originX, originY;
 		if((alignment & left) != 0)
 			originX = 0;
 		else if((alignment & right) != 0)
@@ -830,6 +1091,7 @@ public class Actor {
 			originY = height;
 		else
 			originY = height / 2;
+		setOrigin(originX, originY);
 	}
 
 	public float getScaleX() {
@@ -839,6 +1101,7 @@ public class Actor {
 	public void setScaleX(float scaleX) {
 		if(this.scaleX != scaleX) {
 			this.scaleX = scaleX;
+			geometryChanged();
 			scaleChanged();
 		}
 	}
@@ -850,6 +1113,7 @@ public class Actor {
 	public void setScaleY(float scaleY) {
 		if(this.scaleY != scaleY) {
 			this.scaleY = scaleY;
+			geometryChanged();
 			scaleChanged();
 		}
 	}
@@ -861,6 +1125,7 @@ public class Actor {
 		if(this.scaleX != scaleXY || this.scaleY != scaleXY) {
 			this.scaleX = scaleXY;
 			this.scaleY = scaleXY;
+			geometryChanged();
 			scaleChanged();
 		}
 	}
@@ -872,6 +1137,7 @@ public class Actor {
 		if(this.scaleX != scaleX || this.scaleY != scaleY) {
 			this.scaleX = scaleX;
 			this.scaleY = scaleY;
+			geometryChanged();
 			scaleChanged();
 		}
 	}
@@ -883,6 +1149,7 @@ public class Actor {
 		if(scale != 0) {
 			scaleX += scale;
 			scaleY += scale;
+			geometryChanged();
 			scaleChanged();
 		}
 	}
@@ -894,6 +1161,7 @@ public class Actor {
 		if(scaleX != 0 || scaleY != 0) {
 			this.scaleX += scaleX;
 			this.scaleY += scaleY;
+			geometryChanged();
 			scaleChanged();
 		}
 	}
@@ -905,6 +1173,7 @@ public class Actor {
 	public void setRotation(float degrees) {
 		if(this.rotation != degrees) {
 			this.rotation = degrees;
+			geometryChanged();
 			rotationChanged();
 		}
 	}
@@ -915,16 +1184,21 @@ public class Actor {
 	public void rotateBy(float amountInDegrees) {
 		if(amountInDegrees != 0) {
 			rotation = (rotation + amountInDegrees) % 360;
+			geometryChanged();
 			rotationChanged();
 		}
 	}
 
 	public void setColor(Color color) {
 		this.color.set(color);
+		if(parent != null)
+			parent.invalidateRenderCache();
 	}
 
 	public void setColor(float r, float g, float b, float a) {
 		color.set(r, g, b, a);
+		if(parent != null)
+			parent.invalidateRenderCache();
 	}
 
 	/**
@@ -988,6 +1262,10 @@ public class Actor {
 		if(!children.removeValue(this, true))
 			return false;
 		children.insert(index, this);
+		if(parent.hitGrid != null)
+			parent.hitGrid.orderChanged();
+		parent.invalidateRenderCache();
+		hitChanged();
 		return true;
 	}
 
@@ -1017,6 +1295,7 @@ public class Actor {
 	 *
 	 * @return false if the clipping area is zero and no drawing should occur.
 	 * @see ScissorStack
+	 * @see Stage#getClipArea()
 	 */
 	public boolean clipBegin(float x, float y, float width, float height) {
 		if(width <= 0 || height <= 0)
@@ -1031,8 +1310,23 @@ public class Actor {
 		tableBounds.height = height;
 		Rectangle scissorBounds = Pools.obtain(Rectangle.class);
 		stage.calculateScissors(tableBounds, scissorBounds);
-		if(ScissorStack.pushScissors(scissorBounds))
+		if(ScissorStack.pushScissors(scissorBounds)) {
+			// The clip area is the bounding box of the clipped rectangle in stage coordinates.
+			float[] transform = stage.getDrawTransform().val;
+			float m00 = transform[Matrix4.M00], m01 = transform[Matrix4.M01], m02 = transform[Matrix4.M03];
+			float m10 = transform[Matrix4.M10], m11 = transform[Matrix4.M11], m12 = transform[Matrix4.M13];
+			float x2 = x + width, y2 = y + height;
+			float ax = m00 * x + m01 * y + m02, ay = m10 * x + m11 * y + m12;
+			float bx = m00 * x2 + m01 * y + m02, by = m10 * x2 + m11 * y + m12;
+			float cx = m00 * x2 + m01 * y2 + m02, cy = m10 * x2 + m11 * y2 + m12;
+			float dx = m00 * x + m01 * y2 + m02, dy = m10 * x + m11 * y2 + m12;
+			float left = Math.min(Math.min(ax, bx), Math.min(cx, dx));
+			float bottom = Math.min(Math.min(ay, by), Math.min(cy, dy));
+			tableBounds.set(left, bottom, Math.max(Math.max(ax, bx), Math.max(cx, dx)) - left,
+					Math.max(Math.max(ay, by), Math.max(cy, dy)) - bottom);
+			stage.pushClipArea(tableBounds);
 			return true;
+		}
 		Pools.free(scissorBounds);
 		return false;
 	}
@@ -1042,6 +1336,8 @@ public class Actor {
 	 */
 	public void clipEnd() {
 		Pools.free(ScissorStack.popScissors());
+		if(stage != null)
+			stage.popClipArea();
 	}
 
 	/**
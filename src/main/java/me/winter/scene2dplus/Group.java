@@ -16,9 +16,11 @@
 
 package me.winter.scene2dplus;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
@@ -26,6 +28,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.SnapshotArray;
 import me.winter.scene2dplus.utils.Cullable;
+import me.winter.scene2dplus.utils.TransformBatch;
 
 /**
  * 2D scene graph node that may contain other actors.
@@ -38,19 +41,39 @@ import me.winter.scene2dplus.utils.Cullable;
  */
 public class Group extends Actor implements Cullable {
 	private static final Vector2 tmp = new Vector2();
+	private static final Affine2 tmpAffine = new Affine2();
 
 	final SnapshotArray<Actor> children = new SnapshotArray<>(true, 4, Actor.class);
 	private final Affine2 worldTransform = new Affine2();
 	private final Matrix4 computedTransform = new Matrix4();
 	private final Matrix4 oldTransform = new Matrix4();
+	private int worldTransformVersion;
+	private boolean worldTransformCached;
+	private @Null Group cachedParentGroup;
+	private int cachedParentVersion;
+	private float cachedX, cachedY, cachedOriginX, cachedOriginY, cachedRotation, cachedScaleX, cachedScaleY;
 	boolean transform = true;
 	private @Null Rectangle cullingArea;
+	private boolean clipCulling = true;
+	@Null
+	HitGrid hitGrid;
+	@Null
+	RenderCache renderCache;
 
+	/**
+	 * Acts this group and the children which have actions or {@link #setContinuousAct(boolean) act continuously}, or have such
+	 * descendants, with the delta multiplied by their {@link #setTimeScale(float) time scale}.
+	 */
 	public void act(float delta) {
 		super.act(delta);
+		if(actingCount == (acting ? 1 : 0))
+			return; // No descendant to act.
 		Actor[] actors = children.begin();
-		for(int i = 0, n = children.size; i < n; i++)
-			actors[i].act(delta);
+		for(int i = 0, n = children.size; i < n; i++) {
+			Actor child = actors[i];
+			if(child.actingCount > 0)
+				child.act(delta * child.timeScale);
+		}
 		children.end();
 	}
 
@@ -70,14 +93,88 @@ public class Group extends Actor implements Cullable {
 	 * Draws all children. {@link #applyTransform(Batch, Matrix4)} should be called before and {@link #resetTransform(Batch)}
 	 * after this method if {@link #setTransform(boolean) transform} is true. If {@link #setTransform(boolean) transform} is false
 	 * these methods don't need to be called, children positions are temporarily offset by the group position when drawn. This
-	 * method avoids drawing children completely outside the {@link #setCullingArea(Rectangle) culling area}, if set.
+	 * method avoids drawing children completely outside the {@link #setCullingArea(Rectangle) culling area}, if set, and outside
+	 * the stage's {@link Stage#getClipArea() clip area} if {@link #setClipCulling(boolean) clip culling} is enabled.
 	 */
 	protected void drawChildren(Batch batch, float parentAlpha) {
+		if(renderCache != null && drawRenderCache(batch, parentAlpha))
+			return;
 		parentAlpha *= this.color.a;
 		SnapshotArray<Actor> children = this.children;
 		Actor[] actors = children.begin();
 		Rectangle cullingArea = this.cullingArea;
-		if(cullingArea != null) {
+		Stage stage = getStage();
+		Rectangle clipArea = clipCulling && stage != null && children.size > 0 ? stage.getClipArea() : null;
+		if(clipArea != null) {
+			// Draw children only if inside the clip area, mapped to the children's coordinates, and the culling area. Groups are
+			// not culled by the clip area: their children may be outside of their bounds and are tested when drawn.
+			// Without transform, the batch coordinates are offset by x and y.
+			float offsetX = transform ? 0 : this.x, offsetY = transform ? 0 : this.y;
+			float cullLeft = 0, cullRight = 0, cullBottom = 0, cullTop = 0;
+			int mapped = 0; // 1 once the clip area is mapped, -1 if it can't be.
+			if(!transform) {
+				this.x = 0;
+				this.y = 0;
+			}
+			for(int i = 0, n = children.size; i < n; i++) {
+				Actor child = actors[i];
+				if(!child.isVisible())
+					continue;
+				if(!(child instanceof Group) && mapped == 0) {
+					// The clip area is only mapped once a child must be tested against it.
+					if(tmpAffine.set(batch.getTransformMatrix()).det() != 0) {
+						Affine2 toLocal = tmpAffine.inv();
+						float x = clipArea.x, y = clipArea.y, x2 = x + clipArea.width, y2 = y + clipArea.height;
+						float ax = toLocal.m00 * x + toLocal.m01 * y + toLocal.m02;
+						float ay = toLocal.m10 * x + toLocal.m11 * y + toLocal.m12;
+						float bx = toLocal.m00 * x2 + toLocal.m01 * y + toLocal.m02;
+						float by = toLocal.m10 * x2 + toLocal.m11 * y + toLocal.m12;
+						float cx = toLocal.m00 * x2 + toLocal.m01 * y2 + toLocal.m02;
+						float cy = toLocal.m10 * x2 + toLocal.m11 * y2 + toLocal.m12;
+						float dx = toLocal.m00 * x + toLocal.m01 * y2 + toLocal.m02;
+						float dy = toLocal.m10 * x + toLocal.m11 * y2 + toLocal.m12;
+						cullLeft = Math.min(Math.min(ax, bx), Math.min(cx, dx)) - offsetX;
+						cullRight = Math.max(Math.max(ax, bx), Math.max(cx, dx)) - offsetX;
+						cullBottom = Math.min(Math.min(ay, by), Math.min(cy, dy)) - offsetY;
+						cullTop = Math.max(Math.max(ay, by), Math.max(cy, dy)) - offsetY;
+						if(cullingArea != null) {
+							cullLeft = Math.max(cullLeft, cullingArea.x);
+							cullRight = Math.min(cullRight, cullingArea.x + cullingArea.width);
+							cullBottom = Math.max(cullBottom, cullingArea.y);
+							cullTop = Math.min(cullTop, cullingArea.y + cullingArea.height);
+						}
+						mapped = 1;
+					} else if(cullingArea != null) {
+						cullLeft = cullingArea.x;
+						cullRight = cullLeft + cullingArea.width;
+						cullBottom = cullingArea.y;
+						cullTop = cullBottom + cullingArea.height;
+						mapped = 1;
+					} else
+						mapped = -1;
+				}
+				if(child instanceof Group) {
+					if(cullingArea != null && !overlaps(child, cullingArea.x, cullingArea.y, cullingArea.x + cullingArea.width,
+							cullingArea.y + cullingArea.height))
+						continue;
+				} else if(mapped == 1 && !overlaps(child, cullLeft, cullBottom, cullRight, cullTop))
+					continue;
+				if(transform)
+					child.draw(batch, parentAlpha);
+				else {
+					float childX = child.x, childY = child.y;
+					child.x = childX + offsetX;
+					child.y = childY + offsetY;
+					child.draw(batch, parentAlpha);
+					child.x = childX;
+					child.y = childY;
+				}
+			}
+			if(!transform) {
+				this.x = offsetX;
+				this.y = offsetY;
+			}
+		} else if(cullingArea != null) {
 			// Draw children only if inside culling area.
 			float cullLeft = cullingArea.x;
 			float cullRight = cullLeft + cullingArea.width;
@@ -203,15 +300,46 @@ public class Group extends Actor implements Cullable {
 	}
 
 	/**
-	 * Returns the transform for this group's coordinate system.
+	 * Returns true if the child's bounds, scaled and rotated around its origin, overlap the specified area.
 	 */
-	protected Matrix4 computeTransform() {
-		Affine2 worldTransform = this.worldTransform;
-		float originX = this.originX, originY = this.originY;
-		worldTransform.setToTrnRotScl(x + originX, y + originY, rotation, scaleX, scaleY);
-		if(originX != 0 || originY != 0)
-			worldTransform.translate(-originX, -originY);
+	private static boolean overlaps(Actor child, float left, float bottom, float right, float top) {
+		float x = child.x, y = child.y, width = child.width, height = child.height;
+		float scaleX = child.scaleX, scaleY = child.scaleY, rotation = child.rotation;
+		if(scaleX == 1 && scaleY == 1 && rotation == 0)
+			return x <= right && y <= top && x + width >= left && y + height >= bottom;
+
+		// Bounding box of the transformed corners, relative to the origin.
+		float originX = child.originX, originY = child.originY;
+		float x1 = -originX * scaleX, x2 = (width - originX) * scaleX;
+		float y1 = -originY * scaleY, y2 = (height - originY) * scaleY;
+		float minX, maxX, minY, maxY;
+		if(rotation == 0) {
+			minX = Math.min(x1, x2);
+			maxX = Math.max(x1, x2);
+			minY = Math.min(y1, y2);
+			maxY = Math.max(y1, y2);
+		} else {
+			float cos = MathUtils.cosDeg(rotation), sin = MathUtils.sinDeg(rotation);
+			float ax = cos * x1 - sin * y1, ay = sin * x1 + cos * y1;
+			float bx = cos * x2 - sin * y1, by = sin * x2 + cos * y1;
+			float cx = cos * x2 - sin * y2, cy = sin * x2 + cos * y2;
+			float dx = cos * x1 - sin * y2, dy = sin * x1 + cos * y2;
+			minX = Math.min(Math.min(ax, bx), Math.min(cx, dx));
+			maxX = Math.max(Math.max(ax, bx), Math.max(cx, dx));
+			minY = Math.min(Math.min(ay, by), Math.min(cy, dy));
+			maxY = Math.max(Math.max(ay, by), Math.max(cy, dy));
+		}
+		x += originX;
+		y += originY;
+		return x + minX <= right && y + minY <= top && x + maxX >= left && y + maxY >= bottom;
+	}
 
+	/**
+	 * Returns the transform for this group's coordinate system. The transform is cached and only recomputed when this group's
+	 * position, origin, rotation or scale changed, or when the transform of the first transforming ascendant changed. The
+	 * returned matrix must not be modified.
+	 */
+	protected Matrix4 computeTransform() {
 		// Find the first parent that transforms.
 		Group parentGroup = parent;
 		while(parentGroup != null) {
@@ -219,27 +347,114 @@ public class Group extends Actor implements Cullable {
 				break;
 			parentGroup = parentGroup.parent;
 		}
+
+		// While drawing, x and y also hold the offset of non transforming ascendants, so the inputs are compared rather than
+		// relying on the setters.
+		float x = this.x, y = this.y, originX = this.originX, originY = this.originY;
+		float rotation = this.rotation, scaleX = this.scaleX, scaleY = this.scaleY;
+		if(worldTransformCached && cachedParentGroup == parentGroup
+				&& (parentGroup == null || cachedParentVersion == parentGroup.worldTransformVersion) && cachedX == x
+				&& cachedY == y && cachedOriginX == originX && cachedOriginY == originY && cachedRotation == rotation
+				&& cachedScaleX == scaleX && cachedScaleY == scaleY)
+			return computedTransform;
+
+		Affine2 worldTransform = this.worldTransform;
+		worldTransform.setToTrnRotScl(x + originX, y + originY, rotation, scaleX, scaleY);
+		if(originX != 0 || originY != 0)
+			worldTransform.translate(-originX, -originY);
 		if(parentGroup != null)
 			worldTransform.preMul(parentGroup.worldTransform);
-
 		computedTransform.set(worldTransform);
+
+		worldTransformVersion++;
+		worldTransformCached = true;
+		cachedParentGroup = parentGroup;
+		cachedParentVersion = parentGroup != null ? parentGroup.worldTransformVersion : 0;
+		cachedX = x;
+		cachedY = y;
+		cachedOriginX = originX;
+		cachedOriginY = originY;
+		cachedRotation = rotation;
+		cachedScaleX = scaleX;
+		cachedScaleY = scaleY;
 		return computedTransform;
 	}
 
+	/**
+	 * Draws the children from the {@link #setRenderCache(boolean) render cache}, recording them first if needed. Returns false
+	 * if the children must be drawn normally.
+	 */
+	private boolean drawRenderCache(Batch batch, float parentAlpha) {
+		RenderCache renderCache = this.renderCache;
+		if(renderCache.isRecording())
+			return false;
+
+		if(!renderCache.isValid(cullingArea)) {
+			if(!renderCache.canRecord())
+				return false;
+
+			// Record in this group's coordinates: act as a transforming group at the origin so transforming descendants compute
+			// their transform relative to this group.
+			boolean transform = this.transform;
+			renderCache.savedTransform.set(worldTransform);
+			this.transform = true;
+			worldTransform.idt();
+			worldTransformVersion++;
+			// The recording is replayed whatever is clipped, so it doesn't cull to the clip area.
+			Stage stage = getStage();
+			if(stage != null)
+				stage.pushClipArea(null);
+			// Record at an alpha of 1, the alpha is applied when replaying.
+			float a = color.a;
+			color.a = 1;
+			boolean recorded;
+			try {
+				drawChildren(renderCache.begin(batch, cullingArea), 1);
+			} finally {
+				color.a = a;
+				if(stage != null)
+					stage.popClipArea();
+				recorded = renderCache.end();
+				this.transform = transform;
+				worldTransform.set(renderCache.savedTransform);
+				worldTransformVersion++;
+			}
+			if(!recorded)
+				return false;
+		}
+
+		// Without transform, x and y hold the offset children are drawn at.
+		float alpha = parentAlpha * color.a;
+		if(transform)
+			renderCache.replay(batch, 0, 0, alpha);
+		else
+			renderCache.replay(batch, x, y, alpha);
+		return true;
+	}
+
 	/**
 	 * Set the batch's transformation matrix, often with the result of {@link #computeTransform()}. Note this causes the batch to
-	 * be flushed. {@link #resetTransform(Batch)} will restore the transform to what it was before this call.
+	 * be flushed, unless it is a {@link TransformBatch} in which case the transform is pushed on its stack and applied on the
+	 * CPU. {@link #resetTransform(Batch)} will restore the transform to what it was before this call.
 	 */
 	protected void applyTransform(Batch batch, Matrix4 transform) {
+		if(batch instanceof TransformBatch) {
+			((TransformBatch)batch).pushTransform(transform);
+			return;
+		}
 		oldTransform.set(batch.getTransformMatrix());
 		batch.setTransformMatrix(transform);
 	}
 
 	/**
 	 * Restores the batch transform to what it was before {@link #applyTransform(Batch, Matrix4)}. Note this causes the batch to
-	 * be flushed.
+	 * be flushed, unless it is a {@link TransformBatch}.
 	 */
 	protected void resetTransform(Batch batch) {
+		if(batch instanceof TransformBatch) {
+			((TransformBatch)batch).popTransform();
+			return;
+		}
 		batch.setTransformMatrix(oldTransform);
 	}
 
@@ -285,6 +500,10 @@ public class Group extends Actor implements Cullable {
 			return null;
 		if(!isVisible())
 			return null;
+		if(hitGrid != null) {
+			Actor hit = hitGrid.hit(x, y, touchable);
+			return hit != null ? hit : super.hit(x, y, touchable);
+		}
 		Vector2 point = tmp;
 		Actor[] childrenArray = children.items;
 		for(int i = children.size - 1; i >= 0; i--) {
@@ -297,6 +516,103 @@ public class Group extends Actor implements Cullable {
 		return super.hit(x, y, touchable);
 	}
 
+	/**
+	 * Enables a uniform grid over the children bounds so {@link #hit(float, float, boolean)} only tests the children
+	 * overlapping the hit point instead of every child. This is worth it for groups with many children. The grid is kept up to
+	 * date automatically as children are added, removed, reordered, moved or resized.
+	 * <p>
+	 * Children are assumed to only be hit within their bounds, as {@link Actor#hit(float, float, boolean)} does. Children that
+	 * are rotated or scaled are tested on every hit, as are children spanning many cells. Reordering children directly through
+	 * {@link #getChildren()} bypasses the grid and must be avoided.
+	 *
+	 * @param cellSize Size of a grid cell in this group's coordinates, 0 to disable the grid.
+	 */
+	public void setHitGrid(float cellSize) {
+		if(cellSize < 0)
+			throw new IllegalArgumentException("cellSize cannot be < 0.");
+		if(cellSize == 0)
+			hitGrid = null;
+		else if(hitGrid == null || hitGrid.getCellSize() != cellSize)
+			hitGrid = new HitGrid(this, cellSize);
+	}
+
+	/**
+	 * @return The cell size of the hit grid, or 0 if disabled.
+	 * @see #setHitGrid(float)
+	 */
+	public float getHitGridCellSize() {
+		return hitGrid != null ? hitGrid.getCellSize() : 0;
+	}
+
+	/**
+	 * If true, the vertices drawn by the children are recorded the first time they are drawn and replayed on the following
+	 * frames without calling {@link Actor#draw(Batch, float)} on any descendant. This saves the traversal and the vertex
+	 * computations of static subtrees with many actors, such as a complex menu or a tile map.
+	 * <p>
+	 * The recording is {@link Actor#invalidateRenderCache() invalidated} automatically when a descendant is moved, resized,
+	 * rotated, scaled, shown, hidden, recolored through {@link Actor#setColor(Color)}, added, removed, reordered, invalidated
+	 * (for widgets), receives an event (other than mouse moves) or has actions. Moving this group or changing its alpha or the
+	 * alpha of an ascendant does not discard the recording: the children are recorded at an alpha of 1 and the alpha is applied
+	 * to the recorded vertex colors when they are replayed. Descendants changing their appearance in other ways, for example by
+	 * drawing depending on time or by modifying {@link Actor#getColor()} directly, must call
+	 * {@link Actor#invalidateRenderCache()}, as progress bars, sliders and text fields do when they animate.
+	 * <p>
+	 * Descendants which flush the batch, clip or change its shader, blending or transform matrix cannot be recorded. When a
+	 * recording fails, the children are drawn normally until actors are added to or removed from this group or one of its
+	 * descendants, without trying to record them again after each invalidation. Only the children are cached, not what the group
+	 * draws itself (like a table's background).
+	 */
+	public void setRenderCache(boolean renderCache) {
+		boolean cachesRendering = cachesRendering();
+		if(!renderCache)
+			this.renderCache = null;
+		else if(this.renderCache == null)
+			this.renderCache = new RenderCache();
+		Stage stage = getStage();
+		if(stage != null && cachesRendering != cachesRendering())
+			stage.renderCaches += cachesRendering ? -1 : 1;
+	}
+
+	/**
+	 * @see #setRenderCache(boolean)
+	 */
+	public boolean isRenderCache() {
+		return renderCache != null;
+	}
+
+	/**
+	 * Returns true if this group keeps what its children draw between frames and must be notified through
+	 * {@link #childrenRenderChanged()} when it changes. The stage counts such groups, so actors skip notifying their ascendants
+	 * when it has none. The default implementation returns true if the {@link #setRenderCache(boolean) render cache} is enabled.
+	 * An override may only change its result while the group isn't in a stage.
+	 */
+	protected boolean cachesRendering() {
+		return renderCache != null;
+	}
+
+	/**
+	 * Called by {@link Actor#invalidateRenderCache()} when what the children draw may have changed. The default implementation
+	 * discards the {@link #setRenderCache(boolean) render cache}, if any.
+	 */
+	protected void childrenRenderChanged() {
+		if(renderCache != null)
+			renderCache.invalidate();
+	}
+
+	/**
+	 * Allows the {@link #setRenderCache(boolean) render caches} of this group and its ascendants to record again after a
+	 * recording failed, as the actor which failed it may be gone. Called when actors are added to or removed from the group.
+	 */
+	void renderStructureChanged() {
+		Stage stage = getStage();
+		if(stage != null && stage.renderCaches == 0)
+			return;
+		for(Group group = this; group != null; group = group.parent) {
+			if(group.renderCache != null)
+				group.renderCache.structureChanged();
+		}
+	}
+
 	/**
 	 * Called when actors are added to or removed from the group.
 	 */
@@ -314,7 +630,11 @@ public class Group extends Actor implements Cullable {
 		}
 		children.add(actor);
 		actor.setParent(this);
+		if(hitGrid != null)
+			hitGrid.add(actor);
 		actor.setStage(getStage());
+		invalidateRenderCache();
+		renderStructureChanged();
 		childrenChanged();
 	}
 
@@ -335,7 +655,11 @@ public class Group extends Actor implements Cullable {
 		else
 			children.insert(index, actor);
 		actor.setParent(this);
+		if(hitGrid != null)
+			hitGrid.add(actor);
 		actor.setStage(getStage());
+		invalidateRenderCache();
+		renderStructureChanged();
 		childrenChanged();
 	}
 
@@ -352,7 +676,11 @@ public class Group extends Actor implements Cullable {
 		int index = children.indexOf(actorBefore, true);
 		children.insert(index, actor);
 		actor.setParent(this);
+		if(hitGrid != null)
+			hitGrid.add(actor);
 		actor.setStage(getStage());
+		invalidateRenderCache();
+		renderStructureChanged();
 		childrenChanged();
 	}
 
@@ -373,7 +701,11 @@ public class Group extends Actor implements Cullable {
 		else
 			children.insert(index + 1, actor);
 		actor.setParent(this);
+		if(hitGrid != null)
+			hitGrid.add(actor);
 		actor.setStage(getStage());
+		invalidateRenderCache();
+		renderStructureChanged();
 		childrenChanged();
 	}
 
@@ -410,8 +742,12 @@ public class Group extends Actor implements Cullable {
 			if(stage != null)
 				stage.unfocus(actor);
 		}
+		if(hitGrid != null)
+			hitGrid.remove(actor);
 		actor.setParent(null);
 		actor.setStage(null);
+		invalidateRenderCache();
+		renderStructureChanged();
 		childrenChanged();
 		return actor;
 	}
@@ -428,6 +764,10 @@ public class Group extends Actor implements Cullable {
 		}
 		children.end();
 		children.clear();
+		if(hitGrid != null)
+			hitGrid.clear();
+		invalidateRenderCache();
+		renderStructureChanged();
 		childrenChanged();
 	}
 
@@ -461,6 +801,13 @@ public class Group extends Actor implements Cullable {
 	}
 
 	protected void setStage(Stage stage) {
+		Stage prev = getStage();
+		if(prev != stage && cachesRendering()) {
+			if(prev != null)
+				prev.renderCaches--;
+			if(stage != null)
+				stage.renderCaches++;
+		}
 		super.setStage(stage);
 		Actor[] childrenArray = children.items;
 		for(int i = 0, n = children.size; i < n; i++)
@@ -477,6 +824,10 @@ public class Group extends Actor implements Cullable {
 		if(second < 0 || second >= maxIndex)
 			return false;
 		children.swap(first, second);
+		if(hitGrid != null)
+			hitGrid.orderChanged();
+		invalidateRenderCache();
+		hitChanged();
 		return true;
 	}
 
@@ -489,6 +840,10 @@ public class Group extends Actor implements Cullable {
 		if(firstIndex == -1 || secondIndex == -1)
 			return false;
 		children.swap(firstIndex, secondIndex);
+		if(hitGrid != null)
+			hitGrid.orderChanged();
+		invalidateRenderCache();
+		hitChanged();
 		return true;
 	}
 
@@ -512,7 +867,8 @@ public class Group extends Actor implements Cullable {
 
 	/**
 	 * When true (the default), the Batch is transformed so children are drawn in their parent's coordinate system. This has a
-	 * performance impact because {@link Batch#flush()} must be done before and after the transform. If the actors in a group are
+	 * performance impact because {@link Batch#flush()} must be done before and after the transform, unless the stage draws with
+	 * a {@link TransformBatch} which transforms vertices on the CPU instead. If the actors in a group are
 	 * not rotated or scaled, then the transform for the group can be set to false. In this case, each child's position will be
 	 * offset by the group's position for drawing, causing the children to appear in the correct location even though the Batch has
 	 * not been transformed.
@@ -525,6 +881,20 @@ public class Group extends Actor implements Cullable {
 		return transform;
 	}
 
+	/**
+	 * When true, children completely outside the stage's {@link Stage#getClipArea() clip area}, the area clipped by the actors
+	 * being drawn such as a {@link me.winter.scene2dplus.ui.ScrollPane}, aren't drawn. Children are tested with their bounds,
+	 * scaled and rotated, so clip culling must be disabled for children drawing outside of their bounds. Child groups aren't
+	 * tested against the clip area, their own children are tested when they are drawn. Default is true.
+	 */
+	public void setClipCulling(boolean clipCulling) {
+		this.clipCulling = clipCulling;
+	}
+
+	public boolean isClipCulling() {
+		return clipCulling;
+	}
+
 	/**
 	 * Converts coordinates for this group to those of a descendant actor. The descendant does not need to be a direct child.
 	 *
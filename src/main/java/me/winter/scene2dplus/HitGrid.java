@@ -0,0 +1,214 @@
+package me.winter.scene2dplus;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Null;
+
+/**
+ * Uniform grid over the bounds of a {@link Group}'s children, used by {@link Group#hit(float, float, boolean)} to only test the
+ * children overlapping the cell of the hit point instead of every child. Unrotated and unscaled children are bucketed into
+ * every cell their bounds overlap, other children (and children covering too many cells) are always tested.
+ * <p>
+ * The grid is kept up to date by the group when children are added, removed or reordered and by {@link Actor} when a child's
+ * position, size, scale or rotation changes.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ * @see Group#setHitGrid(float)
+ */
+final class HitGrid {
+	/**
+	 * Children overlapping more cells than this are always tested rather than bucketed.
+	 */
+	private static final int MAX_CELLS_PER_CHILD = 64;
+
+	private final Group group;
+	private final float cellSize;
+
+	private final LongMap<Array<Entry>> cells = new LongMap<>();
+	private final IdentityMap<Actor, Entry> entries = new IdentityMap<>();
+	private final Array<Entry> unbucketed = new Array<>(false, 4);
+	private final Array<Entry> candidates = new Array<>(false, 16, Entry.class);
+	private final Vector2 point = new Vector2();
+	private boolean orderDirty = true;
+
+	HitGrid(Group group, float cellSize) {
+		this.group = group;
+		this.cellSize = cellSize;
+		Actor[] children = group.children.items;
+		for(int i = 0, n = group.children.size; i < n; i++)
+			add(children[i]);
+	}
+
+	float getCellSize() {
+		return cellSize;
+	}
+
+	void add(Actor actor) {
+		Entry entry = new Entry(actor);
+		entries.put(actor, entry);
+		insert(entry);
+		orderDirty = true;
+	}
+
+	void remove(Actor actor) {
+		Entry entry = entries.remove(actor);
+		if(entry != null)
+			erase(entry);
+		orderDirty = true;
+	}
+
+	void clear() {
+		for(Array<Entry> bucket : cells.values())
+			bucket.clear();
+		entries.clear();
+		unbucketed.clear();
+		orderDirty = true;
+	}
+
+	/**
+	 * Called when the z-order of the children changed without any child being added or removed.
+	 */
+	void orderChanged() {
+		orderDirty = true;
+	}
+
+	/**
+	 * Called when the position, size, scale or rotation of a child changed.
+	 */
+	void update(Actor actor) {
+		Entry entry = entries.get(actor);
+		if(entry == null)
+			return;
+
+		boolean bucketed = isBucketable(actor);
+		if(bucketed) {
+			int x0 = cell(actor.x), y0 = cell(actor.y);
+			int x1 = cell(actor.x + actor.width), y1 = cell(actor.y + actor.height);
+			if(entry.bucketed && x0 == entry.x0 && y0 == entry.y0 && x1 == entry.x1 && y1 == entry.y1)
+				return;
+		} else if(!entry.bucketed)
+			return;
+
+		erase(entry);
+		insert(entry);
+	}
+
+	/**
+	 * Returns the topmost child hit at the specified point in the group's coordinates, following the same rules as
+	 * {@link Group#hit(float, float, boolean)}.
+	 */
+	@Null Actor hit(float x, float y, boolean touchable) {
+		if(orderDirty) {
+			Actor[] children = group.children.items;
+			for(int i = 0, n = group.children.size; i < n; i++) {
+				Entry entry = entries.get(children[i]);
+				if(entry != null)
+					entry.z = i;
+			}
+			orderDirty = false;
+		}
+
+		Array<Entry> candidates = this.candidates;
+		Array<Entry> bucket = cells.get(key(cell(x), cell(y)));
+		if(bucket != null)
+			candidates.addAll(bucket);
+		candidates.addAll(unbucketed);
+
+		// Few candidates, insertion sort from topmost to bottommost.
+		Entry[] items = candidates.items;
+		for(int i = 1, n = candidates.size; i < n; i++) {
+			Entry entry = items[i];
+			int j = i - 1;
+			while(j >= 0 && items[j].z < entry.z) {
+				items[j + 1] = items[j];
+				j--;
+			}
+			items[j + 1] = entry;
+		}
+
+		try {
+			Vector2 point = this.point;
+			for(int i = 0, n = candidates.size; i < n; i++) {
+				Actor child = items[i].actor;
+				child.parentToLocalCoordinates(point.set(x, y));
+				Actor hit = child.hit(point.x, point.y, touchable);
+				if(hit != null)
+					return hit;
+			}
+			return null;
+		} finally {
+			candidates.clear();
+		}
+	}
+
+	private void insert(Entry entry) {
+		Actor actor = entry.actor;
+		if(isBucketable(actor)) {
+			int x0 = cell(actor.x), y0 = cell(actor.y);
+			int x1 = cell(actor.x + actor.width), y1 = cell(actor.y + actor.height);
+			if((long)(x1 - x0 + 1) * (y1 - y0 + 1) <= MAX_CELLS_PER_CHILD) {
+				entry.bucketed = true;
+				entry.x0 = x0;
+				entry.y0 = y0;
+				entry.x1 = x1;
+				entry.y1 = y1;
+				for(int cx = x0; cx <= x1; cx++) {
+					for(int cy = y0; cy <= y1; cy++) {
+						long key = key(cx, cy);
+						Array<Entry> bucket = cells.get(key);
+						if(bucket == null) {
+							bucket = new Array<>(false, 4);
+							cells.put(key, bucket);
+						}
+						bucket.add(entry);
+					}
+				}
+				return;
+			}
+		}
+		entry.bucketed = false;
+		unbucketed.add(entry);
+	}
+
+	private void erase(Entry entry) {
+		if(!entry.bucketed) {
+			unbucketed.removeValue(entry, true);
+			return;
+		}
+		for(int cx = entry.x0; cx <= entry.x1; cx++) {
+			for(int cy = entry.y0; cy <= entry.y1; cy++) {
+				Array<Entry> bucket = cells.get(key(cx, cy));
+				if(bucket != null)
+					bucket.removeValue(entry, true);
+			}
+		}
+		entry.bucketed = false;
+	}
+
+	private static boolean isBucketable(Actor actor) {
+		return actor.rotation == 0 && actor.scaleX == 1 && actor.scaleY == 1;
+	}
+
+	private int cell(float coordinate) {
+		return (int)Math.floor(coordinate / cellSize);
+	}
+
+	private static long key(int cellX, int cellY) {
+		return (long)cellX << 32 | cellY & 0xFFFFFFFFL;
+	}
+
+	private static final class Entry {
+		final Actor actor;
+		int z;
+		boolean bucketed;
+		int x0, y0, x1, y1;
+
+		Entry(Actor actor) {
+			this.actor = actor;
+		}
+	}
+}
@@ -18,6 +18,9 @@ package me.winter.scene2dplus;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.Method;
 
 /**
  * EventListener for low-level input events. Unpacks {@link InputEvent}s and calls the appropriate method. By default the methods
@@ -35,9 +38,53 @@ import com.badlogic.gdx.utils.Null;
  *    }
  * });
  * </pre>
+ * <p>
+ * The {@link InputEvent.Type types} of events a listener handles are determined from the methods its class overrides, so
+ * {@link Actor#notify(Event, boolean)} does not call {@link #handle(Event)} for the others: a listener only interested in
+ * clicks is skipped for mouse moves, enter and exit. Listeners overriding {@link #handle(Event)} receive every type.
  */
 public class InputListener implements EventListener {
 	private static final Vector2 tmpCoords = new Vector2();
+	private static final ObjectIntMap<Class<?>> classHandledTypes = new ObjectIntMap<>();
+
+	/**
+	 * Mask of the {@link InputEvent.Type} ordinals this listener handles.
+	 */
+	final int handledTypes = handledTypes(getClass());
+
+	/**
+	 * Returns true if the listener handles input events of the specified type. Events of other types are not given to
+	 * {@link #handle(Event)} by {@link Actor#notify(Event, boolean)}.
+	 */
+	public boolean handles(InputEvent.Type type) {
+		return (handledTypes & 1 << type.ordinal()) != 0;
+	}
+
+	private static int handledTypes(Class<?> type) {
+		synchronized(classHandledTypes) {
+			int handledTypes = classHandledTypes.get(type, 0);
+			if(handledTypes != 0)
+				return handledTypes;
+
+			// touchUp and touchDragged are reported as handled even when not overridden.
+			handledTypes = 1 << InputEvent.Type.touchUp.ordinal() | 1 << InputEvent.Type.touchDragged.ordinal();
+			for(Class<?> c = type; c != InputListener.class; c = c.getSuperclass()) {
+				for(Method method : ClassReflection.getDeclaredMethods(c)) {
+					if(method.isStatic())
+						continue;
+					if(method.getName().equals("handle")) {
+						handledTypes = -1;
+						break;
+					}
+					for(InputEvent.Type eventType : InputEvent.Type.values())
+						if(method.getName().equals(eventType.name()))
+							handledTypes |= 1 << eventType.ordinal();
+				}
+			}
+			classHandledTypes.put(type, handledTypes);
+			return handledTypes;
+		}
+	}
 
 	/**
 	 * Try to handle the given event, if it is an {@link InputEvent}.
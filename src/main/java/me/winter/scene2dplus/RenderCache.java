@@ -0,0 +1,398 @@
+package me.winter.scene2dplus;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.NumberUtils;
+import me.winter.scene2dplus.utils.TransformBatch;
+
+/**
+ * Recording of the vertices submitted by the children of a {@link Group}, in the group's coordinates, so they can be drawn
+ * again without calling {@link Actor#draw(Batch, float)} on any descendant. Vertices are stored per run of the same texture and
+ * replayed through {@link Batch#draw(Texture, float[], int, int)}, so the batch drawing them keeps its usual batching. The
+ * children are recorded at an alpha of 1 and the alpha of the group is applied to the vertex colors when replaying, so fading
+ * the group doesn't need a new recording.
+ * <p>
+ * A recording fails if a descendant does anything else than drawing and changing the batch color (flushing, clipping,
+ * changing the shader, blending or transform of the underlying batch). The children are then drawn normally, without
+ * recording them again, until actors are added to or removed from the group or its descendants.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ * @see Group#setRenderCache(boolean)
+ */
+final class RenderCache {
+	private final Recorder recorder = new Recorder();
+	private final TransformBatch recordingBatch = new TransformBatch(recorder, true);
+	private final Matrix4 identity = new Matrix4();
+	final Affine2 savedTransform = new Affine2();
+
+	private float[] vertices = new float[20 * 32], offsetVertices = new float[0];
+	private int size;
+	private final Array<Texture> textures = new Array<>(true, 16, Texture.class);
+	private final IntArray counts = new IntArray();
+	private float finalColor;
+	private boolean colorChanged;
+
+	private boolean valid, failed, recording, invalidatedWhileRecording;
+	private boolean culled;
+	private final Rectangle cullingArea = new Rectangle();
+
+	void invalidate() {
+		if(recording)
+			invalidatedWhileRecording = true;
+		valid = false;
+	}
+
+	/**
+	 * Called when actors are added to or removed from the subtree, which may have removed the actor failing the recording.
+	 */
+	void structureChanged() {
+		failed = false;
+	}
+
+	boolean isRecording() {
+		return recording;
+	}
+
+	/**
+	 * Returns true if the recording can be replayed for the specified culling area.
+	 */
+	boolean isValid(@Null Rectangle cullingArea) {
+		if(!valid)
+			return false;
+		if(cullingArea == null)
+			return !culled;
+		return culled && this.cullingArea.equals(cullingArea);
+	}
+
+	/**
+	 * Returns false if the last recording failed since actors were last added to or removed from the subtree.
+	 */
+	boolean canRecord() {
+		return !failed;
+	}
+
+	/**
+	 * Starts a recording, returns the batch the children must be drawn to at an alpha of 1.
+	 *
+	 * @param batch Batch the recording will be replayed to, used for its current color and state.
+	 */
+	Batch begin(Batch batch, @Null Rectangle cullingArea) {
+		size = 0;
+		textures.clear();
+		counts.clear();
+		recorder.batch = batch;
+		recorder.setPackedColor(batch.getPackedColor());
+		recorder.colorChanged = false;
+		recordingBatch.setTransformMatrix(identity);
+		culled = cullingArea != null;
+		if(culled)
+			this.cullingArea.set(cullingArea);
+		recording = true;
+		invalidatedWhileRecording = false;
+		failed = false;
+		return recordingBatch;
+	}
+
+	/**
+	 * Ends the recording, returns true if it succeeded and can be replayed.
+	 */
+	boolean end() {
+		recording = false;
+		recorder.batch = null;
+		finalColor = recorder.packedColor;
+		colorChanged = recorder.colorChanged;
+		boolean recorded = !failed;
+		// A recording invalidated while being made (eg. by a descendant's layout) is drawn once but not kept.
+		valid = recorded && !invalidatedWhileRecording;
+		return recorded;
+	}
+
+	/**
+	 * Draws the recorded vertices offset by the specified amount with their alpha multiplied by the specified alpha, then sets
+	 * the batch color to the last color set by the recorded children.
+	 */
+	void replay(Batch batch, float offsetX, float offsetY, float alpha) {
+		float[] vertices = this.vertices;
+		if(alpha != 1) {
+			float[] offset = offsetVertices;
+			if(offset.length < size)
+				offsetVertices = offset = new float[size];
+			for(int i = 0; i < size; i += 5) {
+				offset[i] = vertices[i] + offsetX;
+				offset[i + 1] = vertices[i + 1] + offsetY;
+				offset[i + 2] = multiplyAlpha(vertices[i + 2], alpha);
+				offset[i + 3] = vertices[i + 3];
+				offset[i + 4] = vertices[i + 4];
+			}
+			vertices = offset;
+		} else if(offsetX != 0 || offsetY != 0) {
+			float[] offset = offsetVertices;
+			if(offset.length < size)
+				offsetVertices = offset = new float[size];
+			for(int i = 0; i < size; i += 5) {
+				offset[i] = vertices[i] + offsetX;
+				offset[i + 1] = vertices[i + 1] + offsetY;
+				offset[i + 2] = vertices[i + 2];
+				offset[i + 3] = vertices[i + 3];
+				offset[i + 4] = vertices[i + 4];
+			}
+			vertices = offset;
+		}
+
+		Texture[] textures = this.textures.items;
+		int[] counts = this.counts.items;
+		for(int i = 0, n = this.textures.size, offset = 0; i < n; i++) {
+			batch.draw(textures[i], vertices, offset, counts[i]);
+			offset += counts[i];
+		}
+		if(colorChanged)
+			batch.setPackedColor(alpha != 1 ? multiplyAlpha(finalColor, alpha) : finalColor);
+	}
+
+	/**
+	 * Returns the packed color with its alpha multiplied by the specified alpha.
+	 */
+	private static float multiplyAlpha(float packedColor, float alpha) {
+		int bits = NumberUtils.floatToRawIntBits(packedColor);
+		int a = (int)(((bits >>> 24) & 0xff) * alpha);
+		return NumberUtils.intToFloatColor(bits & 0x00ffffff | a << 24);
+	}
+
+	private void add(Texture texture, float[] spriteVertices, int offset, int count) {
+		if(failed)
+			return; // The recording is discarded.
+		float[] vertices = this.vertices;
+		if(size + count > vertices.length) {
+			float[] newVertices = new float[Math.max(size + count, vertices.length * 2)];
+			System.arraycopy(vertices, 0, newVertices, 0, size);
+			this.vertices = vertices = newVertices;
+		}
+		System.arraycopy(spriteVertices, offset, vertices, size, count);
+		size += count;
+
+		if(textures.size > 0 && textures.peek() == texture)
+			counts.incr(counts.size - 1, count);
+		else {
+			textures.add(texture);
+			counts.add(count);
+		}
+	}
+
+	/**
+	 * Batch receiving the vertices computed by the {@link TransformBatch} the children are drawn to. Anything that cannot be
+	 * replayed as vertices fails the recording.
+	 */
+	private final class Recorder implements Batch {
+		@Null Batch batch;
+		final Color color = new Color(1, 1, 1, 1);
+		float packedColor = Color.WHITE_FLOAT_BITS;
+		boolean colorChanged;
+
+		@Override
+		public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+			add(texture, spriteVertices, offset, count);
+		}
+
+		// The transform batch submits everything as vertices, other draws are never received.
+
+		@Override
+		public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height,
+		                 float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight,
+		                 boolean flipX, boolean flipY) {
+			failed = true;
+		}
+
+		@Override
+		public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+		                 int srcHeight, boolean flipX, boolean flipY) {
+			failed = true;
+		}
+
+		@Override
+		public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+			failed = true;
+		}
+
+		@Override
+		public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+			failed = true;
+		}
+
+		@Override
+		public void draw(Texture texture, float x, float y) {
+			failed = true;
+		}
+
+		@Override
+		public void draw(Texture texture, float x, float y, float width, float height) {
+			failed = true;
+		}
+
+		@Override
+		public void draw(TextureRegion region, float x, float y) {
+			failed = true;
+		}
+
+		@Override
+		public void draw(TextureRegion region, float x, float y, float width, float height) {
+			failed = true;
+		}
+
+		@Override
+		public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		                 float scaleX, float scaleY, float rotation) {
+			failed = true;
+		}
+
+		@Override
+		public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		                 float scaleX, float scaleY, float rotation, boolean clockwise) {
+			failed = true;
+		}
+
+		@Override
+		public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+			failed = true;
+		}
+
+		@Override
+		public void setColor(Color tint) {
+			color.set(tint);
+			packedColor = tint.toFloatBits();
+			colorChanged = true;
+		}
+
+		@Override
+		public void setColor(float r, float g, float b, float a) {
+			color.set(r, g, b, a);
+			packedColor = color.toFloatBits();
+			colorChanged = true;
+		}
+
+		@Override
+		public Color getColor() {
+			return color;
+		}
+
+		@Override
+		public void setPackedColor(float packedColor) {
+			Color.abgr8888ToColor(color, packedColor);
+			this.packedColor = packedColor;
+			colorChanged = true;
+		}
+
+		@Override
+		public float getPackedColor() {
+			return packedColor;
+		}
+
+		@Override
+		public void begin() {
+			failed = true;
+		}
+
+		@Override
+		public void end() {
+			failed = true;
+		}
+
+		@Override
+		public void flush() {
+			failed = true;
+		}
+
+		@Override
+		public void disableBlending() {
+			failed = true;
+		}
+
+		@Override
+		public void enableBlending() {
+			failed = true;
+		}
+
+		@Override
+		public void setBlendFunction(int srcFunc, int dstFunc) {
+			failed = true;
+		}
+
+		@Override
+		public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+			failed = true;
+		}
+
+		@Override
+		public int getBlendSrcFunc() {
+			return batch.getBlendSrcFunc();
+		}
+
+		@Override
+		public int getBlendDstFunc() {
+			return batch.getBlendDstFunc();
+		}
+
+		@Override
+		public int getBlendSrcFuncAlpha() {
+			return batch.getBlendSrcFuncAlpha();
+		}
+
+		@Override
+		public int getBlendDstFuncAlpha() {
+			return batch.getBlendDstFuncAlpha();
+		}
+
+		@Override
+		public Matrix4 getProjectionMatrix() {
+			return batch.getProjectionMatrix();
+		}
+
+		@Override
+		public Matrix4 getTransformMatrix() {
+			return batch.getTransformMatrix();
+		}
+
+		@Override
+		public void setProjectionMatrix(Matrix4 projection) {
+			failed = true;
+		}
+
+		@Override
+		public void setTransformMatrix(Matrix4 transform) {
+			failed = true;
+		}
+
+		@Override
+		public void setShader(ShaderProgram shader) {
+			failed = true;
+		}
+
+		@Override
+		public ShaderProgram getShader() {
+			return batch.getShader();
+		}
+
+		@Override
+		public boolean isBlendingEnabled() {
+			return batch.isBlendingEnabled();
+		}
+
+		@Override
+		public boolean isDrawing() {
+			return true;
+		}
+
+		@Override
+		public void dispose() {}
+	}
+}
@@ -36,6 +36,7 @@ import me.winter.scene2dplus.InputEvent.Type;
 import me.winter.scene2dplus.ui.Table;
 import me.winter.scene2dplus.utils.FocusListener;
 import me.winter.scene2dplus.utils.ScissorStack;
+import me.winter.scene2dplus.utils.TransformBatch;
 
 /**
  * A 2D scene graph containing hierarchies of {@link Actor actors}. Stage handles the viewport and distributes input events.
@@ -72,9 +73,41 @@ public class Stage extends InputAdapter implements Disposable {
 	private final int[] pointerScreenY = new int[20];
 	private int mouseScreenX, mouseScreenY;
 	private @Null Actor mouseOverActor;
+	/**
+	 * Incremented when an actor in the stage may hit differently, see {@link Actor#hitChanged()}.
+	 */
+	int hitVersion;
+	/**
+	 * Stage coordinates and {@link #hitVersion} of the last hit of each pointer, the mouse last. Enter and exit only need to
+	 * be fired again when one of them changed.
+	 */
+	private final float[] overStageX = new float[21], overStageY = new float[21];
+	private final int[] overVersions = new int[21];
+	private final boolean[] overValid = new boolean[21];
 	private @Null Actor keyboardFocus, scrollFocus;
 	final SnapshotArray<TouchFocus> touchFocuses = new SnapshotArray<>(true, 4, TouchFocus.class);
+	/**
+	 * Ascendants of the targets of the events being fired, see {@link Actor#fire(Event)}.
+	 */
+	final Array<Group> eventAscendants = new Array<>(true, 16, Group.class);
+	/**
+	 * Areas of the stage clipped by {@link Actor#clipBegin(float, float, float, float)} while drawing, each intersected with the
+	 * previous one. Null when drawing isn't clipped.
+	 */
+	private final Array<Rectangle> clipAreas = new Array<>(true, 8, Rectangle.class);
 	private boolean actionsRequestRendering = true;
+	private @Null TweenScheduler tweenScheduler;
+	/**
+	 * Number of actors in the stage with a {@link Actor#setTimeScale(float) time scale} other than 1.
+	 */
+	int timeScaledActors;
+	/**
+	 * Number of groups in the stage {@link Group#cachesRendering() caching their rendering}. When zero,
+	 * {@link Actor#invalidateRenderCache()} has no ascendant to notify.
+	 */
+	int renderCaches;
+	private float fixedTimeStep, accumulator;
+	private int maxSteps = 5;
 
 	private ShapeRenderer debugShapes;
 	private boolean debugAll, debugUnderMouse, debugParentUnderMouse;
@@ -102,7 +135,8 @@ public class Stage extends InputAdapter implements Disposable {
 
 	/**
 	 * Creates a stage with the specified viewport and batch. This can be used to specify an existing batch or to customize which
-	 * batch implementation is used.
+	 * batch implementation is used. Wrapping the batch in a {@link TransformBatch} avoids flushing it for every transformed
+	 * group.
 	 *
 	 * @param batch Will not be disposed if {@link #dispose()} is called, handle disposal yourself.
 	 */
@@ -127,6 +161,10 @@ public class Stage extends InputAdapter implements Disposable {
 		if(!root.isVisible())
 			return;
 
+		// Areas left by actors removed from the stage while clipping.
+		while(clipAreas.size > 0)
+			popClipArea();
+
 		Batch batch = this.batch;
 		batch.setProjectionMatrix(camera.combined);
 		batch.begin();
@@ -197,24 +235,75 @@ public class Stage extends InputAdapter implements Disposable {
 	}
 
 	/**
-	 * Calls {@link #act(float)} with {@link Graphics#getDeltaTime()}, limited to a minimum of 30fps.
+	 * Calls {@link #act(float)} with {@link Graphics#getDeltaTime()}, limited to a minimum of 30fps unless a
+	 * {@link #setFixedTimeStep(float) fixed time step} is set, in which case the number of steps is limited instead.
 	 */
 	public void act() {
-		act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
+		float delta = Gdx.graphics.getDeltaTime();
+		act(fixedTimeStep > 0 ? delta : Math.min(delta, 1 / 30f));
 	}
 
 	/**
-	 * Calls the {@link Actor#act(float)} method on each actor in the stage. Typically called each frame. This method also fires
-	 * enter and exit events.
+	 * Calls the {@link Actor#act(float)} method on each actor in the stage, after updating the
+	 * {@link #getTweenScheduler() tween scheduler}. Typically called each frame. This method also fires enter and exit events,
+	 * hit testing the pointers and the mouse again only if they moved or an actor {@link Actor#hitChanged() may hit
+	 * differently}.
+	 * <p>
+	 * If a {@link #setFixedTimeStep(float) fixed time step} is set, the delta is accumulated and the stage is {@link #step(float)
+	 * stepped} by the fixed time step as many times as the accumulated time allows, up to the {@link #setMaxSteps(int) maximum}.
+	 * Enter and exit events are fired once before the steps.
 	 *
 	 * @param delta Time in seconds since the last frame.
 	 */
 	public void act(float delta) {
+		if(fixedTimeStep <= 0) {
+			updateOverActors();
+			step(delta);
+			return;
+		}
+
+		float timeStep = fixedTimeStep;
+		accumulator += delta;
+		int steps = (int)(accumulator / timeStep);
+		if(steps == 0)
+			return;
+		if(steps > maxSteps) {
+			// The time which can't be caught up is dropped, slowing the animations down rather than the frames.
+			steps = maxSteps;
+			accumulator = timeStep * steps;
+		}
+		updateOverActors();
+		for(int i = 0; i < steps; i++) {
+			step(timeStep);
+			accumulator -= timeStep;
+		}
+		if(accumulator < 0)
+			accumulator = 0;
+	}
+
+	/**
+	 * Updates the {@link #getTweenScheduler() tween scheduler} and acts the actors by the specified delta, scaled by the root's
+	 * {@link Actor#setTimeScale(float) time scale}. Called by {@link #act(float)} once per frame, or once per
+	 * {@link #setFixedTimeStep(float) fixed time step}.
+	 *
+	 * @param delta Time in seconds to act.
+	 */
+	protected void step(float delta) {
+		if(tweenScheduler != null)
+			tweenScheduler.update(delta);
+		root.act(delta * root.getTimeScale());
+	}
+
+	/**
+	 * Fires enter and exit events for the actors which moved under or away from the pointers and the mouse since the last time.
+	 */
+	private void updateOverActors() {
 		// Update over actors. Done in act() because actors may change position, which can fire enter/exit without an input event.
 		for(int pointer = 0, n = pointerOverActors.length; pointer < n; pointer++) {
 			Actor overLast = pointerOverActors[pointer];
 			// Check if pointer is gone.
 			if(!pointerTouched[pointer]) {
+				overValid[pointer] = false;
 				if(overLast != null) {
 					pointerOverActors[pointer] = null;
 					screenToStageCoordinates(tempCoords.set(pointerScreenX[pointer], pointerScreenY[pointer]));
@@ -241,13 +330,21 @@ public class Stage extends InputAdapter implements Disposable {
 			mouseOverActor = fireEnterAndExit(mouseOverActor, mouseScreenX, mouseScreenY, -1);
 			// if (mouseOverActor != null) mouseOverActor.setDebug(true);
 		}
-
-		root.act(delta);
 	}
 
 	private @Null Actor fireEnterAndExit(@Null Actor overLast, int screenX, int screenY, int pointer) {
-		// Find the actor under the point.
 		screenToStageCoordinates(tempCoords.set(screenX, screenY));
+		// Skip the hit if neither the point nor the scene changed since the last one.
+		int index = pointer == -1 ? overValid.length - 1 : pointer;
+		if(overValid[index] && overVersions[index] == hitVersion && overStageX[index] == tempCoords.x
+				&& overStageY[index] == tempCoords.y)
+			return overLast;
+		overValid[index] = true;
+		overVersions[index] = hitVersion;
+		overStageX[index] = tempCoords.x;
+		overStageY[index] = tempCoords.y;
+
+		// Find the actor under the point.
 		Actor over = hit(tempCoords.x, tempCoords.y, true);
 		if(over == overLast)
 			return overLast;
@@ -680,6 +777,8 @@ public class Stage extends InputAdapter implements Disposable {
 	public void clear() {
 		unfocusAll();
 		root.clear();
+		if(tweenScheduler != null)
+			tweenScheduler.giveBackRemoved();
 	}
 
 	/**
@@ -838,6 +937,7 @@ public class Stage extends InputAdapter implements Disposable {
 		this.root = root;
 		root.setParent(null);
 		root.setStage(this);
+		hitVersion++;
 	}
 
 	/**
@@ -891,12 +991,56 @@ public class Stage extends InputAdapter implements Disposable {
 	 * @see ScissorStack#calculateScissors(Camera, float, float, float, float, Matrix4, Rectangle, Rectangle)
 	 */
 	public void calculateScissors(Rectangle localRect, Rectangle scissorRect) {
-		Matrix4 transformMatrix;
+		viewport.calculateScissors(getDrawTransform(), localRect, scissorRect);
+	}
+
+	/**
+	 * Returns the transformation matrix of the batch, or of the shape renderer when drawing debug lines.
+	 */
+	Matrix4 getDrawTransform() {
 		if(debugShapes != null && debugShapes.isDrawing())
-			transformMatrix = debugShapes.getTransformMatrix();
-		else
-			transformMatrix = batch.getTransformMatrix();
-		viewport.calculateScissors(transformMatrix, localRect, scissorRect);
+			return debugShapes.getTransformMatrix();
+		return batch.getTransformMatrix();
+	}
+
+	/**
+	 * Pushes the clipped area of the stage, intersected with the current {@link #getClipArea() clip area}. Groups don't draw
+	 * children completely outside of it. {@link Actor#clipBegin(float, float, float, float)} pushes the area it clips.
+	 *
+	 * @param area The area in stage coordinates, or null to draw without culling to a clip area, for example when drawing
+	 *             actors somewhere else than to the stage. The rectangle is copied.
+	 * @see #popClipArea()
+	 */
+	public void pushClipArea(@Null Rectangle area) {
+		if(area == null) {
+			clipAreas.add(null);
+			return;
+		}
+		Rectangle clipArea = Pools.obtain(Rectangle.class).set(area);
+		Rectangle parent = clipAreas.size > 0 ? clipAreas.peek() : null;
+		if(parent != null) {
+			float left = Math.max(parent.x, clipArea.x), right = Math.min(parent.x + parent.width, clipArea.x + clipArea.width);
+			float bottom = Math.max(parent.y, clipArea.y), top = Math.min(parent.y + parent.height, clipArea.y + clipArea.height);
+			clipArea.set(left, bottom, Math.max(0, right - left), Math.max(0, top - bottom));
+		}
+		clipAreas.add(clipArea);
+	}
+
+	/**
+	 * Pops the area pushed by the last {@link #pushClipArea(Rectangle)}.
+	 */
+	public void popClipArea() {
+		Rectangle clipArea = clipAreas.pop();
+		if(clipArea != null)
+			Pools.free(clipArea);
+	}
+
+	/**
+	 * Returns the area of the stage outside which nothing drawn is visible, the intersection of the areas clipped by the actors
+	 * being drawn, or null if drawing isn't clipped.
+	 */
+	public @Null Rectangle getClipArea() {
+		return clipAreas.size > 0 ? clipAreas.peek() : null;
 	}
 
 	/**
@@ -912,6 +1056,79 @@ public class Stage extends InputAdapter implements Disposable {
 		return actionsRequestRendering;
 	}
 
+	/**
+	 * If true, the tweens added to actors in the stage, such as {@link me.winter.scene2dplus.actions.Actions#moveTo(float, float, float)
+	 * moveTo} or {@link me.winter.scene2dplus.actions.Actions#alpha(float, float) alpha}, are acted together by a
+	 * {@link TweenScheduler} instead of by their actor, which is much faster when many actors are animated at once. Those tweens are
+	 * released when added and must not be used afterward. When disabled, the scheduled tweens are given back to their actors as
+	 * actions. Default is false.
+	 * <p>
+	 * The tweens of an actor removed from the stage are given back to it by the next {@link #act(float)}, when it is added to
+	 * another stage or when this stage is {@link #clear() cleared} or {@link #dispose() disposed}. Until then they are still
+	 * counted by {@link Actor#hasActions()} and the stage keeps a reference to the actor.
+	 */
+	public void setTweenScheduling(boolean tweenScheduling) {
+		if(tweenScheduling == (tweenScheduler != null))
+			return;
+		if(tweenScheduling)
+			tweenScheduler = new TweenScheduler(this, 64);
+		else {
+			tweenScheduler.removeAll();
+			tweenScheduler = null;
+		}
+	}
+
+	public boolean isTweenScheduling() {
+		return tweenScheduler != null;
+	}
+
+	/**
+	 * Returns the scheduler acting the tweens of the actors, or null if {@link #setTweenScheduling(boolean) tween scheduling} is
+	 * disabled.
+	 */
+	public @Null TweenScheduler getTweenScheduler() {
+		return tweenScheduler;
+	}
+
+	/**
+	 * Sets the time by which {@link #act(float)} steps the stage, accumulating the frame deltas, so the animations are the same
+	 * whatever the frame rate. Drawing may {@link #getStepAlpha() interpolate} between the last two steps. If 0, the stage is acted
+	 * by the frame delta. Default is 0.
+	 */
+	public void setFixedTimeStep(float fixedTimeStep) {
+		if(fixedTimeStep < 0)
+			throw new IllegalArgumentException("fixedTimeStep cannot be < 0: " + fixedTimeStep);
+		this.fixedTimeStep = fixedTimeStep;
+		accumulator = 0;
+	}
+
+	public float getFixedTimeStep() {
+		return fixedTimeStep;
+	}
+
+	/**
+	 * Sets the maximum number of {@link #setFixedTimeStep(float) fixed time steps} done by one call to {@link #act(float)}. When
+	 * more time accumulated, for example after a long frame, the rest is dropped. Default is 5.
+	 */
+	public void setMaxSteps(int maxSteps) {
+		if(maxSteps < 1)
+			throw new IllegalArgumentException("maxSteps must be > 0: " + maxSteps);
+		this.maxSteps = maxSteps;
+	}
+
+	public int getMaxSteps() {
+		return maxSteps;
+	}
+
+	/**
+	 * Returns the fraction of a {@link #setFixedTimeStep(float) fixed time step} accumulated but not yet acted, between 0 and 1.
+	 * Actors may draw their state interpolated between the last two steps by this fraction for smooth motion. Returns 1 if no
+	 * fixed time step is set.
+	 */
+	public float getStepAlpha() {
+		return fixedTimeStep > 0 ? Math.min(accumulator / fixedTimeStep, 1) : 1;
+	}
+
 	/**
 	 * The default color that can be used by actors to draw debug lines.
 	 */
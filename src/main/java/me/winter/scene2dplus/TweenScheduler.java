@@ -0,0 +1,544 @@
+package me.winter.scene2dplus;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Null;
+import me.winter.scene2dplus.actions.AlphaAction;
+import me.winter.scene2dplus.actions.ColorAction;
+import me.winter.scene2dplus.actions.MoveByAction;
+import me.winter.scene2dplus.actions.MoveToAction;
+import me.winter.scene2dplus.actions.RotateByAction;
+import me.winter.scene2dplus.actions.RotateToAction;
+import me.winter.scene2dplus.actions.ScaleByAction;
+import me.winter.scene2dplus.actions.ScaleToAction;
+import me.winter.scene2dplus.actions.TemporalAction;
+
+import java.util.Arrays;
+
+/**
+ * Advances the tweens of the actors in a {@link Stage} in a single loop over primitive arrays, rather than through the
+ * {@link Actor#getActions() actions} of each actor. Enabled with {@link Stage#setTweenScheduling(boolean)}.
+ * <p>
+ * A {@link MoveToAction}, {@link MoveByAction}, {@link ScaleToAction}, {@link ScaleByAction}, {@link RotateToAction},
+ * {@link RotateByAction}, {@link ColorAction} or {@link AlphaAction}, but not a subclass, which has not been acted yet and
+ * targets the actor it is added to is taken by the scheduler when added to an actor in the stage, or when the actor is added to
+ * the stage. Its state is copied and the action is released, returning it to its {@link Action#setPool(com.badlogic.gdx.utils.Pool)
+ * pool} if it has one, so it must not be used afterward. Tweens nested in other actions, such as a sequence, are acted by their
+ * actor as usual.
+ * <p>
+ * Scheduled tweens are applied before the actors {@link Actor#act(float) act}, they aren't in {@link Actor#getActions()} but
+ * are counted by {@link Actor#hasActions()} and removed by {@link Actor#clearActions()}. The tweens of an actor removed from
+ * the stage are given back to it as actions by the next update, unless it is added back before, or right away when it is added
+ * to another stage or the stage is {@link Stage#clear() cleared}. They are scheduled again when the actor is added to a stage
+ * scheduling tweens.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class TweenScheduler {
+	private static final int MOVE_TO = 0, MOVE_BY = 1, SCALE_TO = 2, SCALE_BY = 3, ROTATE_TO = 4, ROTATE_BY = 5, COLOR = 6,
+			ALPHA = 7;
+	private static final int REVERSE = 1, BEGAN = 1 << 1, SHORTEST_DIRECTION = 1 << 2;
+
+	/**
+	 * Number of values per tween: the start values, or the last percent for relative tweens, followed by the end values, or the
+	 * amounts for relative tweens.
+	 */
+	private static final int STRIDE = 8, END = 4;
+
+	final @Null Stage stage;
+
+	private int size;
+	private Actor[] actors;
+	private byte[] types, flags;
+	private int[] alignments;
+	private float[] times, durations;
+	private Interpolation[] interpolations;
+	private Color[] colors;
+	private float[] values;
+
+	TweenScheduler(@Null Stage stage, int capacity) {
+		this.stage = stage;
+		actors = new Actor[capacity];
+		types = new byte[capacity];
+		flags = new byte[capacity];
+		alignments = new int[capacity];
+		times = new float[capacity];
+		durations = new float[capacity];
+		interpolations = new Interpolation[capacity];
+		colors = new Color[capacity];
+		values = new float[capacity * STRIDE];
+	}
+
+	/**
+	 * Applies the scheduled tweens and removes those which are complete. Called by {@link Stage#act(float)}.
+	 *
+	 * @param delta Time in seconds since the last frame.
+	 */
+	public void update(float delta) {
+		if(size == 0)
+			return;
+		if(stage != null && stage.getActionsRequestRendering())
+			Gdx.graphics.requestRendering();
+
+		// Tweens are compacted in place, keeping their order. Tweens scheduled while updating are appended and updated too.
+		boolean timeScaled = stage != null && stage.timeScaledActors > 0;
+		int i = 0, kept = 0;
+		try {
+			for(; i < size; i++) {
+				Actor actor = actors[i];
+				if(actor == null)
+					continue;
+				if(stage != null && actor.getStage() != stage) {
+					giveBack(i);
+					continue;
+				}
+				if(step(i, actor, timeScaled ? scaleDelta(actor, delta) : delta)) {
+					if(actors[i] == actor)
+						release(i);
+					continue;
+				}
+				if(actors[i] == null)
+					continue;
+				if(kept != i)
+					move(i, kept);
+				kept++;
+			}
+		} catch(RuntimeException ex) {
+			Actor actor = actors[i];
+			String context = actor == null ? "null" : actor.toString();
+			throw new RuntimeException("Actor: " + context.substring(0, Math.min(context.length(), 128)), ex);
+		} finally {
+			for(; i < size; i++) {
+				if(actors[i] == null)
+					continue;
+				if(kept != i)
+					move(i, kept);
+				kept++;
+			}
+			size = kept;
+		}
+	}
+
+	/**
+	 * Returns the number of scheduled tweens, including those cancelled since the last update.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Schedules the action if it is a tween the scheduler can act.
+	 *
+	 * @return true if the action was scheduled and released
+	 */
+	boolean add(Actor actor, Action action) {
+		int type = typeOf(actor, action);
+		if(type == -1)
+			return false;
+		add(actor, (TemporalAction)action, type);
+		return true;
+	}
+
+	/**
+	 * Schedules the tweens in the actions of the actor, called when the actor is added to the stage.
+	 */
+	void addActions(Actor actor) {
+		Array<Action> actions = actor.getActions();
+		for(int i = 0; i < actions.size; i++) {
+			Action action = actions.get(i);
+			if(action instanceof Tween) {
+				if(actor.tweenScheduler != null && actor.tweenScheduler != this)
+					continue;
+				TweenScheduler tween = ((Tween)action).tween;
+				if(tween.size == 1)
+					tween.transfer(0, this);
+			} else {
+				int type = typeOf(actor, action);
+				if(type == -1)
+					continue;
+				add(actor, (TemporalAction)action, type);
+			}
+			actions.removeIndex(i--);
+			action.setActor(null);
+		}
+		actor.updateActing();
+	}
+
+	/**
+	 * Removes the scheduled tweens of the actor.
+	 */
+	void cancel(Actor actor) {
+		for(int i = 0, n = size; i < n && actor.tweenCount > 0; i++) {
+			if(actors[i] == actor)
+				release(i);
+		}
+	}
+
+	/**
+	 * Gives the scheduled tweens of the actor back to it as actions, called when it is added to another stage.
+	 */
+	void giveBack(Actor actor) {
+		for(int i = 0, n = size; i < n && actor.tweenCount > 0; i++) {
+			if(actors[i] == actor)
+				giveBack(i);
+		}
+	}
+
+	/**
+	 * Gives the scheduled tweens of the actors no longer in the stage back to them as actions, called when the stage is cleared.
+	 */
+	void giveBackRemoved() {
+		for(int i = 0, n = size; i < n; i++) {
+			Actor actor = actors[i];
+			if(actor != null && actor.getStage() != stage)
+				giveBack(i);
+		}
+	}
+
+	/**
+	 * Gives all scheduled tweens back to their actors as actions, called when tween scheduling is disabled.
+	 */
+	void removeAll() {
+		for(int i = 0, n = size; i < n; i++) {
+			if(actors[i] != null)
+				giveBack(i);
+		}
+		size = 0;
+	}
+
+	private int typeOf(Actor actor, Action action) {
+		if(!(action instanceof TemporalAction))
+			return -1;
+		TemporalAction temporal = (TemporalAction)action;
+		if(temporal.getTime() != 0 || temporal.isComplete())
+			return -1;
+		Actor target = action.getTarget();
+		if(target != null && target != actor)
+			return -1;
+		if(actor.tweenScheduler != null && actor.tweenScheduler != this)
+			return -1; // Still scheduled by the stage the actor was removed from.
+
+		Class<?> type = action.getClass();
+		if(type == MoveToAction.class)
+			return MOVE_TO;
+		if(type == MoveByAction.class)
+			return MOVE_BY;
+		if(type == ScaleToAction.class)
+			return SCALE_TO;
+		if(type == ScaleByAction.class)
+			return SCALE_BY;
+		if(type == RotateToAction.class)
+			return ROTATE_TO;
+		if(type == RotateByAction.class)
+			return ROTATE_BY;
+		if(type == ColorAction.class)
+			return COLOR;
+		if(type == AlphaAction.class)
+			return ALPHA;
+		return -1;
+	}
+
+	private void add(Actor actor, TemporalAction action, int type) {
+		int i = size;
+		ensureCapacity(i + 1);
+		int v = i * STRIDE + END, alignment = 0, flags = action.isReverse() ? REVERSE : 0;
+		Color color = null;
+		switch(type) {
+			case MOVE_TO:
+				MoveToAction moveTo = (MoveToAction)action;
+				values[v] = moveTo.getX();
+				values[v + 1] = moveTo.getY();
+				alignment = moveTo.getAlignment();
+				break;
+			case MOVE_BY:
+				MoveByAction moveBy = (MoveByAction)action;
+				values[v] = moveBy.getAmountX();
+				values[v + 1] = moveBy.getAmountY();
+				break;
+			case SCALE_TO:
+				ScaleToAction scaleTo = (ScaleToAction)action;
+				values[v] = scaleTo.getX();
+				values[v + 1] = scaleTo.getY();
+				break;
+			case SCALE_BY:
+				ScaleByAction scaleBy = (ScaleByAction)action;
+				values[v] = scaleBy.getAmountX();
+				values[v + 1] = scaleBy.getAmountY();
+				break;
+			case ROTATE_TO:
+				RotateToAction rotateTo = (RotateToAction)action;
+				values[v] = rotateTo.getRotation();
+				if(rotateTo.isUseShortestDirection())
+					flags |= SHORTEST_DIRECTION;
+				break;
+			case ROTATE_BY:
+				values[v] = ((RotateByAction)action).getAmount();
+				break;
+			case COLOR:
+				ColorAction colorAction = (ColorAction)action;
+				Color end = colorAction.getEndColor();
+				values[v] = end.r;
+				values[v + 1] = end.g;
+				values[v + 2] = end.b;
+				values[v + 3] = end.a;
+				color = colorAction.getColor();
+				break;
+			case ALPHA:
+				AlphaAction alpha = (AlphaAction)action;
+				values[v] = alpha.getAlpha();
+				color = alpha.getColor();
+				break;
+		}
+		actors[i] = actor;
+		types[i] = (byte)type;
+		this.flags[i] = (byte)flags;
+		alignments[i] = alignment;
+		times[i] = 0;
+		durations[i] = action.getDuration();
+		interpolations[i] = action.getInterpolation();
+		colors[i] = color;
+		size++;
+		if(stage != null) {
+			actor.tweenScheduler = this;
+			actor.tweenCount++;
+		}
+		action.setActor(null);
+	}
+
+	/**
+	 * Applies the tween at the specified index.
+	 *
+	 * @return true if the tween is complete
+	 */
+	private boolean step(int i, Actor actor, float delta) {
+		float[] values = this.values;
+		int type = types[i], flags = this.flags[i], v = i * STRIDE;
+		if((flags & BEGAN) == 0) {
+			begin(i, actor, type, v);
+			this.flags[i] = (byte)(flags |= BEGAN);
+		}
+
+		float time = times[i] += delta, duration = durations[i];
+		boolean complete = time >= duration;
+		float percent = complete ? 1 : time / duration;
+		Interpolation interpolation = interpolations[i];
+		if(interpolation != null)
+			percent = interpolation.apply(percent);
+		if((flags & REVERSE) != 0)
+			percent = 1 - percent;
+
+		int e = v + END;
+		switch(type) {
+			case MOVE_TO:
+				if(percent == 0)
+					actor.setPosition(values[v], values[v + 1], alignments[i]);
+				else if(percent == 1)
+					actor.setPosition(values[e], values[e + 1], alignments[i]);
+				else {
+					actor.setPosition(values[v] + (values[e] - values[v]) * percent,
+							values[v + 1] + (values[e + 1] - values[v + 1]) * percent, alignments[i]);
+				}
+				break;
+			case SCALE_TO:
+				if(percent == 0)
+					actor.setScale(values[v], values[v + 1]);
+				else if(percent == 1)
+					actor.setScale(values[e], values[e + 1]);
+				else {
+					actor.setScale(values[v] + (values[e] - values[v]) * percent,
+							values[v + 1] + (values[e + 1] - values[v + 1]) * percent);
+				}
+				break;
+			case ROTATE_TO:
+				if(percent == 0)
+					actor.setRotation(values[v]);
+				else if(percent == 1)
+					actor.setRotation(values[e]);
+				else if((flags & SHORTEST_DIRECTION) != 0)
+					actor.setRotation(MathUtils.lerpAngleDeg(values[v], values[e], percent));
+				else
+					actor.setRotation(values[v] + (values[e] - values[v]) * percent);
+				break;
+			case MOVE_BY:
+			case SCALE_BY:
+			case ROTATE_BY:
+				float percentDelta = percent - values[v];
+				values[v] = percent;
+				if(type == MOVE_BY)
+					actor.moveBy(values[e] * percentDelta, values[e + 1] * percentDelta);
+				else if(type == SCALE_BY)
+					actor.scaleBy(values[e] * percentDelta, values[e + 1] * percentDelta);
+				else
+					actor.rotateBy(values[e] * percentDelta);
+				break;
+			case COLOR:
+				Color color = colors[i];
+				if(percent == 0)
+					color.set(values[v], values[v + 1], values[v + 2], values[v + 3]);
+				else if(percent == 1)
+					color.set(values[e], values[e + 1], values[e + 2], values[e + 3]);
+				else {
+					color.set(values[v] + (values[e] - values[v]) * percent, values[v + 1] + (values[e + 1] - values[v + 1]) * percent,
+							values[v + 2] + (values[e + 2] - values[v + 2]) * percent,
+							values[v + 3] + (values[e + 3] - values[v + 3]) * percent);
+				}
+				if(actor.parent != null)
+					actor.parent.invalidateRenderCache();
+				break;
+			case ALPHA:
+				Color alphaColor = colors[i];
+				if(percent == 0)
+					alphaColor.a = values[v];
+				else if(percent == 1)
+					alphaColor.a = values[e];
+				else
+					alphaColor.a = values[v] + (values[e] - values[v]) * percent;
+				if(actor.parent != null)
+					actor.parent.invalidateRenderCache();
+				break;
+		}
+		return complete;
+	}
+
+	/**
+	 * Returns the delta multiplied by the {@link Actor#setTimeScale(float) time scales} of the ascendants of the actor, from the
+	 * root, then of the actor, as the delta given to the actor's {@link Actor#act(float)}.
+	 */
+	private static float scaleDelta(Actor actor, float delta) {
+		if(actor.parent != null)
+			delta = scaleDelta(actor.parent, delta);
+		return delta * actor.timeScale;
+	}
+
+	/**
+	 * Queries the starting state of the actor, the first time the tween is applied.
+	 */
+	private void begin(int i, Actor actor, int type, int v) {
+		float[] values = this.values;
+		switch(type) {
+			case MOVE_TO:
+				values[v] = actor.getX(alignments[i]);
+				values[v + 1] = actor.getY(alignments[i]);
+				break;
+			case SCALE_TO:
+				values[v] = actor.getScaleX();
+				values[v + 1] = actor.getScaleY();
+				break;
+			case ROTATE_TO:
+				values[v] = actor.getRotation();
+				break;
+			case MOVE_BY:
+			case SCALE_BY:
+			case ROTATE_BY:
+				values[v] = 0;
+				break;
+			case COLOR:
+			case ALPHA:
+				Color color = colors[i];
+				if(color == null)
+					colors[i] = color = actor.getColor();
+				values[v] = type == ALPHA ? color.a : color.r;
+				values[v + 1] = color.g;
+				values[v + 2] = color.b;
+				values[v + 3] = color.a;
+				break;
+		}
+	}
+
+	/**
+	 * Appends the tween at the specified index to another scheduler. The tween is left in this scheduler.
+	 */
+	private void transfer(int i, TweenScheduler to) {
+		int j = to.size;
+		to.ensureCapacity(j + 1);
+		to.actors[j] = actors[i];
+		to.types[j] = types[i];
+		to.flags[j] = flags[i];
+		to.alignments[j] = alignments[i];
+		to.times[j] = times[i];
+		to.durations[j] = durations[i];
+		to.interpolations[j] = interpolations[i];
+		to.colors[j] = colors[i];
+		System.arraycopy(values, i * STRIDE, to.values, j * STRIDE, STRIDE);
+		to.size++;
+		if(to.stage != null) {
+			Actor actor = actors[i];
+			actor.tweenScheduler = to;
+			actor.tweenCount++;
+		}
+	}
+
+	private void move(int from, int to) {
+		actors[to] = actors[from];
+		types[to] = types[from];
+		flags[to] = flags[from];
+		alignments[to] = alignments[from];
+		times[to] = times[from];
+		durations[to] = durations[from];
+		interpolations[to] = interpolations[from];
+		colors[to] = colors[from];
+		System.arraycopy(values, from * STRIDE, values, to * STRIDE, STRIDE);
+		actors[from] = null;
+		interpolations[from] = null;
+		colors[from] = null;
+	}
+
+	/**
+	 * Gives the tween at the specified index back to its actor as an action, when the actor is no longer in the stage.
+	 */
+	private void giveBack(int i) {
+		Actor actor = actors[i];
+		Tween tween = new Tween();
+		transfer(i, tween.tween);
+		tween.setActor(actor);
+		actor.getActions().add(tween);
+		actor.updateActing();
+		release(i);
+	}
+
+	/**
+	 * Clears the references of the tween at the specified index, which is skipped and then removed by the next update.
+	 */
+	private void release(int i) {
+		if(stage != null) {
+			Actor actor = actors[i];
+			if(--actor.tweenCount == 0)
+				actor.tweenScheduler = null;
+		}
+		actors[i] = null;
+		interpolations[i] = null;
+		colors[i] = null;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if(capacity <= actors.length)
+			return;
+		capacity = Math.max(capacity, actors.length * 2);
+		actors = Arrays.copyOf(actors, capacity);
+		types = Arrays.copyOf(types, capacity);
+		flags = Arrays.copyOf(flags, capacity);
+		alignments = Arrays.copyOf(alignments, capacity);
+		times = Arrays.copyOf(times, capacity);
+		durations = Arrays.copyOf(durations, capacity);
+		interpolations = Arrays.copyOf(interpolations, capacity);
+		colors = Arrays.copyOf(colors, capacity);
+		values = Arrays.copyOf(values, capacity * STRIDE);
+	}
+
+	/**
+	 * A tween given back to its actor when removed from the stage, acted by a scheduler holding only this tween.
+	 */
+	private static class Tween extends Action {
+		final TweenScheduler tween = new TweenScheduler(null, 1);
+
+		public boolean act(float delta) {
+			tween.update(delta);
+			return tween.size == 0;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package me.winter.scene2dplus.actions;
+
+import com.badlogic.gdx.utils.Pool;
+import me.winter.scene2dplus.Action;
+
+import java.util.function.Supplier;
+
+/**
+ * A pool of actions of one type, which sets itself as the {@link Action#setPool(Pool) pool} of the actions it returns and keeps
+ * statistics to size it. Unlike {@link Pool#max}, the {@link #setCapacity(int) capacity} can be changed and the pool can be
+ * {@link #fill(int) pre-warmed} up to it. See {@link ActionPools} for the pools used by {@link Actions}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class ActionPool<T extends Action> extends Pool<T> {
+	private final Class<T> type;
+	private final Supplier<T> factory;
+	private int capacity;
+
+	private int obtained, freed, inUse, peakInUse, misses, discarded;
+
+	/**
+	 * @param factory  Creates the actions when the pool is empty.
+	 * @param capacity The maximum number of free actions kept by the pool.
+	 */
+	public ActionPool(Class<T> type, Supplier<T> factory, int capacity) {
+		super(Math.min(capacity, 16));
+		this.type = type;
+		this.factory = factory;
+		this.capacity = capacity;
+	}
+
+	protected T newObject() {
+		return factory.get();
+	}
+
+	/**
+	 * Returns a free action, or a new one if the pool is empty, with this pool as its {@link Action#setPool(Pool) pool}.
+	 */
+	public T obtain() {
+		if(getFree() == 0)
+			misses++;
+		T action = super.obtain();
+		action.setPool(this);
+		obtained++;
+		if(++inUse > peakInUse)
+			peakInUse = inUse;
+		return action;
+	}
+
+	/**
+	 * Resets the action and keeps it for reuse, unless the pool already holds its {@link #setCapacity(int) capacity} of free
+	 * actions, in which case the action is discarded.
+	 */
+	public void free(T action) {
+		if(action == null)
+			throw new IllegalArgumentException("action cannot be null.");
+		freed++;
+		if(inUse > 0)
+			inUse--;
+		if(getFree() >= capacity) {
+			discarded++;
+			reset(action);
+			return;
+		}
+		super.free(action);
+	}
+
+	/**
+	 * Creates actions until the pool holds the specified number of free actions, or its {@link #setCapacity(int) capacity}.
+	 * Called at startup to avoid allocating actions when they are first needed.
+	 */
+	public void fill(int size) {
+		super.fill(Math.min(size, capacity) - getFree());
+	}
+
+	public Class<T> getType() {
+		return type;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Sets the maximum number of free actions kept by the pool. Free actions above the new capacity are discarded.
+	 */
+	public void setCapacity(int capacity) {
+		if(capacity < 0)
+			throw new IllegalArgumentException("capacity cannot be < 0: " + capacity);
+		this.capacity = capacity;
+		for(int i = getFree() - capacity; i > 0; i--) {
+			super.obtain();
+			discarded++;
+		}
+	}
+
+	/**
+	 * Returns the number of actions obtained from the pool since the statistics were {@link #resetStatistics() reset}.
+	 */
+	public int getObtained() {
+		return obtained;
+	}
+
+	/**
+	 * Returns the number of actions returned to the pool since the statistics were {@link #resetStatistics() reset}, including
+	 * those discarded.
+	 */
+	public int getFreed() {
+		return freed;
+	}
+
+	/**
+	 * Returns the number of actions obtained and not yet freed.
+	 */
+	public int getInUse() {
+		return inUse;
+	}
+
+	/**
+	 * Returns the highest number of actions in use at once since the statistics were {@link #resetStatistics() reset}, the
+	 * capacity needed for the pool to never allocate.
+	 */
+	public int getPeakInUse() {
+		return peakInUse;
+	}
+
+	/**
+	 * Returns the number of times an action was obtained while the pool was empty, so a new one was allocated.
+	 */
+	public int getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of actions freed while the pool was full, so they were left for garbage collection.
+	 */
+	public int getDiscarded() {
+		return discarded;
+	}
+
+	/**
+	 * Resets the counters. The actions in use are still counted, and are the new peak.
+	 */
+	public void resetStatistics() {
+		obtained = 0;
+		freed = 0;
+		peakInUse = inUse;
+		misses = 0;
+		discarded = 0;
+	}
+
+	public String toString() {
+		return type.getSimpleName() + " pool: " + getFree() + " free, " + inUse + " in use, " + peakInUse + " peak, " + misses
+				+ " misses";
+	}
+}
@@ -0,0 +1,111 @@
+package me.winter.scene2dplus.actions;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.Constructor;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+import me.winter.scene2dplus.Action;
+
+import java.util.function.Supplier;
+
+/**
+ * Registry of the {@link ActionPool pools} of each action type used by {@link Actions}. The pools of the actions created by
+ * {@link Actions} are created when it is loaded, so they can be looked up once and {@link #fill(Class, int) pre-warmed} at
+ * startup, their {@link ActionPool#setCapacity(int) capacity} set for spikes and their statistics inspected.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public final class ActionPools {
+	/**
+	 * Capacity of the pools created by the registry, the same as the {@link com.badlogic.gdx.utils.Pools} default.
+	 */
+	public static int defaultCapacity = 100;
+
+	private static final ObjectMap<Class<?>, ActionPool<?>> pools = new ObjectMap<>();
+
+	private ActionPools() {}
+
+	/**
+	 * Returns the pool for the action type, creating it if necessary. The actions are created with the public no-arg
+	 * constructor of the type.
+	 */
+	public static <T extends Action> ActionPool<T> get(Class<T> type) {
+		@SuppressWarnings("unchecked")
+		ActionPool<T> pool = (ActionPool<T>)pools.get(type);
+		if(pool == null)
+			pool = get(type, newFactory(type));
+		return pool;
+	}
+
+	/**
+	 * Returns the pool for the action type, creating it with the specified factory if necessary.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Action> ActionPool<T> get(Class<T> type, Supplier<T> factory) {
+		ActionPool<T> pool = (ActionPool<T>)pools.get(type);
+		if(pool == null) {
+			pool = new ActionPool<>(type, factory, defaultCapacity);
+			pools.put(type, pool);
+		}
+		return pool;
+	}
+
+	/**
+	 * Sets the capacity of the pool for the action type and fills it with the specified number of free actions.
+	 *
+	 * @see ActionPool#setCapacity(int)
+	 * @see ActionPool#fill(int)
+	 */
+	public static void fill(Class<? extends Action> type, int size, int capacity) {
+		ActionPool<?> pool = get(type);
+		pool.setCapacity(capacity);
+		pool.fill(size);
+	}
+
+	/**
+	 * Fills the pool for the action type with the specified number of free actions, up to its capacity.
+	 *
+	 * @see ActionPool#fill(int)
+	 */
+	public static void fill(Class<? extends Action> type, int size) {
+		get(type).fill(size);
+	}
+
+	/**
+	 * Returns the pools of the registry.
+	 */
+	public static Array<ActionPool<?>> getPools() {
+		return pools.values().toArray();
+	}
+
+	/**
+	 * Resets the statistics of every pool.
+	 *
+	 * @see ActionPool#resetStatistics()
+	 */
+	public static void resetStatistics() {
+		for(ActionPool<?> pool : pools.values())
+			pool.resetStatistics();
+	}
+
+	private static <T extends Action> Supplier<T> newFactory(Class<T> type) {
+		Constructor constructor;
+		try {
+			constructor = ClassReflection.getConstructor(type);
+		} catch(ReflectionException ex) {
+			throw new GdxRuntimeException("Class cannot be created (missing no-arg constructor): " + type.getName(), ex);
+		}
+		constructor.setAccessible(true);
+		return () -> {
+			try {
+				return type.cast(constructor.newInstance());
+			} catch(ReflectionException ex) {
+				throw new GdxRuntimeException("Unable to create new instance: " + type.getName(), ex);
+			}
+		};
+	}
+}
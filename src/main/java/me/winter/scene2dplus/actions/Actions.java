@@ -19,8 +19,6 @@ package me.winter.scene2dplus.actions;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.utils.Null;
-import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.Pools;
 import me.winter.scene2dplus.Action;
 import me.winter.scene2dplus.Actor;
 import me.winter.scene2dplus.EventListener;
@@ -32,37 +30,65 @@ import me.winter.scene2dplus.Touchable;
  * @author Nathan Sweet
  */
 public class Actions {
+	private static final ActionPool<AddAction> addPool = ActionPools.get(AddAction.class, AddAction::new);
+	private static final ActionPool<AddListenerAction> addListenerPool = ActionPools.get(AddListenerAction.class,
+			AddListenerAction::new);
+	private static final ActionPool<AfterAction> afterPool = ActionPools.get(AfterAction.class, AfterAction::new);
+	private static final ActionPool<AlphaAction> alphaPool = ActionPools.get(AlphaAction.class, AlphaAction::new);
+	private static final ActionPool<ColorAction> colorPool = ActionPools.get(ColorAction.class, ColorAction::new);
+	private static final ActionPool<DelayAction> delayPool = ActionPools.get(DelayAction.class, DelayAction::new);
+	private static final ActionPool<LayoutAction> layoutPool = ActionPools.get(LayoutAction.class, LayoutAction::new);
+	private static final ActionPool<MoveByAction> moveByPool = ActionPools.get(MoveByAction.class, MoveByAction::new);
+	private static final ActionPool<MoveToAction> moveToPool = ActionPools.get(MoveToAction.class, MoveToAction::new);
+	private static final ActionPool<ParallelAction> parallelPool = ActionPools.get(ParallelAction.class, ParallelAction::new);
+	private static final ActionPool<RemoveAction> removePool = ActionPools.get(RemoveAction.class, RemoveAction::new);
+	private static final ActionPool<RemoveActorAction> removeActorPool = ActionPools.get(RemoveActorAction.class,
+			RemoveActorAction::new);
+	private static final ActionPool<RemoveListenerAction> removeListenerPool = ActionPools.get(RemoveListenerAction.class,
+			RemoveListenerAction::new);
+	private static final ActionPool<RepeatAction> repeatPool = ActionPools.get(RepeatAction.class, RepeatAction::new);
+	private static final ActionPool<RotateByAction> rotateByPool = ActionPools.get(RotateByAction.class, RotateByAction::new);
+	private static final ActionPool<RotateToAction> rotateToPool = ActionPools.get(RotateToAction.class, RotateToAction::new);
+	private static final ActionPool<RunnableAction> runnablePool = ActionPools.get(RunnableAction.class, RunnableAction::new);
+	private static final ActionPool<ScaleByAction> scaleByPool = ActionPools.get(ScaleByAction.class, ScaleByAction::new);
+	private static final ActionPool<ScaleToAction> scaleToPool = ActionPools.get(ScaleToAction.class, ScaleToAction::new);
+	private static final ActionPool<SequenceAction> sequencePool = ActionPools.get(SequenceAction.class, SequenceAction::new);
+	private static final ActionPool<SizeByAction> sizeByPool = ActionPools.get(SizeByAction.class, SizeByAction::new);
+	private static final ActionPool<SizeToAction> sizeToPool = ActionPools.get(SizeToAction.class, SizeToAction::new);
+	private static final ActionPool<TimeScaleAction> timeScalePool = ActionPools.get(TimeScaleAction.class,
+			TimeScaleAction::new);
+	private static final ActionPool<TouchableAction> touchablePool = ActionPools.get(TouchableAction.class,
+			TouchableAction::new);
+	private static final ActionPool<VisibleAction> visiblePool = ActionPools.get(VisibleAction.class, VisibleAction::new);
+
 	/**
-	 * Returns a new or pooled action of the specified type.
+	 * Returns a new or pooled action of the specified type, from its {@link ActionPools#get(Class) pool}.
 	 */
 	public static <T extends Action> T action(Class<T> type) {
-		Pool<T> pool = Pools.get(type);
-		T action = pool.obtain();
-		action.setPool(pool);
-		return action;
+		return ActionPools.get(type).obtain();
 	}
 
 	public static AddAction addAction(Action action) {
-		AddAction addAction = action(AddAction.class);
+		AddAction addAction = addPool.obtain();
 		addAction.setAction(action);
 		return addAction;
 	}
 
 	public static AddAction addAction(Action action, Actor targetActor) {
-		AddAction addAction = action(AddAction.class);
+		AddAction addAction = addPool.obtain();
 		addAction.setTarget(targetActor);
 		addAction.setAction(action);
 		return addAction;
 	}
 
 	public static RemoveAction removeAction(Action action) {
-		RemoveAction removeAction = action(RemoveAction.class);
+		RemoveAction removeAction = removePool.obtain();
 		removeAction.setAction(action);
 		return removeAction;
 	}
 
 	public static RemoveAction removeAction(Action action, Actor targetActor) {
-		RemoveAction removeAction = action(RemoveAction.class);
+		RemoveAction removeAction = removePool.obtain();
 		removeAction.setTarget(targetActor);
 		removeAction.setAction(action);
 		return removeAction;
@@ -80,7 +106,7 @@ public class Actions {
 	}
 
 	public static MoveToAction moveTo(float x, float y, float duration, @Null Interpolation interpolation) {
-		MoveToAction action = action(MoveToAction.class);
+		MoveToAction action = moveToPool.obtain();
 		action.setPosition(x, y);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -96,7 +122,7 @@ public class Actions {
 	}
 
 	public static MoveToAction moveToAligned(float x, float y, int alignment, float duration, @Null Interpolation interpolation) {
-		MoveToAction action = action(MoveToAction.class);
+		MoveToAction action = moveToPool.obtain();
 		action.setPosition(x, y, alignment);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -115,7 +141,7 @@ public class Actions {
 	}
 
 	public static MoveByAction moveBy(float amountX, float amountY, float duration, @Null Interpolation interpolation) {
-		MoveByAction action = action(MoveByAction.class);
+		MoveByAction action = moveByPool.obtain();
 		action.setAmount(amountX, amountY);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -134,7 +160,7 @@ public class Actions {
 	}
 
 	public static SizeToAction sizeTo(float x, float y, float duration, @Null Interpolation interpolation) {
-		SizeToAction action = action(SizeToAction.class);
+		SizeToAction action = sizeToPool.obtain();
 		action.setSize(x, y);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -153,7 +179,7 @@ public class Actions {
 	}
 
 	public static SizeByAction sizeBy(float amountX, float amountY, float duration, @Null Interpolation interpolation) {
-		SizeByAction action = action(SizeByAction.class);
+		SizeByAction action = sizeByPool.obtain();
 		action.setAmount(amountX, amountY);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -172,7 +198,7 @@ public class Actions {
 	}
 
 	public static ScaleToAction scaleTo(float x, float y, float duration, @Null Interpolation interpolation) {
-		ScaleToAction action = action(ScaleToAction.class);
+		ScaleToAction action = scaleToPool.obtain();
 		action.setScale(x, y);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -191,7 +217,7 @@ public class Actions {
 	}
 
 	public static ScaleByAction scaleBy(float amountX, float amountY, float duration, @Null Interpolation interpolation) {
-		ScaleByAction action = action(ScaleByAction.class);
+		ScaleByAction action = scaleByPool.obtain();
 		action.setAmount(amountX, amountY);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -210,7 +236,7 @@ public class Actions {
 	}
 
 	public static RotateToAction rotateTo(float rotation, float duration, @Null Interpolation interpolation) {
-		RotateToAction action = action(RotateToAction.class);
+		RotateToAction action = rotateToPool.obtain();
 		action.setRotation(rotation);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -229,7 +255,7 @@ public class Actions {
 	}
 
 	public static RotateByAction rotateBy(float rotationAmount, float duration, @Null Interpolation interpolation) {
-		RotateByAction action = action(RotateByAction.class);
+		RotateByAction action = rotateByPool.obtain();
 		action.setAmount(rotationAmount);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -254,7 +280,7 @@ public class Actions {
 	 * Transitions from the color at the time this action starts to the specified color.
 	 */
 	public static ColorAction color(Color color, float duration, @Null Interpolation interpolation) {
-		ColorAction action = action(ColorAction.class);
+		ColorAction action = colorPool.obtain();
 		action.setEndColor(color);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -279,7 +305,7 @@ public class Actions {
 	 * Transitions from the alpha at the time this action starts to the specified alpha.
 	 */
 	public static AlphaAction alpha(float a, float duration, @Null Interpolation interpolation) {
-		AlphaAction action = action(AlphaAction.class);
+		AlphaAction action = alphaPool.obtain();
 		action.setAlpha(a);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -297,7 +323,7 @@ public class Actions {
 	 * Transitions from the alpha at the time this action starts to an alpha of 0.
 	 */
 	public static AlphaAction fadeOut(float duration, @Null Interpolation interpolation) {
-		AlphaAction action = action(AlphaAction.class);
+		AlphaAction action = alphaPool.obtain();
 		action.setAlpha(0);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -315,7 +341,7 @@ public class Actions {
 	 * Transitions from the alpha at the time this action starts to an alpha of 1.
 	 */
 	public static AlphaAction fadeIn(float duration, @Null Interpolation interpolation) {
-		AlphaAction action = action(AlphaAction.class);
+		AlphaAction action = alphaPool.obtain();
 		action.setAlpha(1);
 		action.setDuration(duration);
 		action.setInterpolation(interpolation);
@@ -331,62 +357,62 @@ public class Actions {
 	}
 
 	public static VisibleAction visible(boolean visible) {
-		VisibleAction action = action(VisibleAction.class);
+		VisibleAction action = visiblePool.obtain();
 		action.setVisible(visible);
 		return action;
 	}
 
 	public static TouchableAction touchable(Touchable touchable) {
-		TouchableAction action = action(TouchableAction.class);
+		TouchableAction action = touchablePool.obtain();
 		action.setTouchable(touchable);
 		return action;
 	}
 
 	public static RemoveActorAction removeActor() {
-		return action(RemoveActorAction.class);
+		return removeActorPool.obtain();
 	}
 
 	public static RemoveActorAction removeActor(Actor removeActor) {
-		RemoveActorAction action = action(RemoveActorAction.class);
+		RemoveActorAction action = removeActorPool.obtain();
 		action.setTarget(removeActor);
 		return action;
 	}
 
 	public static DelayAction delay(float duration) {
-		DelayAction action = action(DelayAction.class);
+		DelayAction action = delayPool.obtain();
 		action.setDuration(duration);
 		return action;
 	}
 
 	public static DelayAction delay(float duration, Action delayedAction) {
-		DelayAction action = action(DelayAction.class);
+		DelayAction action = delayPool.obtain();
 		action.setDuration(duration);
 		action.setAction(delayedAction);
 		return action;
 	}
 
 	public static TimeScaleAction timeScale(float scale, Action scaledAction) {
-		TimeScaleAction action = action(TimeScaleAction.class);
+		TimeScaleAction action = timeScalePool.obtain();
 		action.setScale(scale);
 		action.setAction(scaledAction);
 		return action;
 	}
 
 	public static SequenceAction sequence(Action action1) {
-		SequenceAction action = action(SequenceAction.class);
+		SequenceAction action = sequencePool.obtain();
 		action.addAction(action1);
 		return action;
 	}
 
 	public static SequenceAction sequence(Action action1, Action action2) {
-		SequenceAction action = action(SequenceAction.class);
+		SequenceAction action = sequencePool.obtain();
 		action.addAction(action1);
 		action.addAction(action2);
 		return action;
 	}
 
 	public static SequenceAction sequence(Action action1, Action action2, Action action3) {
-		SequenceAction action = action(SequenceAction.class);
+		SequenceAction action = sequencePool.obtain();
 		action.addAction(action1);
 		action.addAction(action2);
 		action.addAction(action3);
@@ -394,7 +420,7 @@ public class Actions {
 	}
 
 	public static SequenceAction sequence(Action action1, Action action2, Action action3, Action action4) {
-		SequenceAction action = action(SequenceAction.class);
+		SequenceAction action = sequencePool.obtain();
 		action.addAction(action1);
 		action.addAction(action2);
 		action.addAction(action3);
@@ -403,7 +429,7 @@ public class Actions {
 	}
 
 	public static SequenceAction sequence(Action action1, Action action2, Action action3, Action action4, Action action5) {
-		SequenceAction action = action(SequenceAction.class);
+		SequenceAction action = sequencePool.obtain();
 		action.addAction(action1);
 		action.addAction(action2);
 		action.addAction(action3);
@@ -413,31 +439,31 @@ public class Actions {
 	}
 
 	public static SequenceAction sequence(Action... actions) {
-		SequenceAction action = action(SequenceAction.class);
+		SequenceAction action = sequencePool.obtain();
 		for(Action value : actions)
 			action.addAction(value);
 		return action;
 	}
 
 	public static SequenceAction sequence() {
-		return action(SequenceAction.class);
+		return sequencePool.obtain();
 	}
 
 	public static ParallelAction parallel(Action action1) {
-		ParallelAction action = action(ParallelAction.class);
+		ParallelAction action = parallelPool.obtain();
 		action.addAction(action1);
 		return action;
 	}
 
 	public static ParallelAction parallel(Action action1, Action action2) {
-		ParallelAction action = action(ParallelAction.class);
+		ParallelAction action = parallelPool.obtain();
 		action.addAction(action1);
 		action.addAction(action2);
 		return action;
 	}
 
 	public static ParallelAction parallel(Action action1, Action action2, Action action3) {
-		ParallelAction action = action(ParallelAction.class);
+		ParallelAction action = parallelPool.obtain();
 		action.addAction(action1);
 		action.addAction(action2);
 		action.addAction(action3);
@@ -445,7 +471,7 @@ public class Actions {
 	}
 
 	public static ParallelAction parallel(Action action1, Action action2, Action action3, Action action4) {
-		ParallelAction action = action(ParallelAction.class);
+		ParallelAction action = parallelPool.obtain();
 		action.addAction(action1);
 		action.addAction(action2);
 		action.addAction(action3);
@@ -454,7 +480,7 @@ public class Actions {
 	}
 
 	public static ParallelAction parallel(Action action1, Action action2, Action action3, Action action4, Action action5) {
-		ParallelAction action = action(ParallelAction.class);
+		ParallelAction action = parallelPool.obtain();
 		action.addAction(action1);
 		action.addAction(action2);
 		action.addAction(action3);
@@ -464,57 +490,57 @@ public class Actions {
 	}
 
 	public static ParallelAction parallel(Action... actions) {
-		ParallelAction action = action(ParallelAction.class);
+		ParallelAction action = parallelPool.obtain();
 		for(Action value : actions)
 			action.addAction(value);
 		return action;
 	}
 
 	public static ParallelAction parallel() {
-		return action(ParallelAction.class);
+		return parallelPool.obtain();
 	}
 
 	public static RepeatAction repeat(int count, Action repeatedAction) {
-		RepeatAction action = action(RepeatAction.class);
+		RepeatAction action = repeatPool.obtain();
 		action.setCount(count);
 		action.setAction(repeatedAction);
 		return action;
 	}
 
 	public static RepeatAction forever(Action repeatedAction) {
-		RepeatAction action = action(RepeatAction.class);
+		RepeatAction action = repeatPool.obtain();
 		action.setCount(RepeatAction.FOREVER);
 		action.setAction(repeatedAction);
 		return action;
 	}
 
 	public static RunnableAction run(Runnable runnable) {
-		RunnableAction action = action(RunnableAction.class);
+		RunnableAction action = runnablePool.obtain();
 		action.setRunnable(runnable);
 		return action;
 	}
 
 	public static LayoutAction layout(boolean enabled) {
-		LayoutAction action = action(LayoutAction.class);
+		LayoutAction action = layoutPool.obtain();
 		action.setLayoutEnabled(enabled);
 		return action;
 	}
 
 	public static AfterAction after(Action action) {
-		AfterAction afterAction = action(AfterAction.class);
+		AfterAction afterAction = afterPool.obtain();
 		afterAction.setAction(action);
 		return afterAction;
 	}
 
 	public static AddListenerAction addListener(EventListener listener, boolean capture) {
-		AddListenerAction addAction = action(AddListenerAction.class);
+		AddListenerAction addAction = addListenerPool.obtain();
 		addAction.setListener(listener);
 		addAction.setCapture(capture);
 		return addAction;
 	}
 
 	public static AddListenerAction addListener(EventListener listener, boolean capture, Actor targetActor) {
-		AddListenerAction addAction = action(AddListenerAction.class);
+		AddListenerAction addAction = addListenerPool.obtain();
 		addAction.setTarget(targetActor);
 		addAction.setListener(listener);
 		addAction.setCapture(capture);
@@ -522,14 +548,14 @@ public class Actions {
 	}
 
 	public static RemoveListenerAction removeListener(EventListener listener, boolean capture) {
-		RemoveListenerAction addAction = action(RemoveListenerAction.class);
+		RemoveListenerAction addAction = removeListenerPool.obtain();
 		addAction.setListener(listener);
 		addAction.setCapture(capture);
 		return addAction;
 	}
 
 	public static RemoveListenerAction removeListener(EventListener listener, boolean capture, Actor targetActor) {
-		RemoveListenerAction addAction = action(RemoveListenerAction.class);
+		RemoveListenerAction addAction = removeListenerPool.obtain();
 		addAction.setTarget(targetActor);
 		addAction.setListener(listener);
 		addAction.setCapture(capture);
@@ -557,7 +583,7 @@ public class Actions {
 	}
 
 	public static SizeToAction sizeTo(float x, float y, int align, float duration, Interpolation interpolation) {
-		SizeToAction action = Actions.action(SizeToAction.class);
+		SizeToAction action = Actions.sizeToPool.obtain();
 		action.setSize(x, y);
 		action.setAlign(align);
 		action.setDuration(duration);
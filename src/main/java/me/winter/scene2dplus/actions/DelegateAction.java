@@ -56,8 +56,13 @@ public abstract class DelegateAction extends Action {
 			action.restart();
 	}
 
+	/**
+	 * Returns the wrapped action to its pool if it is still pooled, see {@link ParallelAction#reset()}.
+	 */
 	public void reset() {
 		super.reset();
+		if(action != null && action.getPool() != null)
+			action.setActor(null);
 		action = null;
 	}
 
@@ -90,8 +90,18 @@ public class ParallelAction extends Action {
 			actions.get(i).restart();
 	}
 
+	/**
+	 * Returns the actions still pooled to their pool, as they are when this action is removed from its actor, so actions
+	 * composed without being added to an actor aren't lost to their pools.
+	 */
 	public void reset() {
 		super.reset();
+		Array<Action> actions = this.actions;
+		for(int i = 0, n = actions.size; i < n; i++) {
+			Action action = actions.get(i);
+			if(action.getPool() != null)
+				action.setActor(null);
+		}
 		actions.clear();
 	}
 
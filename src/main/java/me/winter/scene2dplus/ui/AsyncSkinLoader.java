@@ -0,0 +1,336 @@
+package me.winter.scene2dplus.ui;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.TextureData.TextureDataType;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.ThreadUtils;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+
+/**
+ * Loads a {@link Skin} without blocking the main thread. The skin JSON and texture atlas are parsed, the fonts are read, the
+ * images are decoded and the resources are created on the threads of an {@link AsyncExecutor}, while {@link #update()} uploads
+ * the textures on the main thread, one per call, so that loading can be spread over frames and its progress shown.
+ * <p>
+ * The skin must not be used until loading is done. The serializers of {@link Skin#getJsonLoader(FileHandle)} are run on a thread
+ * of the executor and must not use OpenGL. The textures of fonts without regions in the skin are owned by the skin rather than
+ * by the fonts and are disposed with it.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class AsyncSkinLoader {
+	private static final int PARSE = 0, ATLAS = 1, FONTS = 2, BUILD = 3, DONE = 4;
+
+	private final Skin skin;
+	private final FileHandle skinFile;
+	private final @Null FileHandle atlasFile;
+	private final AsyncExecutor executor;
+
+	private int state = PARSE;
+	private AsyncResult<Void> task;
+	private @Null RuntimeException failure;
+
+	private JsonValue skinJson;
+	private @Null TextureAtlasData atlasData;
+	private final Array<Font> fonts = new Array<>();
+
+	/**
+	 * Images being decoded and textures uploaded for the atlas pages, then for the fonts without regions.
+	 */
+	private final Array<AsyncResult<TextureData>> textureData = new Array<>();
+	private final Array<Texture> textures = new Array<>();
+
+	private int steps, stepCount = 2;
+	private float progress;
+
+	/**
+	 * Starts loading a new skin containing the resources in the specified skin JSON file. If a file in the same directory with a
+	 * ".atlas" extension exists, it is loaded as a {@link TextureAtlas} and the texture regions added to the skin.
+	 *
+	 * @see Skin#Skin(FileHandle)
+	 */
+	public AsyncSkinLoader(FileHandle skinFile, AsyncExecutor executor) {
+		this(new Skin(), skinFile, skinFile.sibling(skinFile.nameWithoutExtension() + ".atlas"), executor);
+	}
+
+	/**
+	 * Starts adding all resources in the specified skin JSON file to the skin.
+	 *
+	 * @see Skin#load(FileHandle)
+	 */
+	public AsyncSkinLoader(Skin skin, FileHandle skinFile, AsyncExecutor executor) {
+		this(skin, skinFile, null, executor);
+	}
+
+	private AsyncSkinLoader(Skin skin, FileHandle skinFile, @Null FileHandle atlasFile, AsyncExecutor executor) {
+		this.skin = skin;
+		this.skinFile = skinFile;
+		this.atlasFile = atlasFile;
+		this.executor = executor;
+
+		task = executor.submit(() -> {
+			skinJson = new JsonReader().parse(skinFile);
+			if(atlasFile != null && atlasFile.exists())
+				atlasData = new TextureAtlasData(atlasFile, atlasFile.parent(), false);
+			findFonts();
+			return null;
+		});
+	}
+
+	/**
+	 * Continues loading, uploading at most one texture. Must be called on the main thread.
+	 *
+	 * @return true if loading is done
+	 * @throws GdxRuntimeException if loading failed, each time it is called after
+	 */
+	public boolean update() {
+		if(failure != null)
+			throw failure;
+		try {
+			return step();
+		} catch(RuntimeException ex) {
+			failure = ex;
+			disposeTextures();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Loads the skin, blocking until loading is done. Must be called on the main thread.
+	 */
+	public Skin finishLoading() {
+		while(!update())
+			ThreadUtils.yield();
+		return skin;
+	}
+
+	/**
+	 * Returns the progress of loading, between 0 and 1. The number of steps isn't known until the files are read, so this is an
+	 * estimate which never decreases.
+	 */
+	public float getProgress() {
+		return progress;
+	}
+
+	public boolean isDone() {
+		return state == DONE;
+	}
+
+	/**
+	 * Returns the skin being loaded, which must not be used until loading is done.
+	 */
+	public Skin getSkin() {
+		return skin;
+	}
+
+	public FileHandle getSkinFile() {
+		return skinFile;
+	}
+
+	private boolean step() {
+		switch(state) {
+			case PARSE:
+				if(!task.isDone())
+					return false;
+				task.get();
+				if(atlasData != null) {
+					for(Page page : atlasData.getPages())
+						textureData.add(loadTextureData(page.textureFile, page.format, page.useMipMaps));
+				}
+				for(Font font : fonts)
+					font.data = executor.submit(() -> new BitmapFontData(font.file, font.flip));
+				stepCount += textureData.size;
+				completeStep();
+				state = ATLAS;
+				return false;
+
+			case ATLAS:
+				if(uploadTexture())
+					return false;
+				if(atlasData != null) {
+					for(int i = 0; i < textures.size; i++)
+						atlasData.getPages().get(i).texture = textures.get(i);
+					TextureAtlas atlas = new TextureAtlas(atlasData);
+					atlasData = null;
+					textures.clear();
+					textureData.clear();
+					skin.atlas = atlas;
+					skin.addRegions(atlas);
+				}
+				for(Font font : fonts)
+					if(!font.data.isDone())
+						return false;
+
+				// Fonts with regions are created from them when the skin is built.
+				int imageCount = 0;
+				for(Font font : fonts) {
+					font.hasRegions = skin.hasFontRegions(font.file);
+					if(font.hasRegions)
+						continue;
+					font.firstImage = textureData.size;
+					for(FileHandle imageFile : Skin.getFontImageFiles(font.file, font.data.get()))
+						textureData.add(loadTextureData(imageFile, null, false));
+					font.imageCount = textureData.size - font.firstImage;
+					imageCount += font.imageCount;
+				}
+				stepCount += imageCount;
+				state = FONTS;
+				return false;
+
+			case FONTS:
+				if(uploadTexture())
+					return false;
+				IdentityMap<JsonValue, BitmapFontData> fontData = new IdentityMap<>(fonts.size);
+				IdentityMap<JsonValue, BitmapFont> loadedFonts = new IdentityMap<>(fonts.size);
+				for(Font font : fonts) {
+					BitmapFontData data = font.data.get();
+					fontData.put(font.json, data);
+					if(font.hasRegions)
+						continue;
+					Array<TextureRegion> regions = new Array<>(font.imageCount);
+					for(int i = font.firstImage, n = font.firstImage + font.imageCount; i < n; i++)
+						regions.add(new TextureRegion(textures.get(i)));
+					loadedFonts.put(font.json, new BitmapFont(data, regions, true));
+				}
+				skin.fontTextures.addAll(textures);
+				textures.clear();
+				textureData.clear();
+				skin.loadedFontData = fontData;
+				skin.loadedFonts = loadedFonts;
+
+				task = executor.submit(() -> {
+					skin.load(skinFile, skinJson);
+					return null;
+				});
+				state = BUILD;
+				return false;
+
+			case BUILD:
+				if(!task.isDone())
+					return false;
+				skin.loadedFontData = null;
+				skin.loadedFonts = null;
+				task.get();
+				completeStep();
+				state = DONE;
+				return true;
+
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * Finds the fonts of the skin JSON, as they will be read by the skin's BitmapFont serializer.
+	 */
+	private void findFonts() {
+		for(JsonValue valueMap = skinJson.child; valueMap != null; valueMap = valueMap.next) {
+			Class<?> type = skin.getJsonClassTags().get(valueMap.name);
+			if(type == null) {
+				try {
+					type = ClassReflection.forName(valueMap.name);
+				} catch(ReflectionException ex) {
+					continue; // Reported when the skin is built.
+				}
+			}
+			if(type != BitmapFont.class)
+				continue;
+
+			for(JsonValue valueEntry = valueMap.child; valueEntry != null; valueEntry = valueEntry.next) {
+				if(!valueEntry.isObject())
+					continue;
+				String path = valueEntry.getString("file", null);
+				if(path == null)
+					continue;
+				FileHandle fontFile = Skin.findFontFile(skinFile, path);
+				if(!fontFile.exists())
+					continue;
+
+				Font font = new Font();
+				font.json = valueEntry;
+				font.file = fontFile;
+				font.flip = valueEntry.getBoolean("flip", false);
+				fonts.add(font);
+			}
+		}
+	}
+
+	private AsyncResult<TextureData> loadTextureData(FileHandle file, @Null Format format, boolean useMipMaps) {
+		return executor.submit(() -> {
+			TextureData data = TextureData.Factory.loadFromFile(file, format, useMipMaps);
+			if(!data.isPrepared())
+				data.prepare();
+			return data;
+		});
+	}
+
+	/**
+	 * Uploads the next decoded image, if any.
+	 *
+	 * @return true if there are images left to upload
+	 */
+	private boolean uploadTexture() {
+		if(textures.size == textureData.size)
+			return false;
+		AsyncResult<TextureData> data = textureData.get(textures.size);
+		if(data.isDone()) {
+			textures.add(new Texture(data.get()));
+			completeStep();
+		}
+		return true;
+	}
+
+	private void completeStep() {
+		steps++;
+		progress = Math.max(progress, Math.min(steps / (float)stepCount, 1));
+	}
+
+	/**
+	 * Disposes the images and textures not yet given to the skin, which disposes the others.
+	 */
+	private void disposeTextures() {
+		for(Texture texture : textures)
+			texture.dispose();
+		for(int i = textures.size; i < textureData.size; i++) {
+			AsyncResult<TextureData> result = textureData.get(i);
+			if(!result.isDone())
+				continue;
+			try {
+				TextureData data = result.get();
+				if(data.getType() == TextureDataType.Pixmap && data.disposePixmap())
+					data.consumePixmap().dispose();
+			} catch(GdxRuntimeException ignored) {}
+		}
+		textures.clear();
+		textureData.clear();
+	}
+
+	/**
+	 * A font of the skin JSON and the images it loads when it has no regions in the skin.
+	 */
+	private static class Font {
+		JsonValue json;
+		FileHandle file;
+		boolean flip, hasRegions;
+		AsyncResult<BitmapFontData> data;
+		int firstImage, imageCount;
+	}
+}
@@ -0,0 +1,1234 @@
+package me.winter.scene2dplus.ui;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.NinePatch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.OrderedMap;
+import com.badlogic.gdx.utils.StreamUtils;
+import me.winter.scene2dplus.ui.Button.ButtonStyle;
+import me.winter.scene2dplus.ui.CheckBox.CheckBoxStyle;
+import me.winter.scene2dplus.ui.ImageButton.ImageButtonStyle;
+import me.winter.scene2dplus.ui.ImageTextButton.ImageTextButtonStyle;
+import me.winter.scene2dplus.ui.Label.LabelStyle;
+import me.winter.scene2dplus.ui.List.ListStyle;
+import me.winter.scene2dplus.ui.ProgressBar.ProgressBarStyle;
+import me.winter.scene2dplus.ui.ScrollPane.ScrollPaneStyle;
+import me.winter.scene2dplus.ui.SelectBox.SelectBoxStyle;
+import me.winter.scene2dplus.ui.Slider.SliderStyle;
+import me.winter.scene2dplus.ui.SplitPane.SplitPaneStyle;
+import me.winter.scene2dplus.ui.TextButton.TextButtonStyle;
+import me.winter.scene2dplus.ui.TextField.TextFieldStyle;
+import me.winter.scene2dplus.ui.TextTooltip.TextTooltipStyle;
+import me.winter.scene2dplus.ui.Touchpad.TouchpadStyle;
+import me.winter.scene2dplus.ui.Tree.TreeStyle;
+import me.winter.scene2dplus.ui.Window.WindowStyle;
+import me.winter.scene2dplus.utils.BaseDrawable;
+import me.winter.scene2dplus.utils.Drawable;
+import me.winter.scene2dplus.utils.NinePatchDrawable;
+import me.winter.scene2dplus.utils.SpriteDrawable;
+import me.winter.scene2dplus.utils.TiledDrawable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the resources of a loaded {@link Skin} in a compact binary format and reads them back without parsing JSON or using
+ * reflection, which loads skins much faster than {@link Skin#load(FileHandle)}. The binary file is typically written once at
+ * build time from the skin JSON, then read at runtime instead.
+ * <p>
+ * Colors, fonts, drawables and the styles with a {@link StyleSerializer} are written. Texture regions are not: the skin must
+ * already contain the regions of its atlas when it is read, and must have the same {@link Skin#setScale(float) scale} as when it
+ * was written. Drawables must either be drawables created from the regions of the skin, as by {@link Skin#getDrawable(String)},
+ * or tinted drawables, as created by the skin JSON's TintedDrawable objects. Fonts must have been loaded from a font file.
+ * <p>
+ * The scene2d styles have serializers. Serializers for other styles can be added with
+ * {@link #setSerializer(Class, StyleSerializer)}, before the skin is written or read.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class BinarySkin {
+	private static final int MAGIC = 0x53324442, VERSION = 1;
+	private static final byte NULL = 0, NAMED = 1, INLINE = 2;
+	private static final byte REGION_DRAWABLE = 0, TINTED_DRAWABLE = 1;
+
+	private static final ObjectMap<Class<?>, StyleSerializer<?>> serializers = new ObjectMap<>();
+	private static final ObjectMap<String, Class<?>> serializerTypes = new ObjectMap<>();
+
+	private BinarySkin() {}
+
+	/**
+	 * Writes the resources of the skin to the specified file.
+	 *
+	 * @throws GdxRuntimeException if a resource can't be written
+	 */
+	public static void write(Skin skin, FileHandle file) {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		SkinOutput output = new SkinOutput(skin, file, body);
+		DataOutput fileOutput = new DataOutput(new BufferedOutputStream(file.write(false)));
+		try {
+			output.writeSkin();
+
+			// The strings are written once, before the resources referencing them.
+			fileOutput.writeInt(MAGIC);
+			fileOutput.writeInt(VERSION);
+			fileOutput.writeInt(output.strings.size, true);
+			for(String string : output.strings.orderedKeys()) {
+				byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+				fileOutput.writeInt(bytes.length, true);
+				fileOutput.write(bytes);
+			}
+			body.writeTo(fileOutput);
+		} catch(IOException ex) {
+			throw new GdxRuntimeException("Error writing binary skin: " + file, ex);
+		} finally {
+			StreamUtils.closeQuietly(fileOutput);
+		}
+	}
+
+	/**
+	 * Adds the resources in the specified binary skin file to the skin.
+	 */
+	public static void read(Skin skin, FileHandle file) {
+		SkinInput input = new SkinInput(skin, file, file.readBytes());
+		try {
+			input.readSkin();
+		} catch(IndexOutOfBoundsException ex) {
+			throw new GdxRuntimeException("Error reading binary skin: " + file, ex);
+		}
+	}
+
+	/**
+	 * Sets the serializer used to write and read styles of the specified type, identified in binary skins by the class name.
+	 */
+	public static <T> void setSerializer(Class<T> type, StyleSerializer<T> serializer) {
+		serializers.put(type, serializer);
+		serializerTypes.put(type.getName(), type);
+	}
+
+	public static @Null <T> StyleSerializer<T> getSerializer(Class<T> type) {
+		//noinspection unchecked
+		return (StyleSerializer<T>)serializers.get(type);
+	}
+
+	static {
+		setSerializer(ButtonStyle.class, new StyleSerializer<ButtonStyle>() {
+			public ButtonStyle newStyle() {
+				return new ButtonStyle();
+			}
+
+			public void write(SkinOutput output, ButtonStyle style) throws IOException {
+				writeButton(output, style);
+			}
+
+			public void read(SkinInput input, ButtonStyle style) {
+				readButton(input, style);
+			}
+		});
+		setSerializer(TextButtonStyle.class, new StyleSerializer<TextButtonStyle>() {
+			public TextButtonStyle newStyle() {
+				return new TextButtonStyle();
+			}
+
+			public void write(SkinOutput output, TextButtonStyle style) throws IOException {
+				writeTextButton(output, style);
+			}
+
+			public void read(SkinInput input, TextButtonStyle style) {
+				readTextButton(input, style);
+			}
+		});
+		setSerializer(CheckBoxStyle.class, new StyleSerializer<CheckBoxStyle>() {
+			public CheckBoxStyle newStyle() {
+				return new CheckBoxStyle();
+			}
+
+			public void write(SkinOutput output, CheckBoxStyle style) throws IOException {
+				writeCheckBox(output, style);
+			}
+
+			public void read(SkinInput input, CheckBoxStyle style) {
+				readCheckBox(input, style);
+			}
+		});
+		setSerializer(ImageButtonStyle.class, new StyleSerializer<ImageButtonStyle>() {
+			public ImageButtonStyle newStyle() {
+				return new ImageButtonStyle();
+			}
+
+			public void write(SkinOutput output, ImageButtonStyle style) throws IOException {
+				writeImageButton(output, style);
+			}
+
+			public void read(SkinInput input, ImageButtonStyle style) {
+				readImageButton(input, style);
+			}
+		});
+		setSerializer(ImageTextButtonStyle.class, new StyleSerializer<ImageTextButtonStyle>() {
+			public ImageTextButtonStyle newStyle() {
+				return new ImageTextButtonStyle();
+			}
+
+			public void write(SkinOutput output, ImageTextButtonStyle style) throws IOException {
+				writeImageTextButton(output, style);
+			}
+
+			public void read(SkinInput input, ImageTextButtonStyle style) {
+				readImageTextButton(input, style);
+			}
+		});
+		setSerializer(LabelStyle.class, new StyleSerializer<LabelStyle>() {
+			public LabelStyle newStyle() {
+				return new LabelStyle();
+			}
+
+			public void write(SkinOutput output, LabelStyle style) throws IOException {
+				writeLabel(output, style);
+			}
+
+			public void read(SkinInput input, LabelStyle style) {
+				readLabel(input, style);
+			}
+		});
+		setSerializer(ListStyle.class, new StyleSerializer<ListStyle>() {
+			public ListStyle newStyle() {
+				return new ListStyle();
+			}
+
+			public void write(SkinOutput output, ListStyle style) throws IOException {
+				writeList(output, style);
+			}
+
+			public void read(SkinInput input, ListStyle style) {
+				readList(input, style);
+			}
+		});
+		setSerializer(ProgressBarStyle.class, new StyleSerializer<ProgressBarStyle>() {
+			public ProgressBarStyle newStyle() {
+				return new ProgressBarStyle();
+			}
+
+			public void write(SkinOutput output, ProgressBarStyle style) throws IOException {
+				writeProgressBar(output, style);
+			}
+
+			public void read(SkinInput input, ProgressBarStyle style) {
+				readProgressBar(input, style);
+			}
+		});
+		setSerializer(SliderStyle.class, new StyleSerializer<SliderStyle>() {
+			public SliderStyle newStyle() {
+				return new SliderStyle();
+			}
+
+			public void write(SkinOutput output, SliderStyle style) throws IOException {
+				writeSlider(output, style);
+			}
+
+			public void read(SkinInput input, SliderStyle style) {
+				readSlider(input, style);
+			}
+		});
+		setSerializer(ScrollPaneStyle.class, new StyleSerializer<ScrollPaneStyle>() {
+			public ScrollPaneStyle newStyle() {
+				return new ScrollPaneStyle();
+			}
+
+			public void write(SkinOutput output, ScrollPaneStyle style) throws IOException {
+				writeScrollPane(output, style);
+			}
+
+			public void read(SkinInput input, ScrollPaneStyle style) {
+				readScrollPane(input, style);
+			}
+		});
+		setSerializer(SelectBoxStyle.class, new StyleSerializer<SelectBoxStyle>() {
+			public SelectBoxStyle newStyle() {
+				return new SelectBoxStyle();
+			}
+
+			public void write(SkinOutput output, SelectBoxStyle style) throws IOException {
+				writeSelectBox(output, style);
+			}
+
+			public void read(SkinInput input, SelectBoxStyle style) {
+				readSelectBox(input, style);
+			}
+		});
+		setSerializer(SplitPaneStyle.class, new StyleSerializer<SplitPaneStyle>() {
+			public SplitPaneStyle newStyle() {
+				return new SplitPaneStyle();
+			}
+
+			public void write(SkinOutput output, SplitPaneStyle style) throws IOException {
+				writeSplitPane(output, style);
+			}
+
+			public void read(SkinInput input, SplitPaneStyle style) {
+				readSplitPane(input, style);
+			}
+		});
+		setSerializer(TextFieldStyle.class, new StyleSerializer<TextFieldStyle>() {
+			public TextFieldStyle newStyle() {
+				return new TextFieldStyle();
+			}
+
+			public void write(SkinOutput output, TextFieldStyle style) throws IOException {
+				writeTextField(output, style);
+			}
+
+			public void read(SkinInput input, TextFieldStyle style) {
+				readTextField(input, style);
+			}
+		});
+		setSerializer(TextTooltipStyle.class, new StyleSerializer<TextTooltipStyle>() {
+			public TextTooltipStyle newStyle() {
+				return new TextTooltipStyle();
+			}
+
+			public void write(SkinOutput output, TextTooltipStyle style) throws IOException {
+				writeTextTooltip(output, style);
+			}
+
+			public void read(SkinInput input, TextTooltipStyle style) {
+				readTextTooltip(input, style);
+			}
+		});
+		setSerializer(TouchpadStyle.class, new StyleSerializer<TouchpadStyle>() {
+			public TouchpadStyle newStyle() {
+				return new TouchpadStyle();
+			}
+
+			public void write(SkinOutput output, TouchpadStyle style) throws IOException {
+				writeTouchpad(output, style);
+			}
+
+			public void read(SkinInput input, TouchpadStyle style) {
+				readTouchpad(input, style);
+			}
+		});
+		setSerializer(TreeStyle.class, new StyleSerializer<TreeStyle>() {
+			public TreeStyle newStyle() {
+				return new TreeStyle();
+			}
+
+			public void write(SkinOutput output, TreeStyle style) throws IOException {
+				writeTree(output, style);
+			}
+
+			public void read(SkinInput input, TreeStyle style) {
+				readTree(input, style);
+			}
+		});
+		setSerializer(WindowStyle.class, new StyleSerializer<WindowStyle>() {
+			public WindowStyle newStyle() {
+				return new WindowStyle();
+			}
+
+			public void write(SkinOutput output, WindowStyle style) throws IOException {
+				writeWindow(output, style);
+			}
+
+			public void read(SkinInput input, WindowStyle style) {
+				readWindow(input, style);
+			}
+		});
+	}
+
+	private static void writeButton(SkinOutput output, ButtonStyle style) throws IOException {
+		output.writeDrawable(style.up);
+		output.writeDrawable(style.down);
+		output.writeDrawable(style.over);
+		output.writeDrawable(style.focused);
+		output.writeDrawable(style.disabled);
+		output.writeDrawable(style.checked);
+		output.writeDrawable(style.checkedOver);
+		output.writeDrawable(style.checkedDown);
+		output.writeDrawable(style.checkedFocused);
+		output.writeFloat(style.pressedOffsetX);
+		output.writeFloat(style.pressedOffsetY);
+		output.writeFloat(style.unpressedOffsetX);
+		output.writeFloat(style.unpressedOffsetY);
+		output.writeFloat(style.checkedOffsetX);
+		output.writeFloat(style.checkedOffsetY);
+	}
+
+	private static void readButton(SkinInput input, ButtonStyle style) {
+		style.up = input.readDrawable();
+		style.down = input.readDrawable();
+		style.over = input.readDrawable();
+		style.focused = input.readDrawable();
+		style.disabled = input.readDrawable();
+		style.checked = input.readDrawable();
+		style.checkedOver = input.readDrawable();
+		style.checkedDown = input.readDrawable();
+		style.checkedFocused = input.readDrawable();
+		style.pressedOffsetX = input.readFloat();
+		style.pressedOffsetY = input.readFloat();
+		style.unpressedOffsetX = input.readFloat();
+		style.unpressedOffsetY = input.readFloat();
+		style.checkedOffsetX = input.readFloat();
+		style.checkedOffsetY = input.readFloat();
+	}
+
+	private static void writeTextButton(SkinOutput output, TextButtonStyle style) throws IOException {
+		writeButton(output, style);
+		output.writeFont(style.font);
+		output.writeColor(style.fontColor);
+		output.writeColor(style.downFontColor);
+		output.writeColor(style.overFontColor);
+		output.writeColor(style.focusedFontColor);
+		output.writeColor(style.disabledFontColor);
+		output.writeColor(style.checkedFontColor);
+		output.writeColor(style.checkedDownFontColor);
+		output.writeColor(style.checkedOverFontColor);
+		output.writeColor(style.checkedFocusedFontColor);
+	}
+
+	private static void readTextButton(SkinInput input, TextButtonStyle style) {
+		readButton(input, style);
+		style.font = input.readFont();
+		style.fontColor = input.readColor();
+		style.downFontColor = input.readColor();
+		style.overFontColor = input.readColor();
+		style.focusedFontColor = input.readColor();
+		style.disabledFontColor = input.readColor();
+		style.checkedFontColor = input.readColor();
+		style.checkedDownFontColor = input.readColor();
+		style.checkedOverFontColor = input.readColor();
+		style.checkedFocusedFontColor = input.readColor();
+	}
+
+	private static void writeCheckBox(SkinOutput output, CheckBoxStyle style) throws IOException {
+		writeTextButton(output, style);
+		output.writeDrawable(style.checkboxOn);
+		output.writeDrawable(style.checkboxOff);
+		output.writeDrawable(style.checkboxOnOver);
+		output.writeDrawable(style.checkboxOver);
+		output.writeDrawable(style.checkboxOnDisabled);
+		output.writeDrawable(style.checkboxOffDisabled);
+	}
+
+	private static void readCheckBox(SkinInput input, CheckBoxStyle style) {
+		readTextButton(input, style);
+		style.checkboxOn = input.readDrawable();
+		style.checkboxOff = input.readDrawable();
+		style.checkboxOnOver = input.readDrawable();
+		style.checkboxOver = input.readDrawable();
+		style.checkboxOnDisabled = input.readDrawable();
+		style.checkboxOffDisabled = input.readDrawable();
+	}
+
+	private static void writeImageButton(SkinOutput output, ImageButtonStyle style) throws IOException {
+		writeButton(output, style);
+		output.writeDrawable(style.imageUp);
+		output.writeDrawable(style.imageDown);
+		output.writeDrawable(style.imageOver);
+		output.writeDrawable(style.imageDisabled);
+		output.writeDrawable(style.imageChecked);
+		output.writeDrawable(style.imageCheckedDown);
+		output.writeDrawable(style.imageCheckedOver);
+	}
+
+	private static void readImageButton(SkinInput input, ImageButtonStyle style) {
+		readButton(input, style);
+		style.imageUp = input.readDrawable();
+		style.imageDown = input.readDrawable();
+		style.imageOver = input.readDrawable();
+		style.imageDisabled = input.readDrawable();
+		style.imageChecked = input.readDrawable();
+		style.imageCheckedDown = input.readDrawable();
+		style.imageCheckedOver = input.readDrawable();
+	}
+
+	private static void writeImageTextButton(SkinOutput output, ImageTextButtonStyle style) throws IOException {
+		writeTextButton(output, style);
+		output.writeDrawable(style.imageUp);
+		output.writeDrawable(style.imageDown);
+		output.writeDrawable(style.imageOver);
+		output.writeDrawable(style.imageDisabled);
+		output.writeDrawable(style.imageChecked);
+		output.writeDrawable(style.imageCheckedDown);
+		output.writeDrawable(style.imageCheckedOver);
+	}
+
+	private static void readImageTextButton(SkinInput input, ImageTextButtonStyle style) {
+		readTextButton(input, style);
+		style.imageUp = input.readDrawable();
+		style.imageDown = input.readDrawable();
+		style.imageOver = input.readDrawable();
+		style.imageDisabled = input.readDrawable();
+		style.imageChecked = input.readDrawable();
+		style.imageCheckedDown = input.readDrawable();
+		style.imageCheckedOver = input.readDrawable();
+	}
+
+	private static void writeLabel(SkinOutput output, LabelStyle style) throws IOException {
+		output.writeFont(style.font);
+		output.writeColor(style.fontColor);
+		output.writeDrawable(style.background);
+	}
+
+	private static void readLabel(SkinInput input, LabelStyle style) {
+		style.font = input.readFont();
+		style.fontColor = input.readColor();
+		style.background = input.readDrawable();
+	}
+
+	private static void writeList(SkinOutput output, ListStyle style) throws IOException {
+		output.writeFont(style.font);
+		output.writeColor(style.fontColorSelected);
+		output.writeColor(style.fontColorUnselected);
+		output.writeDrawable(style.selection);
+		output.writeDrawable(style.down);
+		output.writeDrawable(style.over);
+		output.writeDrawable(style.background);
+	}
+
+	private static void readList(SkinInput input, ListStyle style) {
+		style.font = input.readFont();
+		style.fontColorSelected = input.readColor();
+		style.fontColorUnselected = input.readColor();
+		style.selection = input.readDrawable();
+		style.down = input.readDrawable();
+		style.over = input.readDrawable();
+		style.background = input.readDrawable();
+	}
+
+	private static void writeProgressBar(SkinOutput output, ProgressBarStyle style) throws IOException {
+		output.writeDrawable(style.background);
+		output.writeDrawable(style.disabledBackground);
+		output.writeDrawable(style.knob);
+		output.writeDrawable(style.disabledKnob);
+		output.writeDrawable(style.knobBefore);
+		output.writeDrawable(style.disabledKnobBefore);
+		output.writeDrawable(style.knobAfter);
+		output.writeDrawable(style.disabledKnobAfter);
+	}
+
+	private static void readProgressBar(SkinInput input, ProgressBarStyle style) {
+		style.background = input.readDrawable();
+		style.disabledBackground = input.readDrawable();
+		style.knob = input.readDrawable();
+		style.disabledKnob = input.readDrawable();
+		style.knobBefore = input.readDrawable();
+		style.disabledKnobBefore = input.readDrawable();
+		style.knobAfter = input.readDrawable();
+		style.disabledKnobAfter = input.readDrawable();
+	}
+
+	private static void writeSlider(SkinOutput output, SliderStyle style) throws IOException {
+		writeProgressBar(output, style);
+		output.writeDrawable(style.backgroundOver);
+		output.writeDrawable(style.backgroundDown);
+		output.writeDrawable(style.knobOver);
+		output.writeDrawable(style.knobDown);
+		output.writeDrawable(style.knobBeforeOver);
+		output.writeDrawable(style.knobBeforeDown);
+		output.writeDrawable(style.knobAfterOver);
+		output.writeDrawable(style.knobAfterDown);
+	}
+
+	private static void readSlider(SkinInput input, SliderStyle style) {
+		readProgressBar(input, style);
+		style.backgroundOver = input.readDrawable();
+		style.backgroundDown = input.readDrawable();
+		style.knobOver = input.readDrawable();
+		style.knobDown = input.readDrawable();
+		style.knobBeforeOver = input.readDrawable();
+		style.knobBeforeDown = input.readDrawable();
+		style.knobAfterOver = input.readDrawable();
+		style.knobAfterDown = input.readDrawable();
+	}
+
+	private static void writeScrollPane(SkinOutput output, ScrollPaneStyle style) throws IOException {
+		output.writeDrawable(style.background);
+		output.writeDrawable(style.corner);
+		output.writeDrawable(style.hScroll);
+		output.writeDrawable(style.hScrollKnob);
+		output.writeDrawable(style.vScroll);
+		output.writeDrawable(style.vScrollKnob);
+	}
+
+	private static void readScrollPane(SkinInput input, ScrollPaneStyle style) {
+		style.background = input.readDrawable();
+		style.corner = input.readDrawable();
+		style.hScroll = input.readDrawable();
+		style.hScrollKnob = input.readDrawable();
+		style.vScroll = input.readDrawable();
+		style.vScrollKnob = input.readDrawable();
+	}
+
+	private static void writeSelectBox(SkinOutput output, SelectBoxStyle style) throws IOException {
+		output.writeFont(style.font);
+		output.writeColor(style.fontColor);
+		output.writeColor(style.overFontColor);
+		output.writeColor(style.disabledFontColor);
+		output.writeDrawable(style.background);
+		output.writeStyle(style.scrollStyle);
+		output.writeStyle(style.listStyle);
+		output.writeDrawable(style.backgroundOver);
+		output.writeDrawable(style.backgroundOpen);
+		output.writeDrawable(style.backgroundDisabled);
+	}
+
+	private static void readSelectBox(SkinInput input, SelectBoxStyle style) {
+		style.font = input.readFont();
+		style.fontColor = input.readColor();
+		style.overFontColor = input.readColor();
+		style.disabledFontColor = input.readColor();
+		style.background = input.readDrawable();
+		style.scrollStyle = input.readStyle();
+		style.listStyle = input.readStyle();
+		style.backgroundOver = input.readDrawable();
+		style.backgroundOpen = input.readDrawable();
+		style.backgroundDisabled = input.readDrawable();
+	}
+
+	private static void writeSplitPane(SkinOutput output, SplitPaneStyle style) throws IOException {
+		output.writeDrawable(style.handle);
+	}
+
+	private static void readSplitPane(SkinInput input, SplitPaneStyle style) {
+		style.handle = input.readDrawable();
+	}
+
+	private static void writeTextField(SkinOutput output, TextFieldStyle style) throws IOException {
+		output.writeFont(style.font);
+		output.writeColor(style.fontColor);
+		output.writeColor(style.focusedFontColor);
+		output.writeColor(style.disabledFontColor);
+		output.writeDrawable(style.background);
+		output.writeDrawable(style.focusedBackground);
+		output.writeDrawable(style.disabledBackground);
+		output.writeDrawable(style.cursor);
+		output.writeDrawable(style.selection);
+		output.writeFont(style.messageFont);
+		output.writeColor(style.messageFontColor);
+	}
+
+	private static void readTextField(SkinInput input, TextFieldStyle style) {
+		style.font = input.readFont();
+		style.fontColor = input.readColor();
+		style.focusedFontColor = input.readColor();
+		style.disabledFontColor = input.readColor();
+		style.background = input.readDrawable();
+		style.focusedBackground = input.readDrawable();
+		style.disabledBackground = input.readDrawable();
+		style.cursor = input.readDrawable();
+		style.selection = input.readDrawable();
+		style.messageFont = input.readFont();
+		style.messageFontColor = input.readColor();
+	}
+
+	private static void writeTextTooltip(SkinOutput output, TextTooltipStyle style) throws IOException {
+		output.writeStyle(style.label);
+		output.writeDrawable(style.background);
+		output.writeFloat(style.wrapWidth);
+	}
+
+	private static void readTextTooltip(SkinInput input, TextTooltipStyle style) {
+		style.label = input.readStyle();
+		style.background = input.readDrawable();
+		style.wrapWidth = input.readFloat();
+	}
+
+	private static void writeTouchpad(SkinOutput output, TouchpadStyle style) throws IOException {
+		output.writeDrawable(style.background);
+		output.writeDrawable(style.knob);
+	}
+
+	private static void readTouchpad(SkinInput input, TouchpadStyle style) {
+		style.background = input.readDrawable();
+		style.knob = input.readDrawable();
+	}
+
+	private static void writeTree(SkinOutput output, TreeStyle style) throws IOException {
+		output.writeDrawable(style.plus);
+		output.writeDrawable(style.minus);
+		output.writeDrawable(style.plusOver);
+		output.writeDrawable(style.minusOver);
+		output.writeDrawable(style.over);
+		output.writeDrawable(style.selection);
+		output.writeDrawable(style.background);
+	}
+
+	private static void readTree(SkinInput input, TreeStyle style) {
+		style.plus = input.readDrawable();
+		style.minus = input.readDrawable();
+		style.plusOver = input.readDrawable();
+		style.minusOver = input.readDrawable();
+		style.over = input.readDrawable();
+		style.selection = input.readDrawable();
+		style.background = input.readDrawable();
+	}
+
+	private static void writeWindow(SkinOutput output, WindowStyle style) throws IOException {
+		output.writeDrawable(style.background);
+		output.writeFont(style.titleFont);
+		output.writeColor(style.titleFontColor);
+		output.writeDrawable(style.stageBackground);
+	}
+
+	private static void readWindow(SkinInput input, WindowStyle style) {
+		style.background = input.readDrawable();
+		style.titleFont = input.readFont();
+		style.titleFontColor = input.readColor();
+		style.stageBackground = input.readDrawable();
+	}
+
+	/**
+	 * Returns true for the types of resources the skin creates from its regions when needed.
+	 */
+	private static boolean isRegionType(Class<?> type) {
+		return type == TextureRegion.class || type == Texture.class || type == NinePatch.class || type == Sprite.class
+				|| type == TiledDrawable.class;
+	}
+
+	/**
+	 * Writes and reads the fields of styles of a type. Other resources in the style are written with the methods of
+	 * {@link SkinOutput} and read with the methods of {@link SkinInput}, in the same order.
+	 */
+	public interface StyleSerializer<T> {
+		T newStyle();
+
+		void write(SkinOutput output, T style) throws IOException;
+
+		void read(SkinInput input, T style);
+	}
+
+	/**
+	 * Writes the resources of a skin, which styles reference with the methods writing drawables, fonts, colors and styles.
+	 */
+	public static class SkinOutput extends DataOutput {
+		private final Skin skin;
+		private final FileHandle file;
+		/**
+		 * The names of each resource of the type being written.
+		 */
+		private final IdentityMap<Object, Array<String>> names = new IdentityMap<>();
+		/**
+		 * The index of each string written.
+		 */
+		final OrderedMap<String, Integer> strings = new OrderedMap<>();
+
+		SkinOutput(Skin skin, FileHandle file, OutputStream out) {
+			super(out);
+			this.skin = skin;
+			this.file = file;
+		}
+
+		/**
+		 * Writes the index of the string in the strings of the binary skin, so each string is written once.
+		 */
+		public void writeString(@Null String value) throws IOException {
+			if(value == null) {
+				writeInt(0, true);
+				return;
+			}
+			Integer index = strings.get(value);
+			if(index == null) {
+				index = strings.size;
+				strings.put(value, index);
+			}
+			writeInt(index + 1, true);
+		}
+
+		void writeSkin() throws IOException {
+			Array<Class<?>> styleTypes = new Array<>();
+			for(Class<?> type : skin.resources.keys()) {
+				if(type == Color.class || type == BitmapFont.class || type == Drawable.class || isRegionType(type))
+					continue;
+				if(!serializers.containsKey(type))
+					throw new GdxRuntimeException("No binary skin serializer for type: " + type.getName());
+				styleTypes.add(type);
+			}
+
+			Array<Object> colors = findResources(Color.class);
+			writeInt(colors.size, true);
+			for(Object resource : colors) {
+				Color color = (Color)resource;
+				writeNames(color);
+				writeRgba(color);
+			}
+
+			Array<Object> fonts = findResources(BitmapFont.class);
+			writeInt(fonts.size, true);
+			for(Object resource : fonts) {
+				writeNames(resource);
+				writeFontFile((BitmapFont)resource);
+			}
+
+			writeDrawables();
+
+			// The styles are all created before they are read, so they can reference each other.
+			Array<Array<Object>> styles = new Array<>(styleTypes.size);
+			writeInt(styleTypes.size, true);
+			for(Class<?> type : styleTypes) {
+				writeString(type.getName());
+				Array<Object> objects = findResources(type);
+				writeInt(objects.size, true);
+				for(Object style : objects)
+					writeNames(style);
+				styles.add(objects);
+			}
+			for(int i = 0; i < styleTypes.size; i++) {
+				//noinspection unchecked
+				StyleSerializer<Object> serializer = (StyleSerializer<Object>)serializers.get(styleTypes.get(i));
+				for(Object style : styles.get(i))
+					serializer.write(this, style);
+			}
+		}
+
+		private void writeFontFile(BitmapFont font) throws IOException {
+			BitmapFontData data = font.getData();
+			FileHandle fontFile = data.fontFile;
+			if(fontFile == null)
+				throw new GdxRuntimeException("Unable to write font not loaded from a file: " + skin.find(font));
+
+			// Font files relative to the skin are kept relative, the others are found the same way when read.
+			String directory = file.parent().path();
+			String prefix = directory.isEmpty() ? "" : directory + "/";
+			if(fontFile.type() == file.type() && fontFile.path().startsWith(prefix)) {
+				writeBoolean(true);
+				writeString(fontFile.path().substring(prefix.length()));
+			} else {
+				writeBoolean(false);
+				writeString(fontFile.path());
+				writeInt(fontFile.type().ordinal(), true);
+			}
+			writeBoolean(data.flipped);
+			writeBoolean(data.markupEnabled);
+			writeFloat(data.scaleX);
+			writeFloat(data.scaleY);
+		}
+
+		private void writeDrawables() throws IOException {
+			Array<Object> drawables = findResources(Drawable.class);
+			IdentityMap<Object, String> tintSources = new IdentityMap<>();
+			for(Object drawable : drawables) {
+				if(isRegionDrawable(drawable))
+					continue;
+				String source = findTintSource(drawable);
+				if(source == null)
+					throw new GdxRuntimeException("Unable to write drawable which isn't a region of the skin or tinted: "
+							+ names.get(drawable).first());
+				tintSources.put(drawable, source);
+			}
+
+			// Tinted drawables are written after the drawable they tint.
+			Array<Object> ordered = new Array<>(drawables.size);
+			for(Object drawable : drawables)
+				addDrawable(drawable, tintSources, ordered);
+
+			writeInt(ordered.size, true);
+			for(Object resource : ordered) {
+				Drawable drawable = (Drawable)resource;
+				String source = tintSources.get(drawable);
+				if(source == null) {
+					writeByte(REGION_DRAWABLE);
+					writeNames(drawable);
+				} else {
+					writeByte(TINTED_DRAWABLE);
+					writeNames(drawable);
+					writeString(source);
+					writeRgba(getTint(drawable));
+					// A sprite's color is unpacked from its vertices, so it may not be the color it was tinted with.
+					if(drawable instanceof SpriteDrawable)
+						writeFloat(((SpriteDrawable)drawable).getSprite().getVertices()[Batch.C1]);
+					writeString(((BaseDrawable)drawable).getName());
+				}
+				writeFloat(drawable.getLeftWidth());
+				writeFloat(drawable.getRightWidth());
+				writeFloat(drawable.getTopHeight());
+				writeFloat(drawable.getBottomHeight());
+				writeFloat(drawable.getMinWidth());
+				writeFloat(drawable.getMinHeight());
+			}
+		}
+
+		private void addDrawable(Object drawable, IdentityMap<Object, String> tintSources, Array<Object> ordered) {
+			if(ordered.contains(drawable, true))
+				return;
+			String source = tintSources.get(drawable);
+			if(source != null) {
+				Drawable sourceDrawable = skin.optional(source, Drawable.class);
+				if(sourceDrawable != null && sourceDrawable != drawable)
+					addDrawable(sourceDrawable, tintSources, ordered);
+			}
+			ordered.add(drawable);
+		}
+
+		/**
+		 * Returns true if the drawable is the one {@link Skin#getDrawable(String)} creates for its first name from a region. It
+		 * is then written as the first name, and the others are added to the skin when read.
+		 */
+		private boolean isRegionDrawable(Object drawable) {
+			if(!(drawable instanceof BaseDrawable))
+				return false;
+			Array<String> drawableNames = names.get(drawable);
+			String name = ((BaseDrawable)drawable).getName();
+			if(name == null || !drawableNames.contains(name, false))
+				return false;
+			if(skin.optional(name, TextureRegion.class) == null && skin.optional(name, Texture.class) == null)
+				return false;
+			drawableNames.removeValue(name, false);
+			drawableNames.insert(0, name);
+			return true;
+		}
+
+		/**
+		 * Returns the name of the drawable tinted to create the specified drawable, as named by the skin JSON's TintedDrawable
+		 * objects: "name (source, rrggbbaa)", or null if it isn't a tinted drawable.
+		 */
+		private @Null String findTintSource(Object drawable) {
+			String drawableName = drawable instanceof BaseDrawable ? ((BaseDrawable)drawable).getName() : null;
+			if(getTint(drawable) == null || drawableName == null || !drawableName.endsWith(")"))
+				return null;
+			int suffixStart = drawableName.lastIndexOf(", ");
+			if(suffixStart == -1 || suffixStart != drawableName.length() - 11)
+				return null;
+			for(String name : names.get(drawable)) {
+				String prefix = name + " (";
+				if(suffixStart > prefix.length() && drawableName.startsWith(prefix))
+					return drawableName.substring(prefix.length(), suffixStart);
+			}
+			return null;
+		}
+
+		private static @Null Color getTint(Object drawable) {
+			if(drawable instanceof SpriteDrawable)
+				return ((SpriteDrawable)drawable).getSprite().getColor();
+			if(drawable instanceof NinePatchDrawable)
+				return ((NinePatchDrawable)drawable).getPatch().getColor();
+			return null;
+		}
+
+		/**
+		 * Returns the resources of the specified type, each once, and finds their names.
+		 */
+		private Array<Object> findResources(Class<?> type) {
+			names.clear();
+			Array<Object> resources = new Array<>();
+			ObjectMap<String, ?> all = skin.getAll(type);
+			if(all == null)
+				return resources;
+			for(ObjectMap.Entry<String, ?> entry : all) {
+				Array<String> resourceNames = names.get(entry.value);
+				if(resourceNames == null) {
+					resourceNames = new Array<>(1);
+					names.put(entry.value, resourceNames);
+					resources.add(entry.value);
+				}
+				resourceNames.add(entry.key);
+			}
+			return resources;
+		}
+
+		private void writeNames(Object resource) throws IOException {
+			Array<String> resourceNames = names.get(resource);
+			writeInt(resourceNames.size, true);
+			for(String name : resourceNames)
+				writeString(name);
+		}
+
+		private void writeRgba(Color color) throws IOException {
+			writeFloat(color.r);
+			writeFloat(color.g);
+			writeFloat(color.b);
+			writeFloat(color.a);
+		}
+
+		/**
+		 * Writes a reference to a drawable of the skin.
+		 */
+		public void writeDrawable(@Null Drawable drawable) throws IOException {
+			writeString(drawable != null ? findName(drawable, Drawable.class) : null);
+		}
+
+		/**
+		 * Writes a reference to a font of the skin.
+		 */
+		public void writeFont(@Null BitmapFont font) throws IOException {
+			writeString(font != null ? findName(font, BitmapFont.class) : null);
+		}
+
+		/**
+		 * Writes a reference to a color of the skin, or the color itself if it isn't in the skin.
+		 */
+		public void writeColor(@Null Color color) throws IOException {
+			if(color == null) {
+				writeByte(NULL);
+				return;
+			}
+			String name = skin.find(color, Color.class);
+			if(name != null) {
+				writeByte(NAMED);
+				writeString(name);
+			} else {
+				writeByte(INLINE);
+				writeRgba(color);
+			}
+		}
+
+		/**
+		 * Writes a reference to a style of the skin, or the style itself if it isn't in the skin.
+		 */
+		public void writeStyle(@Null Object style) throws IOException {
+			if(style == null) {
+				writeByte(NULL);
+				return;
+			}
+			Class<?> type = style.getClass();
+			String name = skin.find(style, type);
+			if(name != null) {
+				writeByte(NAMED);
+				writeString(type.getName());
+				writeString(name);
+				return;
+			}
+			//noinspection unchecked
+			StyleSerializer<Object> serializer = (StyleSerializer<Object>)serializers.get(type);
+			if(serializer == null)
+				throw new GdxRuntimeException("No binary skin serializer for type: " + type.getName());
+			writeByte(INLINE);
+			writeString(type.getName());
+			serializer.write(this, style);
+		}
+
+		private String findName(Object resource, Class<?> type) {
+			String name = skin.find(resource, type);
+			if(name == null)
+				throw new GdxRuntimeException(type.getSimpleName() + " isn't in the skin: " + resource);
+			return name;
+		}
+	}
+
+	/**
+	 * Reads the data written by {@link SkinOutput} from the bytes of a binary skin file.
+	 */
+	public static class SkinInput {
+		private final Skin skin;
+		private final FileHandle file;
+		private final byte[] bytes;
+		private int position;
+		private String[] strings;
+
+		SkinInput(Skin skin, FileHandle file, byte[] bytes) {
+			this.skin = skin;
+			this.file = file;
+			this.bytes = bytes;
+		}
+
+		void readSkin() {
+			if(readInt() != MAGIC)
+				throw new GdxRuntimeException("Not a binary skin: " + file);
+			int version = readInt();
+			if(version != VERSION)
+				throw new GdxRuntimeException("Unsupported binary skin version " + version + ": " + file);
+
+			strings = new String[readInt(true)];
+			for(int i = 0; i < strings.length; i++) {
+				int length = readInt(true);
+				strings[i] = new String(bytes, position, length, StandardCharsets.UTF_8);
+				position += length;
+			}
+
+			for(int i = 0, n = readInt(true); i < n; i++) {
+				String[] names = readNames();
+				addNames(names, readRgba(), Color.class);
+			}
+
+			for(int i = 0, n = readInt(true); i < n; i++) {
+				String[] names = readNames();
+				addNames(names, readFontFile(), BitmapFont.class);
+			}
+
+			for(int i = 0, n = readInt(true); i < n; i++) {
+				byte kind = readByte();
+				String[] names = readNames();
+				Drawable drawable;
+				if(kind == REGION_DRAWABLE)
+					drawable = skin.getDrawable(names[0]);
+				else {
+					String source = readString();
+					drawable = skin.newDrawable(source, readRgba());
+					if(drawable instanceof SpriteDrawable)
+						((SpriteDrawable)drawable).getSprite().setPackedColor(readFloat());
+					String name = readString();
+					if(drawable instanceof BaseDrawable)
+						((BaseDrawable)drawable).setName(name);
+				}
+				drawable.setLeftWidth(readFloat());
+				drawable.setRightWidth(readFloat());
+				drawable.setTopHeight(readFloat());
+				drawable.setBottomHeight(readFloat());
+				drawable.setMinWidth(readFloat());
+				drawable.setMinHeight(readFloat());
+				addNames(names, drawable, Drawable.class);
+			}
+
+			int typeCount = readInt(true);
+			Array<StyleSerializer<Object>> styleSerializers = new Array<>(typeCount);
+			Array<Object[]> styles = new Array<>(typeCount);
+			for(int i = 0; i < typeCount; i++) {
+				Class<?> type = readType();
+				//noinspection unchecked
+				StyleSerializer<Object> serializer = (StyleSerializer<Object>)serializers.get(type);
+				Object[] objects = new Object[readInt(true)];
+				for(int ii = 0; ii < objects.length; ii++) {
+					Object style = serializer.newStyle();
+					addNames(readNames(), style, type);
+					objects[ii] = style;
+				}
+				styleSerializers.add(serializer);
+				styles.add(objects);
+			}
+			for(int i = 0; i < typeCount; i++) {
+				StyleSerializer<Object> serializer = styleSerializers.get(i);
+				for(Object style : styles.get(i))
+					serializer.read(this, style);
+			}
+		}
+
+		private BitmapFont readFontFile() {
+			FileHandle fontFile;
+			if(readBoolean())
+				fontFile = Skin.findFontFile(file, readString());
+			else {
+				String path = readString();
+				fontFile = Gdx.files.getFileHandle(path, FileType.values()[readInt(true)]);
+			}
+			boolean flip = readBoolean();
+			boolean markupEnabled = readBoolean();
+			float scaleX = readFloat(), scaleY = readFloat();
+			if(!fontFile.exists())
+				throw new GdxRuntimeException("Font file not found: " + fontFile);
+
+			BitmapFont font = skin.newFont(fontFile, flip, null);
+			font.getData().markupEnabled = markupEnabled;
+			if(scaleX != 1 || scaleY != 1)
+				font.getData().setScale(scaleX, scaleY);
+			return font;
+		}
+
+		private Class<?> readType() {
+			String name = readString();
+			Class<?> type = serializerTypes.get(name);
+			if(type == null)
+				throw new GdxRuntimeException("No binary skin serializer for type: " + name);
+			return type;
+		}
+
+		private String[] readNames() {
+			String[] names = new String[readInt(true)];
+			for(int i = 0; i < names.length; i++)
+				names[i] = readString();
+			return names;
+		}
+
+		private void addNames(String[] names, Object resource, Class<?> type) {
+			for(String name : names)
+				skin.add(name, resource, type);
+		}
+
+		private Color readRgba() {
+			return new Color(readFloat(), readFloat(), readFloat(), readFloat());
+		}
+
+		public byte readByte() {
+			return bytes[position++];
+		}
+
+		public boolean readBoolean() {
+			return bytes[position++] != 0;
+		}
+
+		public int readInt() {
+			byte[] bytes = this.bytes;
+			int position = this.position;
+			this.position = position + 4;
+			return (bytes[position] & 0xFF) << 24 | (bytes[position + 1] & 0xFF) << 16 | (bytes[position + 2] & 0xFF) << 8
+					| bytes[position + 3] & 0xFF;
+		}
+
+		/**
+		 * Reads a 1-5 byte int written by {@link DataOutput#writeInt(int, boolean)}.
+		 */
+		public int readInt(boolean optimizePositive) {
+			byte[] bytes = this.bytes;
+			int result = 0;
+			for(int shift = 0; shift < 35; shift += 7) {
+				int b = bytes[position++];
+				result |= (b & 0x7F) << shift;
+				if((b & 0x80) == 0)
+					break;
+			}
+			return optimizePositive ? result : ((result >>> 1) ^ -(result & 1));
+		}
+
+		public float readFloat() {
+			return Float.intBitsToFloat(readInt());
+		}
+
+		public @Null String readString() {
+			int index = readInt(true);
+			return index != 0 ? strings[index - 1] : null;
+		}
+
+		public @Null Drawable readDrawable() {
+			String name = readString();
+			return name != null ? skin.get(name, Drawable.class) : null;
+		}
+
+		public @Null BitmapFont readFont() {
+			String name = readString();
+			return name != null ? skin.get(name, BitmapFont.class) : null;
+		}
+
+		public @Null Color readColor() {
+			switch(readByte()) {
+				case NAMED:
+					return skin.get(readString(), Color.class);
+				case INLINE:
+					return readRgba();
+				default:
+					return null;
+			}
+		}
+
+		public @Null <T> T readStyle() {
+			byte kind = readByte();
+			if(kind == NULL)
+				return null;
+			Class<?> type = readType();
+			if(kind == NAMED)
+				//noinspection unchecked
+				return (T)skin.get(readString(), type);
+			//noinspection unchecked
+			StyleSerializer<Object> serializer = (StyleSerializer<Object>)serializers.get(type);
+			Object style = serializer.newStyle();
+			serializer.read(this, style);
+			//noinspection unchecked
+			return (T)style;
+		}
+	}
+}
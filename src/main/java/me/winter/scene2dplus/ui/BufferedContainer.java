@@ -0,0 +1,253 @@
+package me.winter.scene2dplus.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Null;
+import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.Stage;
+
+/**
+ * A {@link Container} drawing its actor into an offscreen {@link FrameBuffer} and then drawing the buffer's texture as a single
+ * quad. The actor is only drawn again when something it draws changes, as detected by {@link Actor#invalidateRenderCache()}:
+ * when a descendant is moved, resized, shown, hidden, recolored, invalidated, receives an event or has actions. This
+ * collapses complex hierarchies of tables and labels that rarely change into a single draw call.
+ * <p>
+ * The buffer covers the container's bounds at the {@link #setResolutionScale(float) resolution scale}. All containers share a
+ * {@link #setMemoryBudget(long) memory budget}: when creating a buffer would exceed it, the buffers of the least recently drawn
+ * containers are released. A container whose buffer does not fit in the budget, or drawn while another container is drawing
+ * into its buffer, draws its actor normally.
+ * <p>
+ * The buffer is drawn with premultiplied alpha, which requires changing the batch blend function and flushes it. Descendants
+ * drawing depending on time must call {@link Actor#invalidateRenderCache()} when they change, as progress bars, sliders and
+ * text fields do when they animate. Descendants clipping with {@link Actor#clipBegin()} are clipped in stage coordinates,
+ * which do not match the buffer's, and must be avoided.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class BufferedContainer<T extends Actor> extends Container<T> {
+	private static long memoryBudget = 64 * 1024 * 1024;
+	private static long memoryUsed;
+	/**
+	 * Containers holding a buffer, least recently drawn first.
+	 */
+	private static final Array<BufferedContainer<?>> buffered = new Array<>();
+	private static int drawingToBuffer;
+
+	private float resolutionScale = 1;
+	private @Null FrameBuffer frameBuffer;
+	private boolean bufferInvalid = true;
+	private final Matrix4 projection = new Matrix4(), identity = new Matrix4();
+	private final Matrix4 oldProjection = new Matrix4(), oldTransform = new Matrix4();
+
+	/**
+	 * Creates a container with no actor.
+	 */
+	public BufferedContainer() {}
+
+	public BufferedContainer(@Null T actor) {
+		super(actor);
+	}
+
+	protected void drawChildren(Batch batch, float parentAlpha) {
+		T actor = getActor();
+		if(actor == null || drawingToBuffer > 0 || !ensureFrameBuffer()) {
+			super.drawChildren(batch, parentAlpha);
+			return;
+		}
+		FrameBuffer frameBuffer = this.frameBuffer;
+
+		if(bufferInvalid)
+			drawToBuffer(batch, frameBuffer, actor);
+		buffered.removeValue(this, true);
+		buffered.add(this);
+
+		// The buffer holds premultiplied colors.
+		int srcFunc = batch.getBlendSrcFunc(), dstFunc = batch.getBlendDstFunc();
+		int srcFuncAlpha = batch.getBlendSrcFuncAlpha(), dstFuncAlpha = batch.getBlendDstFuncAlpha();
+		batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		float alpha = parentAlpha * getColor().a;
+		batch.setColor(alpha, alpha, alpha, alpha);
+		float x = isTransform() ? 0 : getX(), y = isTransform() ? 0 : getY();
+		Texture texture = frameBuffer.getColorBufferTexture();
+		batch.draw(texture, x, y, texture.getWidth() / resolutionScale, texture.getHeight() / resolutionScale, 0, 0, 1, 1);
+		batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+	}
+
+	private void drawToBuffer(Batch batch, FrameBuffer frameBuffer, T actor) {
+		// Invalidations while drawing (eg. a descendant's layout) are kept for the next frame.
+		bufferInvalid = false;
+
+		batch.end();
+		oldProjection.set(batch.getProjectionMatrix());
+		oldTransform.set(batch.getTransformMatrix());
+		int srcFunc = batch.getBlendSrcFunc(), dstFunc = batch.getBlendDstFunc();
+		int srcFuncAlpha = batch.getBlendSrcFuncAlpha(), dstFuncAlpha = batch.getBlendDstFuncAlpha();
+		boolean scissors = Gdx.gl.glIsEnabled(GL20.GL_SCISSOR_TEST);
+
+		frameBuffer.begin();
+		if(scissors)
+			Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+		Gdx.gl.glClearColor(0, 0, 0, 0);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		Texture texture = frameBuffer.getColorBufferTexture();
+		batch.setProjectionMatrix(projection.setToOrtho2D(0, 0, texture.getWidth() / resolutionScale,
+				texture.getHeight() / resolutionScale));
+		batch.setTransformMatrix(identity);
+		// Accumulates premultiplied colors and the coverage in alpha.
+		batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE,
+				GL20.GL_ONE_MINUS_SRC_ALPHA);
+		drawingToBuffer++;
+		// The whole buffer is drawn, not only what the stage clips.
+		Stage stage = getStage();
+		if(stage != null)
+			stage.pushClipArea(null);
+		batch.begin();
+		try {
+			if(actor.isVisible())
+				actor.draw(batch, 1);
+		} finally {
+			batch.end();
+			drawingToBuffer--;
+			frameBuffer.end();
+			if(stage != null) {
+				stage.popClipArea();
+				stage.getViewport().apply();
+			}
+			if(scissors)
+				Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+			batch.setProjectionMatrix(oldProjection);
+			batch.setTransformMatrix(oldTransform);
+			batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+			batch.begin();
+		}
+	}
+
+	/**
+	 * Creates or resizes the buffer to the container's size if needed. Returns false if the container can't be buffered.
+	 */
+	private boolean ensureFrameBuffer() {
+		int width = MathUtils.ceil(getWidth() * resolutionScale), height = MathUtils.ceil(getHeight() * resolutionScale);
+		if(width <= 0 || height <= 0) {
+			releaseFrameBuffer();
+			return false;
+		}
+		FrameBuffer frameBuffer = this.frameBuffer;
+		if(frameBuffer != null && frameBuffer.getWidth() == width && frameBuffer.getHeight() == height)
+			return true;
+		releaseFrameBuffer();
+
+		long bytes = bytes(width, height);
+		if(bytes > memoryBudget)
+			return false;
+		while(memoryUsed + bytes > memoryBudget && buffered.size > 0)
+			buffered.first().releaseFrameBuffer();
+
+		frameBuffer = createFrameBuffer(width, height);
+		if(resolutionScale != 1)
+			frameBuffer.getColorBufferTexture().setFilter(TextureFilter.Linear, TextureFilter.Linear);
+		this.frameBuffer = frameBuffer;
+		memoryUsed += bytes;
+		buffered.add(this);
+		bufferInvalid = true;
+		return true;
+	}
+
+	/**
+	 * Creates the buffer the actor is drawn to. The default implementation creates an RGBA8888 frame buffer without depth.
+	 *
+	 * @param width  Width in pixels.
+	 * @param height Height in pixels.
+	 */
+	protected FrameBuffer createFrameBuffer(int width, int height) {
+		return new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+	}
+
+	/**
+	 * Disposes the buffer, if any. It is created again the next time the container is drawn.
+	 */
+	public void releaseFrameBuffer() {
+		FrameBuffer frameBuffer = this.frameBuffer;
+		if(frameBuffer == null)
+			return;
+		memoryUsed -= bytes(frameBuffer.getWidth(), frameBuffer.getHeight());
+		buffered.removeValue(this, true);
+		frameBuffer.dispose();
+		this.frameBuffer = null;
+	}
+
+	private static long bytes(int width, int height) {
+		return (long)width * height * 4;
+	}
+
+	protected boolean cachesRendering() {
+		return true;
+	}
+
+	protected void childrenRenderChanged() {
+		super.childrenRenderChanged();
+		bufferInvalid = true;
+	}
+
+	protected void setStage(Stage stage) {
+		super.setStage(stage);
+		if(stage == null)
+			releaseFrameBuffer();
+	}
+
+	/**
+	 * Sets the number of buffer pixels per world unit, 1 by default. Values greater than 1 keep the actor sharp when the
+	 * stage is scaled up, values lower than 1 save memory at the cost of a blurry result.
+	 */
+	public void setResolutionScale(float resolutionScale) {
+		if(resolutionScale <= 0)
+			throw new IllegalArgumentException("resolutionScale must be > 0.");
+		if(this.resolutionScale == resolutionScale)
+			return;
+		this.resolutionScale = resolutionScale;
+		releaseFrameBuffer();
+	}
+
+	public float getResolutionScale() {
+		return resolutionScale;
+	}
+
+	/**
+	 * Returns true if the actor will be drawn to the buffer on the next draw.
+	 */
+	public boolean isBufferInvalid() {
+		return bufferInvalid || frameBuffer == null;
+	}
+
+	/**
+	 * Sets the maximum memory in bytes used by the buffers of all containers, 64 MB by default. Buffers of the least recently
+	 * drawn containers are released if the new budget is exceeded.
+	 */
+	public static void setMemoryBudget(long memoryBudget) {
+		if(memoryBudget < 0)
+			throw new IllegalArgumentException("memoryBudget cannot be < 0.");
+		BufferedContainer.memoryBudget = memoryBudget;
+		while(memoryUsed > memoryBudget && buffered.size > 0)
+			buffered.first().releaseFrameBuffer();
+	}
+
+	public static long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Returns the memory in bytes currently used by the buffers of all containers.
+	 */
+	public static long getMemoryUsed() {
+		return memoryUsed;
+	}
+}
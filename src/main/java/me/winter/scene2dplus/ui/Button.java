@@ -25,10 +25,12 @@ import me.winter.scene2dplus.Actor;
 import me.winter.scene2dplus.InputEvent;
 import me.winter.scene2dplus.Stage;
 import me.winter.scene2dplus.Touchable;
+import me.winter.scene2dplus.ui.Button.ButtonStyle;
 import me.winter.scene2dplus.utils.ChangeListener;
 import me.winter.scene2dplus.utils.ClickListener;
 import me.winter.scene2dplus.utils.Disableable;
 import me.winter.scene2dplus.utils.Drawable;
+import me.winter.scene2dplus.utils.Styleable;
 
 /**
  * A button is a {@link Table} with a checked state and additional {@link ButtonStyle style} fields for pressed, unpressed, and
@@ -44,7 +46,7 @@ import me.winter.scene2dplus.utils.Drawable;
  *
  * @author Nathan Sweet
  */
-public class Button extends Table implements Disableable {
+public class Button extends Table implements Disableable, Styleable<ButtonStyle> {
 	private ButtonStyle style;
 	boolean isChecked, isDisabled;
 	ButtonGroup<? extends Button> buttonGroup;
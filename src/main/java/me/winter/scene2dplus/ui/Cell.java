@@ -6,6 +6,7 @@ import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.Pool.Poolable;
 import me.winter.scene2dplus.Actor;
+import me.winter.scene2dplus.utils.Layout;
 
 import static me.winter.gdx.utils.Validation.ensureNotNull;
 import static me.winter.gdx.utils.Validation.ensurePositive;
@@ -47,6 +48,15 @@ public class Cell<T extends Actor> implements Poolable {
 	int cellAboveIndex;
 	float computedPadTop, computedPadLeft, computedPadBottom, computedPadRight;
 
+	// Values evaluated for the actor, kept by the table until the actor invalidates its hierarchy.
+	float minWidthValue, minHeightValue, prefWidthValue, prefHeightValue, maxWidthValue, maxHeightValue;
+	float spaceTopValue, spaceLeftValue, spaceBottomValue, spaceRightValue, spaceAboveValue;
+	float padTopValue, padLeftValue, padBottomValue, padRightValue;
+	boolean valuesInvalid = true, valuesVolatile;
+	// Min and pref size including padding, position of the cell when last laid out.
+	float cellMinWidth, cellPrefWidth, cellMinHeight, cellPrefHeight;
+	float currentX, currentY;
+
 	public Cell() {
 		cellAboveIndex = -1;
 		Cell<?> defaults = defaults();
@@ -105,6 +115,7 @@ public class Cell<T extends Actor> implements Poolable {
 		prefHeight = size;
 		maxWidth = size;
 		maxHeight = size;
+		valuesChanged();
 		return this;
 	}
 
@@ -120,6 +131,7 @@ public class Cell<T extends Actor> implements Poolable {
 		prefHeight = height;
 		maxWidth = width;
 		maxHeight = height;
+		valuesChanged();
 		return this;
 	}
 
@@ -147,6 +159,7 @@ public class Cell<T extends Actor> implements Poolable {
 		minWidth = width;
 		prefWidth = width;
 		maxWidth = width;
+		valuesChanged();
 		return this;
 	}
 
@@ -166,6 +179,7 @@ public class Cell<T extends Actor> implements Poolable {
 		minHeight = height;
 		prefHeight = height;
 		maxHeight = height;
+		valuesChanged();
 		return this;
 	}
 
@@ -184,6 +198,7 @@ public class Cell<T extends Actor> implements Poolable {
 		ensureNotNull(size, "size");
 		minWidth = size;
 		minHeight = size;
+		valuesChanged();
 		return this;
 	}
 
@@ -195,18 +210,21 @@ public class Cell<T extends Actor> implements Poolable {
 		ensureNotNull(height, "height");
 		minWidth = width;
 		minHeight = height;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> minWidth(Value minWidth) {
 		ensureNotNull(minWidth, "minWidth");
 		this.minWidth = minWidth;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> minHeight(Value minHeight) {
 		ensureNotNull(minHeight, "minHeight");
 		this.minHeight = minHeight;
+		valuesChanged();
 		return this;
 	}
 
@@ -228,11 +246,13 @@ public class Cell<T extends Actor> implements Poolable {
 
 	public Cell<T> minWidth(float minWidth) {
 		this.minWidth = Value.Fixed.valueOf(minWidth);
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> minHeight(float minHeight) {
 		this.minHeight = Value.Fixed.valueOf(minHeight);
+		valuesChanged();
 		return this;
 	}
 
@@ -243,6 +263,7 @@ public class Cell<T extends Actor> implements Poolable {
 		ensureNotNull(size, "size");
 		prefWidth = size;
 		prefHeight = size;
+		valuesChanged();
 		return this;
 	}
 
@@ -254,18 +275,21 @@ public class Cell<T extends Actor> implements Poolable {
 		ensureNotNull(height, "height");
 		prefWidth = width;
 		prefHeight = height;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> prefWidth(Value prefWidth) {
 		ensureNotNull(prefWidth, "prefWidth");
 		this.prefWidth = prefWidth;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> prefHeight(Value prefHeight) {
 		ensureNotNull(prefHeight, "prefHeight");
 		this.prefHeight = prefHeight;
+		valuesChanged();
 		return this;
 	}
 
@@ -287,11 +311,13 @@ public class Cell<T extends Actor> implements Poolable {
 
 	public Cell<T> prefWidth(float prefWidth) {
 		this.prefWidth = Value.Fixed.valueOf(prefWidth);
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> prefHeight(float prefHeight) {
 		this.prefHeight = Value.Fixed.valueOf(prefHeight);
+		valuesChanged();
 		return this;
 	}
 
@@ -302,6 +328,7 @@ public class Cell<T extends Actor> implements Poolable {
 		ensureNotNull(size, "size");
 		maxWidth = size;
 		maxHeight = size;
+		valuesChanged();
 		return this;
 	}
 
@@ -313,6 +340,7 @@ public class Cell<T extends Actor> implements Poolable {
 		ensureNotNull(height, "height");
 		maxWidth = width;
 		maxHeight = height;
+		valuesChanged();
 		return this;
 	}
 
@@ -322,6 +350,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> maxWidth(Value maxWidth) {
 		ensureNotNull(maxWidth, "maxWidth");
 		this.maxWidth = maxWidth;
+		valuesChanged();
 		return this;
 	}
 
@@ -331,6 +360,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> maxHeight(Value maxHeight) {
 		ensureNotNull(maxHeight, "maxHeight");
 		this.maxHeight = maxHeight;
+		valuesChanged();
 		return this;
 	}
 
@@ -355,6 +385,7 @@ public class Cell<T extends Actor> implements Poolable {
 	 */
 	public Cell<T> maxWidth(float maxWidth) {
 		this.maxWidth = Value.Fixed.valueOf(maxWidth);
+		valuesChanged();
 		return this;
 	}
 
@@ -363,6 +394,7 @@ public class Cell<T extends Actor> implements Poolable {
 	 */
 	public Cell<T> maxHeight(float maxHeight) {
 		this.maxHeight = Value.Fixed.valueOf(maxHeight);
+		valuesChanged();
 		return this;
 	}
 
@@ -375,6 +407,7 @@ public class Cell<T extends Actor> implements Poolable {
 		spaceLeft = space;
 		spaceBottom = space;
 		spaceRight = space;
+		valuesChanged();
 		return this;
 	}
 
@@ -387,30 +420,35 @@ public class Cell<T extends Actor> implements Poolable {
 		spaceLeft = left;
 		spaceBottom = bottom;
 		spaceRight = right;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> spaceTop(Value spaceTop) {
 		ensureNotNull(spaceTop, "spaceTop");
 		this.spaceTop = spaceTop;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> spaceLeft(Value spaceLeft) {
 		ensureNotNull(spaceLeft, "spaceLeft");
 		this.spaceLeft = spaceLeft;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> spaceBottom(Value spaceBottom) {
 		ensureNotNull(spaceBottom, "spaceBottom");
 		this.spaceBottom = spaceBottom;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> spaceRight(Value spaceRight) {
 		ensureNotNull(spaceRight, "spaceRight");
 		this.spaceRight = spaceRight;
+		valuesChanged();
 		return this;
 	}
 
@@ -441,6 +479,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> spaceTop(float spaceTop) {
 		ensurePositive(spaceTop, "spaceTop");
 		this.spaceTop = Value.Fixed.valueOf(spaceTop);
+		valuesChanged();
 		return this;
 	}
 
@@ -450,6 +489,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> spaceLeft(float spaceLeft) {
 		ensurePositive(spaceLeft, "spaceLeft");
 		this.spaceLeft = Value.Fixed.valueOf(spaceLeft);
+		valuesChanged();
 		return this;
 	}
 
@@ -459,6 +499,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> spaceBottom(float spaceBottom) {
 		ensurePositive(spaceBottom, "spaceBottom");
 		this.spaceBottom = Value.Fixed.valueOf(spaceBottom);
+		valuesChanged();
 		return this;
 	}
 
@@ -468,6 +509,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> spaceRight(float spaceRight) {
 		ensurePositive(spaceRight, "spaceRight");
 		this.spaceRight = Value.Fixed.valueOf(spaceRight);
+		valuesChanged();
 		return this;
 	}
 
@@ -480,6 +522,7 @@ public class Cell<T extends Actor> implements Poolable {
 		padLeft = pad;
 		padBottom = pad;
 		padRight = pad;
+		valuesChanged();
 		return this;
 	}
 
@@ -492,30 +535,35 @@ public class Cell<T extends Actor> implements Poolable {
 		padLeft = left;
 		padBottom = bottom;
 		padRight = right;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> padTop(Value padTop) {
 		ensureNotNull(padTop, "padTop");
 		this.padTop = padTop;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> padLeft(Value padLeft) {
 		ensureNotNull(padLeft, "padLeft");
 		this.padLeft = padLeft;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> padBottom(Value padBottom) {
 		ensureNotNull(padBottom, "padBottom");
 		this.padBottom = padBottom;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> padRight(Value padRight) {
 		ensureNotNull(padRight, "padRight");
 		this.padRight = padRight;
+		valuesChanged();
 		return this;
 	}
 
@@ -534,21 +582,25 @@ public class Cell<T extends Actor> implements Poolable {
 
 	public Cell<T> padTop(float padTop) {
 		this.padTop = Value.Fixed.valueOf(padTop);
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> padLeft(float padLeft) {
 		this.padLeft = Value.Fixed.valueOf(padLeft);
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> padBottom(float padBottom) {
 		this.padBottom = Value.Fixed.valueOf(padBottom);
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> padRight(float padRight) {
 		this.padRight = Value.Fixed.valueOf(padRight);
+		valuesChanged();
 		return this;
 	}
 
@@ -558,6 +610,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> fill() {
 		fillX = onef;
 		fillY = onef;
+		valuesChanged();
 		return this;
 	}
 
@@ -566,6 +619,7 @@ public class Cell<T extends Actor> implements Poolable {
 	 */
 	public Cell<T> fillX() {
 		fillX = onef;
+		valuesChanged();
 		return this;
 	}
 
@@ -574,12 +628,14 @@ public class Cell<T extends Actor> implements Poolable {
 	 */
 	public Cell<T> fillY() {
 		fillY = onef;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> fill(float x, float y) {
 		fillX = x;
 		fillY = y;
+		valuesChanged();
 		return this;
 	}
 
@@ -589,6 +645,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> fill(boolean x, boolean y) {
 		fillX = x ? onef : zerof;
 		fillY = y ? onef : zerof;
+		valuesChanged();
 		return this;
 	}
 
@@ -598,6 +655,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> fill(boolean fill) {
 		fillX = fill ? onef : zerof;
 		fillY = fill ? onef : zerof;
+		valuesChanged();
 		return this;
 	}
 
@@ -607,6 +665,7 @@ public class Cell<T extends Actor> implements Poolable {
 	 */
 	public Cell<T> align(int align) {
 		this.align = align;
+		valuesChanged();
 		return this;
 	}
 
@@ -615,6 +674,7 @@ public class Cell<T extends Actor> implements Poolable {
 	 */
 	public Cell<T> center() {
 		align = centeri;
+		valuesChanged();
 		return this;
 	}
 
@@ -626,6 +686,7 @@ public class Cell<T extends Actor> implements Poolable {
 			align = topi;
 		else
 			align = (align | Align.top) & ~Align.bottom;
+		valuesChanged();
 		return this;
 	}
 
@@ -637,6 +698,7 @@ public class Cell<T extends Actor> implements Poolable {
 			align = lefti;
 		else
 			align = (align | Align.left) & ~Align.right;
+		valuesChanged();
 		return this;
 	}
 
@@ -648,6 +710,7 @@ public class Cell<T extends Actor> implements Poolable {
 			align = bottomi;
 		else
 			align = (align | Align.bottom) & ~Align.top;
+		valuesChanged();
 		return this;
 	}
 
@@ -659,6 +722,7 @@ public class Cell<T extends Actor> implements Poolable {
 			align = righti;
 		else
 			align = (align | Align.right) & ~Align.left;
+		valuesChanged();
 		return this;
 	}
 
@@ -670,6 +734,7 @@ public class Cell<T extends Actor> implements Poolable {
 		expandY = onei;
 		fillX = onef;
 		fillY = onef;
+		valuesChanged();
 		return this;
 	}
 
@@ -679,6 +744,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> growX() {
 		expandX = onei;
 		fillX = onef;
+		valuesChanged();
 		return this;
 	}
 
@@ -688,6 +754,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> growY() {
 		expandY = onei;
 		fillY = onef;
+		valuesChanged();
 		return this;
 	}
 
@@ -697,6 +764,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> expand() {
 		expandX = onei;
 		expandY = onei;
+		valuesChanged();
 		return this;
 	}
 
@@ -705,6 +773,7 @@ public class Cell<T extends Actor> implements Poolable {
 	 */
 	public Cell<T> expandX() {
 		expandX = onei;
+		valuesChanged();
 		return this;
 	}
 
@@ -713,12 +782,14 @@ public class Cell<T extends Actor> implements Poolable {
 	 */
 	public Cell<T> expandY() {
 		expandY = onei;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> expand(int x, int y) {
 		expandX = x;
 		expandY = y;
+		valuesChanged();
 		return this;
 	}
 
@@ -728,11 +799,13 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> expand(boolean x, boolean y) {
 		expandX = x ? onei : zeroi;
 		expandY = y ? onei : zeroi;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> colspan(int colspan) {
 		this.colspan = colspan;
+		valuesChanged();
 		return this;
 	}
 
@@ -742,6 +815,7 @@ public class Cell<T extends Actor> implements Poolable {
 	public Cell<T> uniform() {
 		uniformX = Boolean.TRUE;
 		uniformY = Boolean.TRUE;
+		valuesChanged();
 		return this;
 	}
 
@@ -750,6 +824,7 @@ public class Cell<T extends Actor> implements Poolable {
 	 */
 	public Cell<T> uniformX() {
 		uniformX = Boolean.TRUE;
+		valuesChanged();
 		return this;
 	}
 
@@ -758,18 +833,21 @@ public class Cell<T extends Actor> implements Poolable {
 	 */
 	public Cell<T> uniformY() {
 		uniformY = Boolean.TRUE;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> uniform(boolean uniform) {
 		uniformX = uniform;
 		uniformY = uniform;
+		valuesChanged();
 		return this;
 	}
 
 	public Cell<T> uniform(boolean x, boolean y) {
 		uniformX = x;
 		uniformY = y;
+		valuesChanged();
 		return this;
 	}
 
@@ -1099,9 +1177,67 @@ public class Cell<T extends Actor> implements Poolable {
 		table = null;
 		endRow = false;
 		cellAboveIndex = -1;
+		valuesInvalid = true;
 		set(defaults());
 	}
 
+	/**
+	 * Makes the table evaluate the values of every cell again on its next layout, as a property of this cell changed.
+	 */
+	private void valuesChanged() {
+		if(table != null)
+			table.invalidateCellValues();
+	}
+
+	/**
+	 * Evaluates the values of this cell for its actor.
+	 *
+	 * @param above The cell above this one, or null.
+	 */
+	void computeValues(@Null Cell<?> above) {
+		valuesInvalid = false;
+		Actor a = actor;
+		minWidthValue = minWidth.get(a);
+		minHeightValue = minHeight.get(a);
+		prefWidthValue = prefWidth.get(a);
+		prefHeightValue = prefHeight.get(a);
+		maxWidthValue = maxWidth.get(a);
+		maxHeightValue = maxHeight.get(a);
+		spaceTopValue = spaceTop.get(a);
+		spaceLeftValue = spaceLeft.get(a);
+		spaceBottomValue = spaceBottom.get(a);
+		spaceRightValue = spaceRight.get(a);
+		spaceAboveValue = above == null ? 0 : above.spaceBottom.get(a);
+		padTopValue = padTop.get(a);
+		padLeftValue = padLeft.get(a);
+		padBottomValue = padBottom.get(a);
+		padRightValue = padRight.get(a);
+	}
+
+	/**
+	 * Determines if any value of this cell may change without the actor invalidating its hierarchy, in which case the table
+	 * evaluates the values on every layout.
+	 *
+	 * @param above The cell above this one, or null.
+	 */
+	void computeVolatile(@Null Cell<?> above) {
+		boolean layout = actor == null || actor instanceof Layout;
+		valuesVolatile = !isStable(minWidth, layout) || !isStable(minHeight, layout) || !isStable(prefWidth, layout)
+				|| !isStable(prefHeight, layout) || !isStable(maxWidth, layout) || !isStable(maxHeight, layout)
+				|| !isStable(spaceTop, layout) || !isStable(spaceLeft, layout) || !isStable(spaceBottom, layout)
+				|| !isStable(spaceRight, layout) || !isStable(padTop, layout) || !isStable(padLeft, layout)
+				|| !isStable(padBottom, layout) || !isStable(padRight, layout)
+				|| above != null && !isStable(above.spaceBottom, layout);
+	}
+
+	/**
+	 * Returns true if the value is fixed or only depends on the size of a {@link Layout} actor, which invalidates its hierarchy
+	 * when that size changes.
+	 */
+	private static boolean isStable(Value value, boolean layout) {
+		return value.stability == Value.FIXED || layout && value.stability == Value.ACTOR_SIZE;
+	}
+
 	void set(Cell<?> cell) {
 		minWidth = cell.minWidth;
 		minHeight = cell.minHeight;
@@ -884,6 +884,7 @@ public class Container<T extends Actor> extends WidgetGroup {
 		clip = enabled;
 		setTransform(enabled);
 		invalidate();
+		hitChanged();
 	}
 
 	public boolean getClip() {
@@ -179,6 +179,7 @@ public class Image extends Widget {
 		} else
 			invalidateHierarchy();
 		this.drawable = drawable;
+		invalidateRenderCache();
 	}
 
 	/**
@@ -25,7 +25,10 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.StringBuilder;
+import me.winter.scene2dplus.ui.Label.LabelStyle;
 import me.winter.scene2dplus.utils.Drawable;
+import me.winter.scene2dplus.utils.GlyphLayoutCache;
+import me.winter.scene2dplus.utils.Styleable;
 
 /**
  * A text label, with optional word wrapping.
@@ -34,12 +37,21 @@ import me.winter.scene2dplus.utils.Drawable;
  *
  * @author Nathan Sweet
  */
-public class Label extends Widget {
+public class Label extends Widget implements Styleable<LabelStyle> {
 	private static final Color tempColor = new Color();
+	private static final GlyphLayoutCache layoutCache = new GlyphLayoutCache(1024);
 	private static final GlyphLayout prefSizeLayout = new GlyphLayout();
+	/**
+	 * Number of text changes after which a label stops using the {@link #getLayoutCache() layout cache}, unless
+	 * {@link #setLayoutCached(boolean)} was called.
+	 */
+	private static final int maxCachedTextChanges = 8;
 
 	private LabelStyle style;
-	private final GlyphLayout layout = new GlyphLayout();
+	private final GlyphLayout ownLayout = new GlyphLayout();
+	private GlyphLayout layout = ownLayout;
+	private boolean layoutCached = true, layoutCachedSet;
+	private int textChanges;
 	private final Vector2 prefSize = new Vector2();
 	private final StringBuilder text = new StringBuilder();
 	private int intValue = Integer.MIN_VALUE;
@@ -116,6 +128,7 @@ public class Label extends Widget {
 		text.clear();
 		text.append(value);
 		intValue = value;
+		textChanged();
 		invalidateHierarchy();
 		return true;
 	}
@@ -140,9 +153,16 @@ public class Label extends Widget {
 			text.append(newText);
 		}
 		intValue = Integer.MIN_VALUE;
+		textChanged();
 		invalidateHierarchy();
 	}
 
+	private void textChanged() {
+		// The layouts of a text which keeps changing, like a counter or a timer, would only be used once.
+		if(layoutCached && !layoutCachedSet && ++textChanges > maxCachedTextChanges)
+			layoutCached = false;
+	}
+
 	public boolean textEquals(CharSequence other) {
 		int length = text.length;
 		char[] chars = text.chars;
@@ -178,16 +198,25 @@ public class Label extends Widget {
 
 	private void computePrefSize() {
 		prefSizeInvalid = false;
-		GlyphLayout prefSizeLayout = Label.prefSizeLayout;
+		GlyphLayout prefSizeLayout;
 		if(wrap && ellipsis == null) {
 			float width = getWidth();
 			if(style.background != null) {
 				width = Math.max(width, style.background.getMinWidth()) - style.background.getLeftWidth()
 						- style.background.getRightWidth();
 			}
-			prefSizeLayout.setText(cache.getFont(), text, Color.WHITE, width, Align.left, true);
-		} else
+			if(layoutCached)
+				prefSizeLayout = layoutCache.get(cache.getFont(), text, width, Align.left, true);
+			else {
+				prefSizeLayout = Label.prefSizeLayout;
+				prefSizeLayout.setText(cache.getFont(), text, Color.WHITE, width, Align.left, true);
+			}
+		} else if(layoutCached)
+			prefSizeLayout = layoutCache.get(cache.getFont(), text, 0, Align.left, false);
+		else {
+			prefSizeLayout = Label.prefSizeLayout;
 			prefSizeLayout.setText(cache.getFont(), text);
+		}
 		prefSize.set(prefSizeLayout.width, prefSizeLayout.height);
 	}
 
@@ -217,11 +246,11 @@ public class Label extends Widget {
 			height -= background.getBottomHeight() + background.getTopHeight();
 		}
 
-		GlyphLayout layout = this.layout;
+		GlyphLayout layout;
 		float textWidth, textHeight;
 		if(wrap || text.indexOf("\n") != -1) {
 			// If the text can span multiple lines, determine the text's actual size so it can be aligned within the label.
-			layout.setText(font, text, 0, text.length, Color.WHITE, width, lineAlign, wrap, ellipsis);
+			layout = layoutText(font, width, wrap);
 			textWidth = layout.width;
 			textHeight = layout.height;
 
@@ -248,13 +277,26 @@ public class Label extends Widget {
 		if(!cache.getFont().isFlipped())
 			y += textHeight;
 
-		layout.setText(font, text, 0, text.length, Color.WHITE, textWidth, lineAlign, wrap, ellipsis);
+		layout = layoutText(font, textWidth, wrap);
+		this.layout = layout;
 		cache.setText(layout, x, y);
 
 		if(fontScaleChanged)
 			font.getData().setScale(oldScaleX, oldScaleY);
 	}
 
+	/**
+	 * Returns the layout of the text from the {@link #getLayoutCache() layout cache}, or laid out in this label's own layout if
+	 * it doesn't use the cache.
+	 */
+	private GlyphLayout layoutText(BitmapFont font, float targetWidth, boolean wrap) {
+		if(layoutCached)
+			return layoutCache.get(font, text, 0, text.length, targetWidth, lineAlign, wrap, ellipsis);
+		GlyphLayout layout = ownLayout;
+		layout.setText(font, text, 0, text.length, Color.WHITE, targetWidth, lineAlign, wrap, ellipsis);
+		return layout;
+	}
+
 	public void draw(Batch batch, float parentAlpha) {
 		validate();
 		Color color = tempColor.set(getColor());
@@ -295,10 +337,42 @@ public class Label extends Widget {
 		return height;
 	}
 
+	/**
+	 * Returns the layout of the text, which may be shared with other labels and must not be modified.
+	 */
 	public GlyphLayout getGlyphLayout() {
 		return layout;
 	}
 
+	/**
+	 * Returns the cache of the text layouts shared by all labels, keeping 1024 layouts by default. It must be
+	 * {@link GlyphLayoutCache#clear() cleared} if a font's data other than its scale changes.
+	 */
+	public static GlyphLayoutCache getLayoutCache() {
+		return layoutCache;
+	}
+
+	/**
+	 * If true, the text is laid out through the {@link #getLayoutCache() layout cache} shared by all labels, so labels with the
+	 * same text and style share one layout. If false, the text is laid out in a layout owned by this label, which is cheaper for
+	 * a text that keeps changing, like a counter or a timer. By default, labels use the cache until their text changed more
+	 * than 8 times.
+	 */
+	public void setLayoutCached(boolean layoutCached) {
+		layoutCachedSet = true;
+		if(this.layoutCached == layoutCached)
+			return;
+		this.layoutCached = layoutCached;
+		invalidateHierarchy();
+	}
+
+	/**
+	 * @see #setLayoutCached(boolean)
+	 */
+	public boolean isLayoutCached() {
+		return layoutCached;
+	}
+
 	/**
 	 * If false, the text will only wrap where it contains newlines (\n). The preferred size of the label will be the text bounds.
 	 * If true, the text will word wrap using the width of the label. The preferred width of the label will be 0, it is expected
@@ -21,13 +21,17 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.*;
 import me.winter.scene2dplus.Actor;
 import me.winter.scene2dplus.InputEvent;
 import me.winter.scene2dplus.InputListener;
+import me.winter.scene2dplus.ui.List.ListStyle;
 import me.winter.scene2dplus.utils.*;
 
+import java.util.Arrays;
+
 import static me.winter.gdx.utils.Validation.ensureNotNull;
 
 /**
@@ -36,11 +40,15 @@ import static me.winter.gdx.utils.Validation.ensureNotNull;
  * {@link ChangeListener.ChangeEvent} is fired when the list selection changes.
  * <p>
  * The preferred size of the list is determined by the text bounds of the items and the size of the {@link ListStyle#selection}.
+ * <p>
+ * A {@link #setVirtual(boolean) virtual} list only measures its first {@link #setMeasuredItems(int) measured items} to compute
+ * its preferred width and caches the text of the drawn items by index, so with a {@link #setCullingArea(Rectangle) culling area}
+ * the cost of laying out and drawing the list does not depend on the number of items.
  *
  * @author mzechner
  * @author Nathan Sweet
  */
-public class List<T> extends Widget implements Cullable {
+public class List<T> extends Widget implements Cullable, Styleable<ListStyle> {
 	ListStyle style;
 	final Array<T> items = new Array<>();
 	ArraySelection<T> selection = new ArraySelection<>(items);
@@ -52,6 +60,17 @@ public class List<T> extends Widget implements Cullable {
 	private final InputListener keyListener;
 	boolean typeToSelect;
 
+	private boolean virtual;
+	private int measuredItems = 100;
+	/**
+	 * Text of the drawn items of a virtual list, in slot {@code index & cacheMask}.
+	 */
+	private int[] cachedIndices = new int[0];
+	private Object[] cachedItems = new Object[0];
+	private GlyphLayout[] cachedLayouts = new GlyphLayout[0];
+	private float[] cachedWidths = new float[0], cachedColors = new float[0];
+	private int cacheMask = -1;
+
 	public List(Skin skin) {
 		this(skin.get(ListStyle.class));
 	}
@@ -173,6 +192,7 @@ public class List<T> extends Widget implements Cullable {
 		if(style == null)
 			throw new IllegalArgumentException("style cannot be null.");
 		this.style = style;
+		clearItemCache();
 		invalidateHierarchy();
 	}
 
@@ -194,7 +214,7 @@ public class List<T> extends Widget implements Cullable {
 		prefWidth = 0;
 		Pool<GlyphLayout> layoutPool = Pools.get(GlyphLayout.class);
 		GlyphLayout layout = layoutPool.obtain();
-		for(int i = 0; i < items.size; i++) {
+		for(int i = 0, n = virtual ? Math.min(measuredItems, items.size) : items.size; i < n; i++) {
 			layout.setText(font, toString(items.get(i)));
 			prefWidth = Math.max(layout.width, prefWidth);
 		}
@@ -236,8 +256,17 @@ public class List<T> extends Widget implements Cullable {
 		float textOffsetX = selectedDrawable.getLeftWidth(), textWidth = width - textOffsetX - selectedDrawable.getRightWidth();
 		float textOffsetY = selectedDrawable.getTopHeight() - font.getDescent();
 
+		int first = 0, n = items.size;
+		if(cullingArea != null && itemHeight > 0) {
+			// Skips to the item above the first one in the culling area, the test below still decides which are drawn.
+			first = Math.max(0, Math.min(n, (int)((itemY - cullingArea.y - cullingArea.height) / itemHeight) - 1));
+			itemY -= first * itemHeight;
+		}
+		if(virtual)
+			ensureItemCache(cullingArea != null && itemHeight > 0 ? (int)(cullingArea.height / itemHeight) + 3 : n);
+
 		font.setColor(fontColorUnselected.r, fontColorUnselected.g, fontColorUnselected.b, fontColorUnselected.a * parentAlpha);
-		for(int i = 0; i < items.size; i++) {
+		for(int i = first; i < n; i++) {
 			if(cullingArea == null || (itemY - itemHeight <= cullingArea.y + cullingArea.height && itemY >= cullingArea.y)) {
 				T item = items.get(i);
 				boolean selected = selection.contains(item);
@@ -274,11 +303,62 @@ public class List<T> extends Widget implements Cullable {
 		}
 	}
 
+	/**
+	 * Draws the text of an item. The default implementation draws {@link #toString(Object)} with the font's current color,
+	 * truncated to the specified width. For a virtual list, the text is laid out again only if the item, width or color
+	 * changed since it was last drawn at that index.
+	 */
 	protected GlyphLayout drawItem(Batch batch, BitmapFont font, int index, T item, float x, float y, float width) {
+		if(virtual && cacheMask != -1) {
+			int slot = index & cacheMask;
+			GlyphLayout layout = cachedLayouts[slot];
+			float color = font.getColor().toFloatBits();
+			if(layout == null)
+				cachedLayouts[slot] = layout = new GlyphLayout();
+			else if(cachedIndices[slot] == index && cachedItems[slot] == item && cachedWidths[slot] == width
+					&& cachedColors[slot] == color) {
+				font.draw(batch, layout, x, y);
+				return layout;
+			}
+			String string = toString(item);
+			layout.setText(font, string, 0, string.length(), font.getColor(), width, alignment, false, "...");
+			cachedIndices[slot] = index;
+			cachedItems[slot] = item;
+			cachedWidths[slot] = width;
+			cachedColors[slot] = color;
+			font.draw(batch, layout, x, y);
+			return layout;
+		}
 		String string = toString(item);
 		return font.draw(batch, string, x, y, 0, string.length(), width, alignment, false, "...");
 	}
 
+	/**
+	 * Grows the item cache to hold at least the specified number of consecutive items.
+	 */
+	private void ensureItemCache(int count) {
+		count = Math.min(count, items.size);
+		if(count <= cacheMask + 1)
+			return;
+		int capacity = MathUtils.nextPowerOfTwo(count);
+		cachedIndices = new int[capacity];
+		cachedItems = new Object[capacity];
+		cachedLayouts = new GlyphLayout[capacity];
+		cachedWidths = new float[capacity];
+		cachedColors = new float[capacity];
+		cacheMask = capacity - 1;
+		clearItemCache();
+	}
+
+	/**
+	 * Discards the cached text of the items of a virtual list. Must be called when the {@link #toString(Object) text} of an
+	 * item changes without calling {@link #setItems(Array)}.
+	 */
+	public void clearItemCache() {
+		Arrays.fill(cachedIndices, -1);
+		Arrays.fill(cachedItems, null);
+	}
+
 	public ArraySelection<T> getSelection() {
 		return selection;
 	}
@@ -381,6 +461,7 @@ public class List<T> extends Widget implements Cullable {
 		overIndex = -1;
 		pressedIndex = -1;
 		selection.validate();
+		clearItemCache();
 
 		invalidate();
 		if(oldPrefWidth != getPrefWidth() || oldPrefHeight != getPrefHeight())
@@ -404,6 +485,7 @@ public class List<T> extends Widget implements Cullable {
 		overIndex = -1;
 		pressedIndex = -1;
 		selection.validate();
+		clearItemCache();
 
 		invalidate();
 		if(oldPrefWidth != getPrefWidth() || oldPrefHeight != getPrefHeight())
@@ -417,6 +499,7 @@ public class List<T> extends Widget implements Cullable {
 		overIndex = -1;
 		pressedIndex = -1;
 		selection.clear();
+		clearItemCache();
 		invalidateHierarchy();
 	}
 
@@ -464,6 +547,44 @@ public class List<T> extends Widget implements Cullable {
 	 */
 	public void setAlignment(int alignment) {
 		this.alignment = alignment;
+		clearItemCache();
+	}
+
+	/**
+	 * Sets whether the list is virtual, false by default. A virtual list computes its preferred width from its first
+	 * {@link #setMeasuredItems(int) measured items} only and caches the text of the items it draws, which makes huge lists
+	 * used with a {@link #setCullingArea(Rectangle) culling area}, such as in a {@link ScrollPane}, cheap to lay out and draw.
+	 * Items wider than the measured ones are truncated.
+	 *
+	 * @see #clearItemCache()
+	 */
+	public void setVirtual(boolean virtual) {
+		if(this.virtual == virtual)
+			return;
+		this.virtual = virtual;
+		clearItemCache();
+		invalidateHierarchy();
+	}
+
+	public boolean isVirtual() {
+		return virtual;
+	}
+
+	/**
+	 * Sets the number of items measured by a {@link #setVirtual(boolean) virtual} list to compute its preferred width, 100 by
+	 * default. 0 only uses the size of the {@link ListStyle#selection} and background, the width of the list is then expected
+	 * to be set by its parent.
+	 */
+	public void setMeasuredItems(int measuredItems) {
+		if(measuredItems < 0)
+			throw new IllegalArgumentException("measuredItems cannot be < 0.");
+		this.measuredItems = measuredItems;
+		if(virtual)
+			invalidateHierarchy();
+	}
+
+	public int getMeasuredItems() {
+		return measuredItems;
 	}
 
 	public void setTypeToSelect(boolean typeToSelect) {
@@ -26,9 +26,11 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.Pools;
 import me.winter.scene2dplus.Stage;
+import me.winter.scene2dplus.ui.ProgressBar.ProgressBarStyle;
 import me.winter.scene2dplus.utils.ChangeListener;
 import me.winter.scene2dplus.utils.Disableable;
 import me.winter.scene2dplus.utils.Drawable;
+import me.winter.scene2dplus.utils.Styleable;
 
 /**
  * A progress bar is a widget that visually displays the progress of some activity or a value within given range. The progress
@@ -44,13 +46,17 @@ import me.winter.scene2dplus.utils.Drawable;
  * @author mzechner
  * @author Nathan Sweet
  */
-public class ProgressBar extends Widget implements Disableable {
+public class ProgressBar extends Widget implements Disableable, Styleable<ProgressBarStyle> {
 	private ProgressBarStyle style;
 	float min, max, stepSize;
 	private float value, animateFromValue;
 	float position;
 	final boolean vertical;
 	private float animateDuration, animateTime;
+	/**
+	 * True if the progress bar only needs to {@link #act(float)} while animating, false for subclasses overriding it.
+	 */
+	private final boolean animationAct = getClass() == ProgressBar.class || getClass() == Slider.class;
 	private Interpolation animateInterpolation = Interpolation.linear, visualInterpolation = Interpolation.linear;
 	boolean disabled;
 	private boolean round = true, programmaticChangeEvents = true;
@@ -88,6 +94,8 @@ public class ProgressBar extends Widget implements Disableable {
 		this.vertical = vertical;
 		this.value = min;
 		setSize(getPrefWidth(), getPrefHeight());
+		if(animationAct)
+			setContinuousAct(false);
 	}
 
 	public void setStyle(ProgressBarStyle style) {
@@ -109,9 +117,12 @@ public class ProgressBar extends Widget implements Disableable {
 		super.act(delta);
 		if(animateTime > 0) {
 			animateTime -= delta;
+			invalidateRenderCache(); // The visual value changed.
 			Stage stage = getStage();
 			if(stage != null && stage.getActionsRequestRendering())
 				Gdx.graphics.requestRendering();
+			if(animateTime <= 0 && animationAct)
+				setContinuousAct(false);
 		}
 	}
 
@@ -266,7 +277,11 @@ public class ProgressBar extends Widget implements Disableable {
 	 * Sets the visual value equal to the actual value. This can be used to set the value without animating.
 	 */
 	public void updateVisualValue() {
+		if(animateTime > 0)
+			invalidateRenderCache();
 		animateTime = 0;
+		if(animationAct)
+			setContinuousAct(false);
 	}
 
 	public float getPercent() {
@@ -326,6 +341,8 @@ public class ProgressBar extends Widget implements Disableable {
 			return false;
 		float oldVisualValue = getVisualValue();
 		this.value = value;
+		// Without change events, nothing else tells render caches the knob moved.
+		invalidateRenderCache();
 
 		if(programmaticChangeEvents) {
 			ChangeListener.ChangeEvent changeEvent = Pools.obtain(ChangeListener.ChangeEvent.class);
@@ -340,6 +357,8 @@ public class ProgressBar extends Widget implements Disableable {
 		if(animateDuration > 0) {
 			animateFromValue = oldVisualValue;
 			animateTime = animateDuration;
+			if(animationAct)
+				setContinuousAct(true);
 		}
 		return true;
 	}
@@ -367,6 +386,7 @@ public class ProgressBar extends Widget implements Disableable {
 			throw new IllegalArgumentException("min must be <= max: " + min + " <= " + max);
 		this.min = min;
 		this.max = max;
+		invalidateRenderCache();
 		if(value < min)
 			setValue(min);
 		else if(value > max) //
@@ -440,6 +460,7 @@ public class ProgressBar extends Widget implements Disableable {
 
 	public void setDisabled(boolean disabled) {
 		this.disabled = disabled;
+		invalidateRenderCache();
 	}
 
 	public boolean isAnimating() {
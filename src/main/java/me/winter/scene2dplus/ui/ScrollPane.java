@@ -26,10 +26,12 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Null;
 import me.winter.scene2dplus.*;
+import me.winter.scene2dplus.ui.ScrollPane.ScrollPaneStyle;
 import me.winter.scene2dplus.utils.ActorGestureListener;
 import me.winter.scene2dplus.utils.Cullable;
 import me.winter.scene2dplus.utils.Drawable;
 import me.winter.scene2dplus.utils.Layout;
+import me.winter.scene2dplus.utils.Styleable;
 
 /**
  * A group that scrolls a child widget using scrollbars and/or mouse or touch dragging.
@@ -43,7 +45,7 @@ import me.winter.scene2dplus.utils.Layout;
  * @author mzechner
  * @author Nathan Sweet
  */
-public class ScrollPane extends WidgetGroup {
+public class ScrollPane extends WidgetGroup implements Styleable<ScrollPaneStyle> {
 	private ScrollPaneStyle style;
 	private Actor widget;
 
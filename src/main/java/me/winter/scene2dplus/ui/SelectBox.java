@@ -25,6 +25,7 @@ import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.*;
 import me.winter.scene2dplus.*;
+import me.winter.scene2dplus.ui.SelectBox.SelectBoxStyle;
 import me.winter.scene2dplus.utils.*;
 
 import static me.winter.scene2dplus.actions.Actions.*;
@@ -41,7 +42,7 @@ import static me.winter.scene2dplus.actions.Actions.*;
  * @author mzechner
  * @author Nathan Sweet
  */
-public class SelectBox<T> extends Widget implements Disableable {
+public class SelectBox<T> extends Widget implements Disableable, Styleable<SelectBoxStyle> {
 	static final Vector2 temp = new Vector2();
 
 	SelectBoxStyle style;
@@ -44,7 +44,24 @@ import me.winter.scene2dplus.utils.*;
  */
 public class Skin implements Disposable {
 	ObjectMap<Class<?>, ObjectMap<String, Object>> resources = new ObjectMap<>();
+	/**
+	 * For each type, the name of each resource, to find resources by identity.
+	 */
+	private final ObjectMap<Class<?>, IdentityMap<Object, String>> resourceNames = new ObjectMap<>();
+	/**
+	 * The styles {@link #setEnabled(Actor, boolean)} found for each style when enabling and disabling.
+	 */
+	private final IdentityMap<Object, Object> enabledStyles = new IdentityMap<>(), disabledStyles = new IdentityMap<>();
 	TextureAtlas atlas;
+	/**
+	 * Textures of fonts which don't own them, disposed with the skin.
+	 */
+	final Array<Texture> fontTextures = new Array<>();
+	/**
+	 * Font data read and fonts created by an {@link AsyncSkinLoader} for the font objects of the skin JSON it is loading.
+	 */
+	@Null IdentityMap<JsonValue, BitmapFontData> loadedFontData;
+	@Null IdentityMap<JsonValue, BitmapFont> loadedFonts;
 	float scale = 1;
 
 	private final ObjectMap<String, Class<?>> jsonClassTags = new ObjectMap<>(defaultTagClasses.length);
@@ -133,14 +150,44 @@ public class Skin implements Disposable {
 			typeResources = new ObjectMap<>(type == TextureRegion.class || type == Drawable.class || type == Sprite.class ? 256 : 64);
 			resources.put(type, typeResources);
 		}
-		typeResources.put(name, resource);
+		Object oldResource = typeResources.put(name, resource);
+
+		IdentityMap<Object, String> names = resourceNames.get(type);
+		if(names == null) {
+			names = new IdentityMap<>(typeResources.size);
+			resourceNames.put(type, names);
+		}
+		if(oldResource != null && oldResource != resource)
+			removeName(name, oldResource, typeResources, names);
+		if(!names.containsKey(resource))
+			names.put(resource, name);
+		enabledStyles.clear();
+		disabledStyles.clear();
 	}
 
 	public void remove(String name, Class<?> type) {
 		if(name == null)
 			throw new IllegalArgumentException("name cannot be null.");
 		ObjectMap<String, Object> typeResources = resources.get(type);
-		typeResources.remove(name);
+		Object resource = typeResources.remove(name);
+		if(resource != null)
+			removeName(name, resource, typeResources, resourceNames.get(type));
+		enabledStyles.clear();
+		disabledStyles.clear();
+	}
+
+	/**
+	 * Updates the name of a resource no longer having the specified name, to one of its other names if it has any.
+	 */
+	private void removeName(String name, Object resource, ObjectMap<String, Object> typeResources,
+			IdentityMap<Object, String> names) {
+		if(!name.equals(names.get(resource)))
+			return;
+		String otherName = typeResources.findKey(resource, true);
+		if(otherName != null)
+			names.put(resource, otherName);
+		else
+			names.remove(resource);
 	}
 
 	/**
@@ -207,7 +254,9 @@ public class Skin implements Disposable {
 	}
 
 	/**
-	 * Returns the name to resource mapping for the specified type, or null if no resources of that type exist.
+	 * Returns the name to resource mapping for the specified type, or null if no resources of that type exist. Resources must be
+	 * added and removed with {@link #add(String, Object, Class)} and {@link #remove(String, Class)} to be found by
+	 * {@link #find(Object)}.
 	 */
 	@SuppressWarnings("unchecked")
 	public @Null <T> ObjectMap<String, T> getAll(Class<T> type) {
@@ -384,16 +433,23 @@ public class Skin implements Disposable {
 	}
 
 	/**
-	 * Returns the name of the specified style object, or null if it is not in the skin. This compares potentially every style
-	 * object in the skin of the same type as the specified style, which may be a somewhat expensive operation.
+	 * Returns the name of the specified style object, or null if it is not in the skin. If the object was added with several
+	 * names, the first one still in the skin is returned. The object must have been added with its class as type.
 	 */
 	public @Null String find(Object resource) {
 		if(resource == null)
 			throw new IllegalArgumentException("style cannot be null.");
-		ObjectMap<String, Object> typeResources = resources.get(resource.getClass());
-		if(typeResources == null)
+		return find(resource, resource.getClass());
+	}
+
+	/**
+	 * Returns the name of the specified resource added with the specified type, or null if it is not in the skin.
+	 */
+	@Null String find(Object resource, Class<?> type) {
+		IdentityMap<Object, String> names = resourceNames.get(type);
+		if(names == null)
 			return null;
-		return typeResources.findKey(resource, true);
+		return names.get(resource);
 	}
 
 	/**
@@ -489,13 +545,23 @@ public class Skin implements Disposable {
 
 	/**
 	 * Sets the style on the actor to disabled or enabled. This is done by appending "-disabled" to the style name when enabled is
-	 * false, and removing "-disabled" from the style name when enabled is true. A method named "getStyle" is called the actor via
-	 * reflection and the name of that style is found in the skin. If the actor doesn't have a "getStyle" method or the style was
-	 * not found in the skin, no exception is thrown and the actor is left unchanged.
+	 * false, and removing "-disabled" from the style name when enabled is true. The style of a {@link Styleable} actor is
+	 * swapped directly, for other actors a method named "getStyle" is called via reflection and the name of that style is found
+	 * in the skin. If the actor doesn't have a "getStyle" method or the style was not found in the skin, no exception is thrown
+	 * and the actor is left unchanged. The new style is remembered for each style until resources are added or removed.
 	 */
 	public void setEnabled(Actor actor, boolean enabled) {
+		if(actor instanceof Styleable) {
+			Styleable<Object> styleable = (Styleable<Object>)actor;
+			Object style = findEnabledStyle(styleable.getStyle(), enabled);
+			if(style != null)
+				styleable.setStyle(style);
+			return;
+		}
+
 		// Get current style.
-		Method method = findMethod(actor.getClass(), "getStyle");
+		Method[] styleMethods = findStyleMethods(actor.getClass());
+		Method method = styleMethods[0];
 		if(method == null)
 			return;
 		Object style;
@@ -505,13 +571,11 @@ public class Skin implements Disposable {
 			return;
 		}
 		// Determine new style.
-		String name = find(style);
-		if(name == null)
+		style = findEnabledStyle(style, enabled);
+		if(style == null)
 			return;
-		name = name.replace("-disabled", "") + (enabled ? "" : "-disabled");
-		style = get(name, style.getClass());
 		// Set new style.
-		method = findMethod(actor.getClass(), "setStyle");
+		method = styleMethods[1];
 		if(method == null)
 			return;
 		try {
@@ -520,6 +584,23 @@ public class Skin implements Disposable {
 		}
 	}
 
+	/**
+	 * Returns the enabled or disabled style of the specified style, or null if the style is not in the skin.
+	 */
+	private @Null Object findEnabledStyle(Object style, boolean enabled) {
+		IdentityMap<Object, Object> styles = enabled ? enabledStyles : disabledStyles;
+		Object newStyle = styles.get(style);
+		if(newStyle == null) {
+			String name = find(style);
+			if(name == null)
+				return null;
+			name = name.replace("-disabled", "") + (enabled ? "" : "-disabled");
+			newStyle = get(name, style.getClass());
+			styles.put(style, newStyle);
+		}
+		return newStyle;
+	}
+
 	/**
 	 * Returns the {@link TextureAtlas} passed to this skin constructor, or null.
 	 */
@@ -533,6 +614,8 @@ public class Skin implements Disposable {
 	public void dispose() {
 		if(atlas != null)
 			atlas.dispose();
+		for(Texture texture : fontTextures)
+			texture.dispose();
 		for(ObjectMap<String, Object> entry : resources.values()) {
 			for(Object resource : entry.values())
 				if(resource instanceof Disposable)
@@ -622,31 +705,14 @@ public class Skin implements Disposable {
 				Boolean flip = json.readValue("flip", Boolean.class, false, jsonData);
 				Boolean markupEnabled = json.readValue("markupEnabled", Boolean.class, false, jsonData);
 
-				FileHandle fontFile = skinFile.parent().child(path);
-				if(!fontFile.exists())
-					fontFile = Gdx.files.internal(path);
+				FileHandle fontFile = findFontFile(skinFile, path);
 				if(!fontFile.exists())
 					throw new SerializationException("Font file not found: " + fontFile);
 
-				// Use a region with the same name as the font, else use a PNG file in the same directory as the FNT file.
-				String regionName = fontFile.nameWithoutExtension();
 				try {
-					BitmapFont font;
-					Array<TextureRegion> regions = skin.getRegions(regionName);
-					if(regions != null)
-						font = new BitmapFont(new BitmapFontData(fontFile, flip), regions, true);
-					else {
-						TextureRegion region = skin.optional(regionName, TextureRegion.class);
-						if(region != null)
-							font = new BitmapFont(fontFile, region, flip);
-						else {
-							FileHandle imageFile = fontFile.parent().child(regionName + ".png");
-							if(imageFile.exists())
-								font = new BitmapFont(fontFile, imageFile, flip);
-							else
-								font = new BitmapFont(fontFile, flip);
-						}
-					}
+					BitmapFont font = loadedFonts != null ? loadedFonts.get(jsonData) : null;
+					if(font == null)
+						font = newFont(fontFile, flip, loadedFontData != null ? loadedFontData.get(jsonData) : null);
 					font.getData().markupEnabled = markupEnabled;
 					// Scaled size is the desired cap height to scale the font to.
 					if(scaledSize != -1)
@@ -695,6 +761,72 @@ public class Skin implements Disposable {
 		return json;
 	}
 
+	/**
+	 * Returns the font file of a font object of the skin JSON, relative to the skin file else internal. The file may not exist.
+	 */
+	static FileHandle findFontFile(FileHandle skinFile, String path) {
+		FileHandle fontFile = skinFile.parent().child(path);
+		if(!fontFile.exists())
+			fontFile = Gdx.files.internal(path);
+		return fontFile;
+	}
+
+	/**
+	 * Returns true if a font object of the skin JSON can use regions of the skin, named after the font file. Otherwise the font
+	 * loads the images of {@link #getFontImageFiles(FileHandle, BitmapFontData)}.
+	 */
+	boolean hasFontRegions(FileHandle fontFile) {
+		String regionName = fontFile.nameWithoutExtension();
+		return getRegions(regionName) != null || optional(regionName, TextureRegion.class) != null;
+	}
+
+	/**
+	 * Returns the images of a font object of the skin JSON with no regions in the skin: a PNG file in the same directory as the
+	 * FNT file, else the images of the font data.
+	 */
+	static Array<FileHandle> getFontImageFiles(FileHandle fontFile, BitmapFontData data) {
+		Array<FileHandle> imageFiles = new Array<>();
+		FileHandle imageFile = fontFile.parent().child(fontFile.nameWithoutExtension() + ".png");
+		if(imageFile.exists())
+			imageFiles.add(imageFile);
+		else {
+			for(String imagePath : data.imagePaths)
+				imageFiles.add(Gdx.files.getFileHandle(imagePath, fontFile.type()));
+		}
+		return imageFiles;
+	}
+
+	/**
+	 * Creates a font of the skin, using the regions named after the font file if any.
+	 *
+	 * @param data The data of the font file if it was already read.
+	 */
+	BitmapFont newFont(FileHandle fontFile, boolean flip, @Null BitmapFontData data) {
+		// Use a region with the same name as the font, else use a PNG file in the same directory as the FNT file.
+		String regionName = fontFile.nameWithoutExtension();
+		Array<TextureRegion> regions = getRegions(regionName);
+		if(regions != null)
+			return new BitmapFont(data != null ? data : new BitmapFontData(fontFile, flip), regions, true);
+		TextureRegion region = optional(regionName, TextureRegion.class);
+		if(region != null)
+			return data != null ? new BitmapFont(data, region, true) : new BitmapFont(fontFile, region, flip);
+		FileHandle imageFile = fontFile.parent().child(regionName + ".png");
+		if(imageFile.exists())
+			return new BitmapFont(fontFile, imageFile, flip);
+		return new BitmapFont(fontFile, flip);
+	}
+
+	/**
+	 * Adds all resources in the specified parsed skin JSON.
+	 */
+	void load(FileHandle skinFile, JsonValue skinJson) {
+		try {
+			getJsonLoader(skinFile).readValue(Skin.class, null, skinJson);
+		} catch(SerializationException ex) {
+			throw new SerializationException("Error reading file: " + skinFile, ex);
+		}
+	}
+
 	/**
 	 * Returns a map of {@link Json#addClassTag(String, Class) class tags} that will be used when loading skin JSON. The map can
 	 * be modified before calling {@link #load(FileHandle)}. By default the map is populated with the simple class names of libGDX
@@ -704,6 +836,8 @@ public class Skin implements Disposable {
 		return jsonClassTags;
 	}
 
+	private static final ObjectMap<Class<?>, Method[]> styleMethods = new ObjectMap<>();
+
 	private static final Class<?>[] defaultTagClasses = { BitmapFont.class, Color.class, TintedDrawable.class, NinePatchDrawable.class,
 			SpriteDrawable.class, TextureRegionDrawable.class, TiledDrawable.class, Button.ButtonStyle.class,
 			CheckBox.CheckBoxStyle.class, ImageButton.ImageButtonStyle.class, ImageTextButton.ImageTextButtonStyle.class,
@@ -712,6 +846,18 @@ public class Skin implements Disposable {
 			TextField.TextFieldStyle.class, TextTooltip.TextTooltipStyle.class, Touchpad.TouchpadStyle.class, Tree.TreeStyle.class,
 			Window.WindowStyle.class };
 
+	/**
+	 * Returns the "getStyle" and "setStyle" methods of the specified actor class, or null elements if it doesn't have them.
+	 */
+	private static Method[] findStyleMethods(Class<?> type) {
+		Method[] methods = styleMethods.get(type);
+		if(methods == null) {
+			methods = new Method[] { findMethod(type, "getStyle"), findMethod(type, "setStyle") };
+			styleMethods.put(type, methods);
+		}
+		return methods;
+	}
+
 	private static @Null Method findMethod(Class<?> type, String name) {
 		for(Method method : ClassReflection.getMethods(type)) {
 			if(method.getName().equals(name))
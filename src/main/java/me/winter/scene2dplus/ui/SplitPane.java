@@ -25,10 +25,10 @@ import com.badlogic.gdx.utils.Null;
 import me.winter.scene2dplus.Actor;
 import me.winter.scene2dplus.InputEvent;
 import me.winter.scene2dplus.InputListener;
-import me.winter.scene2dplus.Stage;
+import me.winter.scene2dplus.ui.SplitPane.SplitPaneStyle;
 import me.winter.scene2dplus.utils.Drawable;
 import me.winter.scene2dplus.utils.Layout;
-import me.winter.scene2dplus.utils.ScissorStack;
+import me.winter.scene2dplus.utils.Styleable;
 
 /**
  * A container that contains two widgets and is divided either horizontally or vertically. The user may resize the widgets. The
@@ -46,7 +46,7 @@ import me.winter.scene2dplus.utils.ScissorStack;
  * @author mzechner
  * @author Nathan Sweet
  */
-public class SplitPane extends WidgetGroup {
+public class SplitPane extends WidgetGroup implements Styleable<SplitPaneStyle> {
 	SplitPaneStyle style;
 	private @Null Actor firstWidget, secondWidget;
 	boolean vertical;
@@ -56,7 +56,6 @@ public class SplitPane extends WidgetGroup {
 	private final Rectangle secondWidgetBounds = new Rectangle();
 	final Rectangle handleBounds = new Rectangle();
 	boolean cursorOverHandle;
-	private final Rectangle tempScissors = new Rectangle();
 
 	Vector2 lastPoint = new Vector2();
 	Vector2 handlePosition = new Vector2();
@@ -262,8 +261,7 @@ public class SplitPane extends WidgetGroup {
 	}
 
 	public void draw(Batch batch, float parentAlpha) {
-		Stage stage = getStage();
-		if(stage == null)
+		if(getStage() == null)
 			return;
 
 		validate();
@@ -274,20 +272,18 @@ public class SplitPane extends WidgetGroup {
 		applyTransform(batch, computeTransform());
 		if(firstWidget != null && firstWidget.isVisible()) {
 			batch.flush();
-			stage.calculateScissors(firstWidgetBounds, tempScissors);
-			if(ScissorStack.pushScissors(tempScissors)) {
+			if(clipBegin(firstWidgetBounds.x, firstWidgetBounds.y, firstWidgetBounds.width, firstWidgetBounds.height)) {
 				firstWidget.draw(batch, alpha);
 				batch.flush();
-				ScissorStack.popScissors();
+				clipEnd();
 			}
 		}
 		if(secondWidget != null && secondWidget.isVisible()) {
 			batch.flush();
-			stage.calculateScissors(secondWidgetBounds, tempScissors);
-			if(ScissorStack.pushScissors(tempScissors)) {
+			if(clipBegin(secondWidgetBounds.x, secondWidgetBounds.y, secondWidgetBounds.width, secondWidgetBounds.height)) {
 				secondWidget.draw(batch, alpha);
 				batch.flush();
-				ScissorStack.popScissors();
+				clipEnd();
 			}
 		}
 		batch.setColor(color.r, color.g, color.b, alpha);
@@ -40,6 +40,12 @@ import java.util.Arrays;
  * By default, {@link #getTouchable()} is {@link Touchable#childrenOnly}.
  * <p>
  * The preferred and minimum sizes are that of the children laid out in columns and rows.
+ * <p>
+ * Layout is incremental: when a child in a cell invalidates its hierarchy, only the values of its cell are evaluated again and
+ * only the size of its row and column is computed again. If that size doesn't change, the other children are not laid out
+ * again. The values of the other cells are kept until the table is {@link #invalidate() invalidated} or the properties of a
+ * cell change, after which the next layout evaluates the values of every cell. Changing the properties of a cell doesn't
+ * invalidate the table, which must still be invalidated for the change to be laid out.
  *
  * @author Nathan Sweet
  */
@@ -71,6 +77,20 @@ public class Table extends WidgetGroup {
 	private float[] columnWidth, rowHeight;
 	private float[] expandWidth, expandHeight;
 
+	// Incremental layout, when children invalidate their hierarchy only their cells are computed and laid out again.
+	private boolean cellValuesInvalid = true, childInvalidated;
+	private final IdentityMap<Actor, Cell<?>> actorCells = new IdentityMap<>();
+	private boolean actorCellsInvalid = true;
+	private Array<Cell<?>> invalidCells = new Array<>(false, 8), computedCells = new Array<>(false, 8);
+	private int[] rowStart;
+	private int gridCellCount = -1, gridColumns, gridRows, volatileCells;
+	private boolean gridSimple, gridRound;
+	private float tableHPadding, tableVPadding;
+	private final Array<Cell<?>> layoutCells = new Array<>(false, 8);
+	private boolean tableLayoutInvalid = true, cellsLayoutInvalid;
+	private float lastLayoutWidth, lastLayoutHeight, lastPadLeft, lastHPadding, lastPadTop, lastVPadding;
+	private int lastAlign;
+
 	Value padTop = backgroundTop, padLeft = backgroundLeft, padBottom = backgroundBottom, padRight = backgroundRight;
 	int align = Align.center;
 
@@ -218,6 +238,7 @@ public class Table extends WidgetGroup {
 		clip = enabled;
 		setTransform(enabled);
 		invalidate();
+		hitChanged();
 	}
 
 	public boolean getClip() {
@@ -226,9 +247,59 @@ public class Table extends WidgetGroup {
 
 	public void invalidate() {
 		sizeInvalid = true;
+		if(!childInvalidated)
+			cellValuesInvalid = true;
 		super.invalidate();
 	}
 
+	/**
+	 * Makes the next layout evaluate the values of every cell again. Called by the cells when their properties change.
+	 */
+	void invalidateCellValues() {
+		cellValuesInvalid = true;
+	}
+
+	/**
+	 * Only the values of the child's cell are evaluated again by the next layout, the values of the other cells are kept.
+	 */
+	protected void childInvalidatedHierarchy(Actor child) {
+		if(cellValuesInvalid) {
+			super.childInvalidatedHierarchy(child);
+			return;
+		}
+		if(actorCellsInvalid) {
+			actorCellsInvalid = false;
+			actorCells.clear();
+			Object[] cells = this.cells.items;
+			for(int i = 0, n = this.cells.size; i < n; i++) {
+				Cell<?> cell = (Cell<?>)cells[i];
+				if(cell.actor != null)
+					actorCells.put(cell.actor, cell);
+			}
+		}
+		Cell<?> cell = actorCells.get(child);
+		if(cell == null) { // Children not in a cell are only validated by a complete layout.
+			super.childInvalidatedHierarchy(child);
+			return;
+		}
+		if(!cell.valuesInvalid) {
+			cell.valuesInvalid = true;
+			invalidCells.add(cell);
+		}
+		childInvalidated = true;
+		try {
+			super.childInvalidatedHierarchy(child);
+		} finally {
+			childInvalidated = false;
+		}
+	}
+
+	protected void childrenChanged() {
+		actorCellsInvalid = true;
+		actorCells.clear();
+		super.childrenChanged();
+	}
+
 	/**
 	 * Adds a new cell to the table with the specified actor.
 	 */
@@ -943,6 +1014,24 @@ public class Table extends WidgetGroup {
 			implicitEndRow = true;
 		}
 
+		// Cells invalidated while computing are kept for the next computation.
+		Array<Cell<?>> invalidCells = this.invalidCells;
+		this.invalidCells = computedCells;
+		computedCells = invalidCells;
+		boolean allValues = cellValuesInvalid;
+		cellValuesInvalid = false;
+		if(allValues || !computeInvalidCells(invalidCells))
+			computeAllCells(allValues);
+		invalidCells.clear();
+	}
+
+	/**
+	 * Computes the size of every row and column, evaluating the values of the cells that are invalid or volatile.
+	 */
+	private void computeAllCells(boolean allValues) {
+		Object[] cells = this.cells.items;
+		int cellCount = this.cells.size;
+
 		int columns = this.columns, rows = this.rows;
 		float[] columnMinWidth = this.columnMinWidth = ensureSize(this.columnMinWidth, columns);
 		float[] rowMinHeight = this.rowMinHeight = ensureSize(this.rowMinHeight, rows);
@@ -952,12 +1041,25 @@ public class Table extends WidgetGroup {
 		float[] rowHeight = this.rowHeight = ensureSize(this.rowHeight, rows);
 		float[] expandWidth = this.expandWidth = ensureSize(this.expandWidth, columns);
 		float[] expandHeight = this.expandHeight = ensureSize(this.expandHeight, rows);
+		int[] rowStart = this.rowStart;
+		if(rowStart == null || rowStart.length < rows)
+			this.rowStart = rowStart = new int[rows];
+		boolean gridSimple = true;
+		int volatileCells = 0;
 
 		float spaceRightLast = 0;
 		for(int i = 0; i < cellCount; i++) {
 			Cell c = (Cell)cells[i];
 			int column = c.column, row = c.row, colspan = c.colspan;
-			Actor a = c.actor;
+			Cell above = c.cellAboveIndex == -1 ? null : (Cell)cells[c.cellAboveIndex];
+			if(allValues || c.valuesInvalid || c.valuesVolatile)
+				c.computeValues(above);
+			if(c.valuesVolatile)
+				volatileCells++;
+			if(column == 0)
+				rowStart[row] = i;
+			if(colspan != 1 || c.uniformX == Boolean.TRUE || c.uniformY == Boolean.TRUE)
+				gridSimple = false;
 
 			// Collect rows that expand and colspan=1 columns that expand.
 			if(c.expandY != 0 && expandHeight[row] == 0)
@@ -967,21 +1069,19 @@ public class Table extends WidgetGroup {
 
 			// Compute combined padding/spacing for cells.
 			// Spacing between actors isn't additive, the larger is used. Also, no spacing around edges.
-			c.computedPadLeft = c.padLeft.get(a) + (column == 0 ? 0 : Math.max(0, c.spaceLeft.get(a) - spaceRightLast));
-			c.computedPadTop = c.padTop.get(a);
-			if(c.cellAboveIndex != -1) {
-				Cell above = (Cell)cells[c.cellAboveIndex];
-				c.computedPadTop += Math.max(0, c.spaceTop.get(a) - above.spaceBottom.get(a));
-			}
-			float spaceRight = c.spaceRight.get(a);
-			c.computedPadRight = c.padRight.get(a) + ((column + colspan) == columns ? 0 : spaceRight);
-			c.computedPadBottom = c.padBottom.get(a) + (row == rows - 1 ? 0 : c.spaceBottom.get(a));
+			c.computedPadLeft = c.padLeftValue + (column == 0 ? 0 : Math.max(0, c.spaceLeftValue - spaceRightLast));
+			c.computedPadTop = c.padTopValue;
+			if(above != null)
+				c.computedPadTop += Math.max(0, c.spaceTopValue - c.spaceAboveValue);
+			float spaceRight = c.spaceRightValue;
+			c.computedPadRight = c.padRightValue + ((column + colspan) == columns ? 0 : spaceRight);
+			c.computedPadBottom = c.padBottomValue + (row == rows - 1 ? 0 : c.spaceBottomValue);
 			spaceRightLast = spaceRight;
 
 			// Determine minimum and preferred cell sizes.
-			float prefWidth = c.prefWidth.get(a), prefHeight = c.prefHeight.get(a);
-			float minWidth = c.minWidth.get(a), minHeight = c.minHeight.get(a);
-			float maxWidth = c.maxWidth.get(a), maxHeight = c.maxHeight.get(a);
+			float prefWidth = c.prefWidthValue, prefHeight = c.prefHeightValue;
+			float minWidth = c.minWidthValue, minHeight = c.minHeightValue;
+			float maxWidth = c.maxWidthValue, maxHeight = c.maxHeightValue;
 			if(prefWidth < minWidth)
 				prefWidth = minWidth;
 			if(prefHeight < minHeight)
@@ -997,14 +1097,18 @@ public class Table extends WidgetGroup {
 				prefHeight = (float)Math.ceil(prefHeight);
 			}
 
+			float hpadding = c.computedPadLeft + c.computedPadRight;
+			c.cellMinWidth = minWidth + hpadding;
+			c.cellPrefWidth = prefWidth + hpadding;
 			if(colspan == 1) { // Spanned column min and pref width is added later.
-				float hpadding = c.computedPadLeft + c.computedPadRight;
-				columnPrefWidth[column] = Math.max(columnPrefWidth[column], prefWidth + hpadding);
-				columnMinWidth[column] = Math.max(columnMinWidth[column], minWidth + hpadding);
+				columnPrefWidth[column] = Math.max(columnPrefWidth[column], c.cellPrefWidth);
+				columnMinWidth[column] = Math.max(columnMinWidth[column], c.cellMinWidth);
 			}
 			float vpadding = c.computedPadTop + c.computedPadBottom;
-			rowPrefHeight[row] = Math.max(rowPrefHeight[row], prefHeight + vpadding);
-			rowMinHeight[row] = Math.max(rowMinHeight[row], minHeight + vpadding);
+			c.cellMinHeight = minHeight + vpadding;
+			c.cellPrefHeight = prefHeight + vpadding;
+			rowPrefHeight[row] = Math.max(rowPrefHeight[row], c.cellPrefHeight);
+			rowMinHeight[row] = Math.max(rowMinHeight[row], c.cellMinHeight);
 		}
 
 		float uniformMinWidth = 0, uniformMinHeight = 0;
@@ -1063,8 +1167,7 @@ public class Table extends WidgetGroup {
 				continue;
 			int column = c.column;
 
-			Actor a = c.actor;
-			float minWidth = c.minWidth.get(a), prefWidth = c.prefWidth.get(a), maxWidth = c.maxWidth.get(a);
+			float minWidth = c.minWidthValue, prefWidth = c.prefWidthValue, maxWidth = c.maxWidthValue;
 			if(prefWidth < minWidth)
 				prefWidth = minWidth;
 			if(maxWidth > 0 && prefWidth > maxWidth)
@@ -1091,9 +1194,157 @@ public class Table extends WidgetGroup {
 			}
 		}
 
-		// Determine table min and pref size.
-		float hpadding = padLeft.get(this) + padRight.get(this);
-		float vpadding = padTop.get(this) + padBottom.get(this);
+		computeTableSize();
+
+		this.gridSimple = gridSimple;
+		// After all values changed, which values are volatile is determined by the next incremental computation.
+		this.volatileCells = allValues ? -1 : volatileCells;
+		gridCellCount = cellCount;
+		gridColumns = columns;
+		gridRows = rows;
+		gridRound = round;
+		tableLayoutInvalid = true;
+	}
+
+	/**
+	 * Evaluates the values of the invalid cells and computes the size of their row and column again. Returns false if the size
+	 * of every row and column must be computed instead: when the grid changed since it was last computed, when cells span
+	 * columns or are uniform, when cells have volatile values or when too many cells are invalid.
+	 */
+	private boolean computeInvalidCells(Array<Cell<?>> invalidCells) {
+		Object[] cells = this.cells.items;
+		int cellCount = this.cells.size, columns = this.columns, rows = this.rows;
+		int invalidCount = invalidCells.size;
+		if(volatileCells == -1) {
+			volatileCells = 0;
+			for(int i = 0; i < cellCount; i++) {
+				Cell c = (Cell)cells[i];
+				c.computeVolatile(c.cellAboveIndex == -1 ? null : (Cell)cells[c.cellAboveIndex]);
+				if(c.valuesVolatile)
+					volatileCells++;
+			}
+		}
+		if(!gridSimple || volatileCells > 0 || cellCount != gridCellCount || columns != gridColumns || rows != gridRows
+				|| round != gridRound || invalidCount * (columns + rows) > cellCount)
+			return false;
+
+		int[] rowStart = this.rowStart;
+		Object[] invalid = invalidCells.items;
+		for(int i = 0; i < invalidCount; i++) {
+			Cell c = (Cell)invalid[i];
+			Cell above = c.cellAboveIndex == -1 ? null : (Cell)cells[c.cellAboveIndex];
+			float spaceRight = c.spaceRightValue;
+			c.computeValues(above);
+			// The right spacing of a cell is part of the padding of the next cell.
+			if(c.spaceRightValue != spaceRight)
+				return false;
+			int column = c.column;
+			computeCellSize(c, above, column == 0 ? 0 : ((Cell)cells[rowStart[c.row] + column - 1]).spaceRightValue);
+		}
+
+		float[] columnMinWidth = this.columnMinWidth, columnPrefWidth = this.columnPrefWidth;
+		float[] rowMinHeight = this.rowMinHeight, rowPrefHeight = this.rowPrefHeight;
+		boolean gridChanged = false;
+		for(int i = 0; i < invalidCount; i++) {
+			Cell c = (Cell)invalid[i];
+
+			int row = c.row;
+			float minHeight = 0, prefHeight = 0;
+			for(int ii = rowStart[row], nn = row + 1 < rows ? rowStart[row + 1] : cellCount; ii < nn; ii++) {
+				Cell other = (Cell)cells[ii];
+				prefHeight = Math.max(prefHeight, other.cellPrefHeight);
+				minHeight = Math.max(minHeight, other.cellMinHeight);
+			}
+			if(rowMinHeight[row] != minHeight || rowPrefHeight[row] != prefHeight) {
+				rowMinHeight[row] = minHeight;
+				rowPrefHeight[row] = prefHeight;
+				gridChanged = true;
+			}
+
+			int column = c.column;
+			float minWidth = 0, prefWidth = 0;
+			for(int r = 0; r < rows; r++) {
+				int index = rowStart[r] + column;
+				if(index >= (r + 1 < rows ? rowStart[r + 1] : cellCount))
+					continue; // The row has fewer columns.
+				Cell other = (Cell)cells[index];
+				prefWidth = Math.max(prefWidth, other.cellPrefWidth);
+				minWidth = Math.max(minWidth, other.cellMinWidth);
+			}
+			if(columnMinWidth[column] != minWidth || columnPrefWidth[column] != prefWidth) {
+				columnMinWidth[column] = minWidth;
+				columnPrefWidth[column] = prefWidth;
+				gridChanged = true;
+			}
+		}
+
+		if(gridChanged || padLeft.get(this) + padRight.get(this) != tableHPadding
+				|| padTop.get(this) + padBottom.get(this) != tableVPadding) {
+			computeTableSize();
+			Arrays.fill(columnWidth, 0, columns, 0);
+			Arrays.fill(rowHeight, 0, rows, 0);
+			tableLayoutInvalid = true;
+		} else {
+			layoutCells.addAll(invalidCells);
+			cellsLayoutInvalid = true;
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the padding of the cell from its values and those of its neighbors, then the min and pref size of the cell
+	 * including the padding, the same as {@link #computeAllCells(boolean)} does for every cell.
+	 *
+	 * @param spaceRightLast Right spacing of the previous cell.
+	 */
+	private void computeCellSize(Cell c, @Null Cell above, float spaceRightLast) {
+		int column = c.column, row = c.row;
+
+		// Compute combined padding/spacing for cells.
+		// Spacing between actors isn't additive, the larger is used. Also, no spacing around edges.
+		c.computedPadLeft = c.padLeftValue + (column == 0 ? 0 : Math.max(0, c.spaceLeftValue - spaceRightLast));
+		c.computedPadTop = c.padTopValue;
+		if(above != null)
+			c.computedPadTop += Math.max(0, c.spaceTopValue - c.spaceAboveValue);
+		c.computedPadRight = c.padRightValue + ((column + c.colspan) == columns ? 0 : c.spaceRightValue);
+		c.computedPadBottom = c.padBottomValue + (row == rows - 1 ? 0 : c.spaceBottomValue);
+
+		// Determine minimum and preferred cell sizes.
+		float prefWidth = c.prefWidthValue, prefHeight = c.prefHeightValue;
+		float minWidth = c.minWidthValue, minHeight = c.minHeightValue;
+		float maxWidth = c.maxWidthValue, maxHeight = c.maxHeightValue;
+		if(prefWidth < minWidth)
+			prefWidth = minWidth;
+		if(prefHeight < minHeight)
+			prefHeight = minHeight;
+		if(maxWidth > 0 && prefWidth > maxWidth)
+			prefWidth = maxWidth;
+		if(maxHeight > 0 && prefHeight > maxHeight)
+			prefHeight = maxHeight;
+		if(round) {
+			minWidth = (float)Math.ceil(minWidth);
+			minHeight = (float)Math.ceil(minHeight);
+			prefWidth = (float)Math.ceil(prefWidth);
+			prefHeight = (float)Math.ceil(prefHeight);
+		}
+
+		float hpadding = c.computedPadLeft + c.computedPadRight;
+		c.cellMinWidth = minWidth + hpadding;
+		c.cellPrefWidth = prefWidth + hpadding;
+		float vpadding = c.computedPadTop + c.computedPadBottom;
+		c.cellMinHeight = minHeight + vpadding;
+		c.cellPrefHeight = prefHeight + vpadding;
+	}
+
+	/**
+	 * Determines the table min and pref size from the size of the rows and columns.
+	 */
+	private void computeTableSize() {
+		int columns = this.columns, rows = this.rows;
+		float[] columnMinWidth = this.columnMinWidth, columnPrefWidth = this.columnPrefWidth;
+		float[] rowMinHeight = this.rowMinHeight, rowPrefHeight = this.rowPrefHeight;
+		float hpadding = tableHPadding = padLeft.get(this) + padRight.get(this);
+		float vpadding = tableVPadding = padTop.get(this) + padBottom.get(this);
 		tableMinWidth = hpadding;
 		tablePrefWidth = hpadding;
 		for(int i = 0; i < columns; i++) {
@@ -1124,6 +1375,25 @@ public class Table extends WidgetGroup {
 		float padLeft = this.padLeft.get(this), hpadding = padLeft + padRight.get(this);
 		float padTop = this.padTop.get(this), vpadding = padTop + padBottom.get(this);
 
+		// When only cells whose size doesn't change the rows and columns are invalid, the other actors don't move.
+		boolean cellsOnly = cellsLayoutInvalid && !tableLayoutInvalid && debug == Debug.none
+				&& layoutWidth == lastLayoutWidth && layoutHeight == lastLayoutHeight && padLeft == lastPadLeft
+				&& hpadding == lastHPadding && padTop == lastPadTop && vpadding == lastVPadding && align == lastAlign;
+		cellsLayoutInvalid = false;
+		tableLayoutInvalid = false;
+		if(cellsOnly) {
+			layoutInvalidCells(layoutWidth, layoutHeight);
+			return;
+		}
+		layoutCells.clear();
+		lastLayoutWidth = layoutWidth;
+		lastLayoutHeight = layoutHeight;
+		lastPadLeft = padLeft;
+		lastHPadding = hpadding;
+		lastPadTop = padTop;
+		lastVPadding = vpadding;
+		lastAlign = align;
+
 		// Size columns and rows between min and pref size using (preferred - min) size to weight distribution of extra space.
 		float[] columnWeightedWidth;
 		float totalGrowWidth = tablePrefWidth - tableMinWidth;
@@ -1161,7 +1431,6 @@ public class Table extends WidgetGroup {
 		for(int i = 0; i < cellCount; i++) {
 			Cell c = (Cell)cells[i];
 			int column = c.column, row = c.row;
-			Actor a = c.actor;
 
 			float spannedWeightedWidth = 0;
 			int colspan = c.colspan;
@@ -1169,9 +1438,9 @@ public class Table extends WidgetGroup {
 				spannedWeightedWidth += columnWeightedWidth[ii];
 			float weightedHeight = rowWeightedHeight[row];
 
-			float prefWidth = c.prefWidth.get(a), prefHeight = c.prefHeight.get(a);
-			float minWidth = c.minWidth.get(a), minHeight = c.minHeight.get(a);
-			float maxWidth = c.maxWidth.get(a), maxHeight = c.maxHeight.get(a);
+			float prefWidth = c.prefWidthValue, prefHeight = c.prefHeightValue;
+			float minWidth = c.minWidthValue, minHeight = c.minHeightValue;
+			float maxWidth = c.maxWidthValue, maxHeight = c.maxHeightValue;
 			if(prefWidth < minWidth)
 				prefWidth = minWidth;
 			if(prefHeight < minHeight)
@@ -1286,17 +1555,19 @@ public class Table extends WidgetGroup {
 			spannedCellWidth -= c.computedPadLeft + c.computedPadRight;
 
 			currentX += c.computedPadLeft;
+			c.currentX = currentX;
+			c.currentY = currentY;
 
 			float fillX = c.fillX, fillY = c.fillY;
 			if(fillX > 0) {
-				c.actorWidth = Math.max(spannedCellWidth * fillX, c.minWidth.get(c.actor));
-				float maxWidth = c.maxWidth.get(c.actor);
+				c.actorWidth = Math.max(spannedCellWidth * fillX, c.minWidthValue);
+				float maxWidth = c.maxWidthValue;
 				if(maxWidth > 0)
 					c.actorWidth = Math.min(c.actorWidth, maxWidth);
 			}
 			if(fillY > 0) {
-				c.actorHeight = Math.max(rowHeight[c.row] * fillY - c.computedPadTop - c.computedPadBottom, c.minHeight.get(c.actor));
-				float maxHeight = c.maxHeight.get(c.actor);
+				c.actorHeight = Math.max(rowHeight[c.row] * fillY - c.computedPadTop - c.computedPadBottom, c.minHeightValue);
+				float maxHeight = c.maxHeightValue;
 				if(maxHeight > 0)
 					c.actorHeight = Math.min(c.actorHeight, maxHeight);
 			}
@@ -1348,6 +1619,98 @@ public class Table extends WidgetGroup {
 			addDebugRects(x, y, tableWidth - hpadding, tableHeight - vpadding);
 	}
 
+	/**
+	 * Sizes and positions the actors of the cells invalidated since the last layout, the same as {@link #layout()} does for every
+	 * cell. The rows, columns and table are unchanged so the cells keep their position and the other actors are not laid out
+	 * again.
+	 */
+	private void layoutInvalidCells(float layoutWidth, float layoutHeight) {
+		float[] columnMinWidth = this.columnMinWidth, columnPrefWidth = this.columnPrefWidth;
+		float[] rowMinHeight = this.rowMinHeight, rowPrefHeight = this.rowPrefHeight;
+		float[] columnWidth = this.columnWidth, rowHeight = this.rowHeight;
+		float totalGrowWidth = tablePrefWidth - tableMinWidth, totalGrowHeight = tablePrefHeight - tableMinHeight;
+		float extraWidth = Math.min(totalGrowWidth, Math.max(0, layoutWidth - tableMinWidth));
+		float extraHeight = Math.min(totalGrowHeight, Math.max(0, layoutHeight - tableMinHeight));
+
+		// Cells invalidated while laying out are kept for the next layout.
+		Array<Cell<?>> layoutCells = this.layoutCells;
+		int n = layoutCells.size;
+		for(int i = 0; i < n; i++) {
+			Cell c = layoutCells.get(i);
+			int column = c.column, row = c.row;
+
+			float weightedWidth = columnMinWidth[column], weightedHeight = rowMinHeight[row];
+			if(totalGrowWidth != 0) {
+				float growRatio = (columnPrefWidth[column] - columnMinWidth[column]) / totalGrowWidth;
+				weightedWidth = columnMinWidth[column] + extraWidth * growRatio;
+			}
+			if(totalGrowHeight != 0) {
+				float growRatio = (rowPrefHeight[row] - rowMinHeight[row]) / totalGrowHeight;
+				weightedHeight = rowMinHeight[row] + extraHeight * growRatio;
+			}
+
+			float prefWidth = c.prefWidthValue, prefHeight = c.prefHeightValue;
+			float minWidth = c.minWidthValue, minHeight = c.minHeightValue;
+			float maxWidth = c.maxWidthValue, maxHeight = c.maxHeightValue;
+			if(prefWidth < minWidth)
+				prefWidth = minWidth;
+			if(prefHeight < minHeight)
+				prefHeight = minHeight;
+			if(maxWidth > 0 && prefWidth > maxWidth)
+				prefWidth = maxWidth;
+			if(maxHeight > 0 && prefHeight > maxHeight)
+				prefHeight = maxHeight;
+			c.actorWidth = Math.min(weightedWidth - c.computedPadLeft - c.computedPadRight, prefWidth);
+			c.actorHeight = Math.min(weightedHeight - c.computedPadTop - c.computedPadBottom, prefHeight);
+
+			float spannedCellWidth = columnWidth[column] - (c.computedPadLeft + c.computedPadRight);
+			float fillX = c.fillX, fillY = c.fillY;
+			if(fillX > 0) {
+				c.actorWidth = Math.max(spannedCellWidth * fillX, minWidth);
+				if(maxWidth > 0)
+					c.actorWidth = Math.min(c.actorWidth, maxWidth);
+			}
+			if(fillY > 0) {
+				c.actorHeight = Math.max(rowHeight[row] * fillY - c.computedPadTop - c.computedPadBottom, minHeight);
+				if(maxHeight > 0)
+					c.actorHeight = Math.min(c.actorHeight, maxHeight);
+			}
+
+			int align = c.align;
+			float currentX = c.currentX;
+			if((align & Align.left) != 0)
+				c.actorX = currentX;
+			else if((align & Align.right) != 0)
+				c.actorX = currentX + spannedCellWidth - c.actorWidth;
+			else
+				c.actorX = currentX + (spannedCellWidth - c.actorWidth) / 2;
+
+			if((align & Align.top) != 0)
+				c.actorY = c.computedPadTop;
+			else if((align & Align.bottom) != 0)
+				c.actorY = rowHeight[row] - c.actorHeight - c.computedPadBottom;
+			else
+				c.actorY = (rowHeight[row] - c.actorHeight + c.computedPadTop - c.computedPadBottom) / 2;
+			c.actorY = layoutHeight - c.currentY - c.actorY - c.actorHeight;
+
+			if(round) {
+				c.actorWidth = (float)Math.ceil(c.actorWidth);
+				c.actorHeight = (float)Math.ceil(c.actorHeight);
+				c.actorX = (float)Math.floor(c.actorX);
+				c.actorY = (float)Math.floor(c.actorY);
+			}
+
+			Actor actor = c.actor;
+			if(actor != null) {
+				actor.setBounds(c.actorX, c.actorY, c.actorWidth, c.actorHeight);
+				if(actor instanceof Layout)
+					((Layout)actor).validate();
+			}
+		}
+		if(n > 0)
+			layoutCells.removeRange(0, n - 1);
+	}
+
 	private void addDebugRects(float currentX, float currentY, float width, float height) {
 		clearDebugRects();
 		if(debug == Debug.table || debug == Debug.all) {
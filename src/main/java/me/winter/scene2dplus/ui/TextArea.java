@@ -41,6 +41,11 @@ public class TextArea extends TextField {
 	 **/
 	private String lastText;
 
+	/**
+	 * Lines breaks of the paragraphs being broken again
+	 **/
+	private final IntArray paragraphLinesBreak = new IntArray();
+
 	/**
 	 * Current line for the cursor
 	 **/
@@ -214,23 +219,27 @@ public class TextArea extends TextField {
 	}
 
 	void updateFirstLineShowing() {
-		if(cursorLine != firstLineShowing) {
-			int step = cursorLine >= firstLineShowing ? 1 : -1;
-			while(firstLineShowing > cursorLine || firstLineShowing + linesShowing - 1 < cursorLine) {
-				firstLineShowing += step;
-			}
-		}
+		if(firstLineShowing > cursorLine)
+			firstLineShowing = cursorLine;
+		else if(firstLineShowing + linesShowing - 1 < cursorLine)
+			firstLineShowing = cursorLine - linesShowing + 1;
 	}
 
 	/**
-	 * Calculates the text area line for the given cursor position
+	 * Calculates the text area line for the given cursor position, the index of the first line break at or after it
 	 **/
 	private int calculateCurrentLineIndex(int cursor) {
-		int index = 0;
-		while(index < linesBreak.size && cursor > linesBreak.items[index]) {
-			index++;
+		// Lines breaks are sorted, binary search the first one >= cursor.
+		int[] linesBreak = this.linesBreak.items;
+		int low = 0, high = this.linesBreak.size;
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+			if(linesBreak[mid] < cursor)
+				low = mid + 1;
+			else
+				high = mid;
 		}
-		return index;
+		return low;
 	}
 
 	// OVERRIDE from TextField
@@ -312,45 +321,106 @@ public class TextArea extends TextField {
 
 	protected void calculateOffsets() {
 		super.calculateOffsets();
-		if(!this.text.equals(lastText)) {
-			this.lastText = text;
-			BitmapFont font = style.font;
-			float maxWidthLine = this.getWidth()
-					- (style.background != null ? style.background.getLeftWidth() + style.background.getRightWidth() : 0);
+		String text = this.text, lastText = this.lastText;
+		if(text == lastText)
+			return;
+		this.lastText = text;
+
+		// Finds the characters changed since the last text.
+		int start = 0, oldEnd = 0, newEnd = text.length();
+		if(lastText != null) {
+			oldEnd = lastText.length();
+			for(int n = Math.min(oldEnd, newEnd); start < n && text.charAt(start) == lastText.charAt(start); )
+				start++;
+			if(start == oldEnd && start == newEnd)
+				return;
+			while(oldEnd > start && newEnd > start && text.charAt(newEnd - 1) == lastText.charAt(oldEnd - 1)) {
+				oldEnd--;
+				newEnd--;
+			}
+		} else
 			linesBreak.clear();
-			int lineStart = 0;
-			int lastSpace = 0;
-			char lastCharacter;
-			Pool<GlyphLayout> layoutPool = Pools.get(GlyphLayout.class);
-			GlyphLayout layout = layoutPool.obtain();
-			for(int i = 0; i < text.length(); i++) {
-				lastCharacter = text.charAt(i);
-				if(lastCharacter == CARRIAGE_RETURN || lastCharacter == NEWLINE) {
-					linesBreak.add(lineStart);
-					linesBreak.add(i);
-					lineStart = i + 1;
-				} else {
-					lastSpace = (continueCursor(i, 0) ? lastSpace : i);
-					layout.setText(font, text.subSequence(lineStart, i + 1));
-					if(layout.width > maxWidthLine) {
-						if(lineStart >= lastSpace) {
-							lastSpace = i - 1;
-						}
-						linesBreak.add(lineStart);
-						linesBreak.add(lastSpace + 1);
-						lineStart = lastSpace + 1;
-						lastSpace = lineStart;
+
+		// The lines of a paragraph only depend on its characters, so only the paragraphs containing the changed characters are
+		// broken again. The lines of the next paragraphs are moved.
+		int paragraphStart = start;
+		while(paragraphStart > 0 && !isNewLine(text.charAt(paragraphStart - 1)))
+			paragraphStart--;
+		int paragraphEnd = newEnd;
+		while(paragraphEnd < text.length()) {
+			if(isNewLine(text.charAt(paragraphEnd++)))
+				break;
+		}
+		int oldParagraphEnd = oldEnd + paragraphEnd - newEnd;
+
+		int first = calculateCurrentLineIndex(paragraphStart), last = calculateCurrentLineIndex(oldParagraphEnd);
+		first += first & 1; // first line starting in the paragraphs
+		last += last & 1;
+		if(lastText == null)
+			last = 0;
+
+		IntArray lines = paragraphLinesBreak;
+		lines.clear();
+		breakLines(paragraphStart, paragraphEnd, lines);
+
+		int added = lines.size, size = linesBreak.size;
+		int[] linesBreak = this.linesBreak.ensureCapacity(Math.max(0, added - (last - first)));
+		System.arraycopy(linesBreak, last, linesBreak, first + added, size - last);
+		System.arraycopy(lines.items, 0, linesBreak, first, added);
+		size += added - (last - first);
+		this.linesBreak.size = size;
+		int offset = newEnd - oldEnd;
+		if(offset != 0) {
+			for(int i = first + added; i < size; i++)
+				linesBreak[i] += offset;
+		}
+		showCursor();
+	}
+
+	/**
+	 * Adds the lines breaks of the paragraphs from start to end, which must start and end at a new line or at the text bounds
+	 **/
+	private void breakLines(int start, int end, IntArray linesBreak) {
+		String text = this.text;
+		BitmapFont font = style.font;
+		float maxWidthLine = this.getWidth()
+				- (style.background != null ? style.background.getLeftWidth() + style.background.getRightWidth() : 0);
+		int lineStart = start;
+		int lastSpace = start;
+		char lastCharacter;
+		Pool<GlyphLayout> layoutPool = Pools.get(GlyphLayout.class);
+		GlyphLayout layout = layoutPool.obtain();
+		for(int i = start; i < end; i++) {
+			lastCharacter = text.charAt(i);
+			if(lastCharacter == CARRIAGE_RETURN || lastCharacter == NEWLINE) {
+				linesBreak.add(lineStart);
+				linesBreak.add(i);
+				lineStart = i + 1;
+			} else {
+				// The lines being broken are not in this.linesBreak yet, which TextArea's continueCursor would look up.
+				lastSpace = (super.continueCursor(i, 0) ? lastSpace : i);
+				layout.setText(font, text.subSequence(lineStart, i + 1));
+				if(layout.width > maxWidthLine) {
+					if(lineStart >= lastSpace) {
+						lastSpace = i - 1;
 					}
+					linesBreak.add(lineStart);
+					linesBreak.add(lastSpace + 1);
+					lineStart = lastSpace + 1;
+					lastSpace = lineStart;
 				}
 			}
-			layoutPool.free(layout);
-			// Add last line
-			if(lineStart < text.length()) {
-				linesBreak.add(lineStart);
-				linesBreak.add(text.length());
-			}
-			showCursor();
 		}
+		layoutPool.free(layout);
+		// Add last line
+		if(lineStart < end) {
+			linesBreak.add(lineStart);
+			linesBreak.add(end);
+		}
+	}
+
+	private static boolean isNewLine(char c) {
+		return c == CARRIAGE_RETURN || c == NEWLINE;
 	}
 
 	protected InputListener createInputListener() {
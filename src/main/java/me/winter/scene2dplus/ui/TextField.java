@@ -23,6 +23,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
 import com.badlogic.gdx.math.MathUtils;
@@ -30,6 +31,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.*;
 import com.badlogic.gdx.utils.Timer.Task;
 import me.winter.scene2dplus.*;
+import me.winter.scene2dplus.ui.TextField.TextFieldStyle;
 import me.winter.scene2dplus.utils.*;
 
 import java.lang.StringBuilder;
@@ -53,7 +55,7 @@ import java.lang.StringBuilder;
  * @author mzechner
  * @author Nathan Sweet
  */
-public class TextField extends Widget implements Disableable {
+public class TextField extends Widget implements Disableable, Styleable<TextFieldStyle> {
 	static protected final char BACKSPACE = 8;
 	static protected final char CARRIAGE_RETURN = '\r';
 	static protected final char NEWLINE = '\n';
@@ -72,6 +74,11 @@ public class TextField extends Widget implements Disableable {
 	protected int cursor, selectionStart;
 	protected boolean hasSelection;
 	protected boolean writeEnters;
+	/**
+	 * Used to lay out the whole display text when the font has markup enabled or a character has no glyph, otherwise the glyph
+	 * positions are updated without it. Subclasses may use it to measure text, it is overwritten whenever the display text is
+	 * laid out.
+	 */
 	protected final GlyphLayout layout = new GlyphLayout();
 	protected final FloatArray glyphPositions = new FloatArray();
 
@@ -96,6 +103,20 @@ public class TextField extends Widget implements Disableable {
 	private StringBuilder passwordBuffer;
 	private char passwordCharacter = BULLET;
 
+	/**
+	 * The text, font and password character the display text was last updated for. Null if the display text must be updated in
+	 * full.
+	 */
+	private @Null String displayedText;
+	private @Null BitmapFontData displayedFontData;
+	private float displayedScaleX;
+	private char displayedPasswordCharacter;
+	private final StringBuilder displayBuffer = new StringBuilder();
+	/**
+	 * For each glyph of the display text, the advance to the next glyph, or the width of the last glyph.
+	 */
+	private final FloatArray glyphAdvances = new FloatArray();
+
 	protected float fontOffset, textHeight, textOffset;
 	float renderOffset;
 	private int visibleTextStart, visibleTextEnd;
@@ -111,6 +132,7 @@ public class TextField extends Widget implements Disableable {
 				return;
 			}
 			cursorOn = !cursorOn;
+			invalidateRenderCache();
 			Gdx.graphics.requestRendering();
 		}
 	};
@@ -405,6 +427,113 @@ public class TextField extends Widget implements Disableable {
 	}
 
 	void updateDisplayText() {
+		BitmapFontData data = style.font.getData();
+		if(data.markupEnabled || !updateChangedGlyphs(data))
+			layoutDisplayText();
+
+		visibleTextStart = Math.min(visibleTextStart, glyphPositions.size - 1);
+		visibleTextEnd = MathUtils.clamp(visibleTextEnd, visibleTextStart, glyphPositions.size - 1);
+
+		if(selectionStart > text.length())
+			selectionStart = text.length();
+	}
+
+	/**
+	 * Updates the display text and the glyph positions from the first to the last character that changed since the last update,
+	 * found by comparing the text to the last displayed text. The positions after the changed characters are only offset.
+	 *
+	 * @return False if a character has no glyph, the display text must then be laid out by {@link #layoutDisplayText()}.
+	 */
+	private boolean updateChangedGlyphs(BitmapFontData data) {
+		String text = this.text, displayedText = this.displayedText;
+		int textLength = text.length();
+		char passwordCharacter = passwordMode && data.hasGlyph(this.passwordCharacter) ? this.passwordCharacter : 0;
+		StringBuilder displayBuffer = this.displayBuffer;
+		FloatArray glyphAdvances = this.glyphAdvances;
+		int start = 0, oldEnd = displayBuffer.length(), newEnd = textLength;
+		if(displayedText != null && data == displayedFontData && data.scaleX == displayedScaleX
+				&& passwordCharacter == displayedPasswordCharacter) {
+			if(text == displayedText)
+				return true;
+			for(int n = Math.min(oldEnd, newEnd); start < n && text.charAt(start) == displayedText.charAt(start); )
+				start++;
+			while(oldEnd > start && newEnd > start && text.charAt(newEnd - 1) == displayedText.charAt(oldEnd - 1)) {
+				oldEnd--;
+				newEnd--;
+			}
+		} else {
+			displayBuffer.setLength(0);
+			glyphAdvances.clear();
+			oldEnd = 0;
+			displayedFontData = data;
+			displayedScaleX = data.scaleX;
+			displayedPasswordCharacter = passwordCharacter;
+		}
+		this.displayedText = null;
+
+		// Replaces the changed characters.
+		displayBuffer.delete(start, oldEnd);
+		displayBuffer.insert(start, text, start, newEnd);
+		for(int i = start; i < newEnd; i++) {
+			char c = displayBuffer.charAt(i);
+			if(passwordCharacter != 0)
+				displayBuffer.setCharAt(i, passwordCharacter);
+			else if(!data.hasGlyph(c))
+				displayBuffer.setCharAt(i, ' ');
+		}
+		displayText = displayBuffer;
+
+		// Moves the advances after the changed characters, then computes the advances of the changed glyphs and the glyph before
+		// them, which may be kerned differently or no longer be the last glyph.
+		int oldLength = glyphAdvances.size;
+		float[] advances = glyphAdvances.ensureCapacity(Math.max(0, textLength - oldLength));
+		System.arraycopy(advances, oldEnd, advances, newEnd, oldLength - oldEnd);
+		glyphAdvances.size = textLength;
+		float scaleX = data.scaleX;
+		int first = Math.max(0, start - 1);
+		for(int i = first; i < newEnd; i++) {
+			Glyph glyph = getGlyph(data, displayBuffer.charAt(i));
+			if(glyph == null)
+				return false;
+			if(i < textLength - 1) {
+				char next = displayBuffer.charAt(i + 1);
+				advances[i] = (glyph.xadvance + glyph.getKerning(next == '\r' || next == '\n' ? ' ' : next)) * scaleX;
+			} else if(glyph.fixedWidth)
+				advances[i] = glyph.xadvance * scaleX;
+			else
+				advances[i] = (glyph.width + glyph.xoffset) * scaleX - data.padRight;
+		}
+
+		float[] positions = glyphPositions.setSize(textLength + 1);
+		float x = first == 0 ? 0 : positions[first];
+		positions[first] = x;
+		for(int i = first; i < textLength; i++) {
+			x += advances[i];
+			positions[i + 1] = x;
+		}
+
+		if(textLength > 0) {
+			Glyph glyph = getGlyph(data, displayBuffer.charAt(0));
+			fontOffset = glyph.fixedWidth ? 0 : -glyph.xoffset * scaleX - data.padLeft;
+		} else
+			fontOffset = 0;
+		this.displayedText = text;
+		return true;
+	}
+
+	/**
+	 * Returns the glyph drawn for a character of the display text, or null. New lines are drawn as spaces.
+	 */
+	private static @Null Glyph getGlyph(BitmapFontData data, char c) {
+		Glyph glyph = data.getGlyph(c == '\r' || c == '\n' ? ' ' : c);
+		return glyph != null ? glyph : data.missingGlyph;
+	}
+
+	/**
+	 * Updates the display text and the glyph positions by laying out the whole display text.
+	 */
+	private void layoutDisplayText() {
+		displayedText = null;
 		BitmapFont font = style.font;
 		BitmapFontData data = font.getData();
 		String text = this.text;
@@ -444,12 +573,6 @@ public class TextField extends Widget implements Disableable {
 		} else
 			fontOffset = 0;
 		glyphPositions.add(x);
-
-		visibleTextStart = Math.min(visibleTextStart, glyphPositions.size - 1);
-		visibleTextEnd = MathUtils.clamp(visibleTextEnd, visibleTextStart, glyphPositions.size - 1);
-
-		if(selectionStart > newDisplayText.length())
-			selectionStart = textLength;
 	}
 
 	/**
@@ -514,7 +637,8 @@ public class TextField extends Widget implements Disableable {
 	String insert(int position, CharSequence text, String to) {
 		if(to.length() == 0)
 			return text.toString();
-		return to.substring(0, position) + text + to.substring(position);
+		return new StringBuilder(to.length() + text.length()).append(to, 0, position).append(text)
+				.append(to, position, to.length()).toString();
 	}
 
 	int delete(boolean fireChangeEvent) {
@@ -843,6 +967,7 @@ public class TextField extends Widget implements Disableable {
 
 	public void setDisabled(boolean disabled) {
 		this.disabled = disabled;
+		invalidateRenderCache();
 	}
 
 	public boolean isDisabled() {
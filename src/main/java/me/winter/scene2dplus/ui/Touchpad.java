@@ -26,8 +26,10 @@ import me.winter.scene2dplus.Actor;
 import me.winter.scene2dplus.InputEvent;
 import me.winter.scene2dplus.InputListener;
 import me.winter.scene2dplus.Touchable;
+import me.winter.scene2dplus.ui.Touchpad.TouchpadStyle;
 import me.winter.scene2dplus.utils.ChangeListener;
 import me.winter.scene2dplus.utils.Drawable;
+import me.winter.scene2dplus.utils.Styleable;
 
 /**
  * An on-screen joystick. The movement area of the joystick is circular, centered on the touchpad, and its size determined by the
@@ -40,7 +42,7 @@ import me.winter.scene2dplus.utils.Drawable;
  *
  * @author Josh Street
  */
-public class Touchpad extends Widget {
+public class Touchpad extends Widget implements Styleable<TouchpadStyle> {
 	private TouchpadStyle style;
 	boolean touched;
 	boolean resetOnTouchUp = true;
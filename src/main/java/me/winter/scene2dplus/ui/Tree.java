@@ -23,11 +23,14 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectMap;
 import me.winter.scene2dplus.Actor;
 import me.winter.scene2dplus.Group;
 import me.winter.scene2dplus.InputEvent;
 import me.winter.scene2dplus.ui.Tree.Node;
+import me.winter.scene2dplus.ui.Tree.TreeStyle;
 import me.winter.scene2dplus.utils.*;
 
 /**
@@ -36,12 +39,17 @@ import me.winter.scene2dplus.utils.*;
  * The preferred size of the tree is determined by the preferred size of the actors for the expanded nodes.
  * <p>
  * {@link ChangeListener.ChangeEvent} is fired when the selected node changes.
+ * <p>
+ * A {@link #setVirtual(boolean) virtual} tree keeps the expanded nodes in a flat array with the distance of each row to the top
+ * of the tree, and only adds the actors of the nodes in its {@link #setCullingArea(Rectangle) culling area}. Node actors can then
+ * be created when their node is first shown by a {@link #setNodeActorFactory(NodeActorFactory) factory}, so huge trees in a
+ * {@link ScrollPane} only create, lay out and draw the nodes on screen.
  *
  * @param <N> The type of nodes in the tree.
  * @param <V> The type of values for each node.
  * @author Nathan Sweet
  */
-public class Tree<N extends Node, V> extends WidgetGroup {
+public class Tree<N extends Node, V> extends WidgetGroup implements Styleable<TreeStyle> {
 	private static final Vector2 tmp = new Vector2();
 
 	TreeStyle style;
@@ -54,6 +62,26 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 	N rangeStart;
 	private ClickListener clickListener;
 
+	private boolean virtual;
+	private @Null NodeActorFactory<N> nodeActorFactory;
+	private float estimatedNodeHeight;
+	/**
+	 * Expanded nodes in display order when virtual, with their indent and the distance from the top of the tree to their row.
+	 * The distances have one more entry, the distance to the bottom of the last row.
+	 */
+	final Array<N> visibleNodes = new Array<>();
+	private final FloatArray visibleIndents = new FloatArray(), visibleOffsets = new FloatArray();
+	/**
+	 * Nodes whose actor is in the tree when virtual, the visible nodes from shownFirst to shownLast.
+	 */
+	private final Array<N> shownNodes = new Array<>();
+	private int shownFirst, shownLast = -1;
+	private boolean showingNodes, keepSize;
+	/**
+	 * The nodes of the tree by value, a node or an array of the nodes with equal values.
+	 */
+	private final ObjectMap<Object, Object> valueNodes = new ObjectMap<>();
+
 	public Tree(Skin skin) {
 		this(skin.get(TreeStyle.class));
 	}
@@ -96,12 +124,16 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 					N rangeStart = Tree.this.rangeStart;
 					if(!UIUtils.ctrl())
 						selection.clear();
-					float start = rangeStart.actor.getY(), end = node.actor.getY();
-					if(start > end)
-						selectNodes(rootNodes, end, start);
+					if(virtual)
+						selectVisibleNodes(rangeStart, node);
 					else {
-						selectNodes(rootNodes, start, end);
-						selection.items().orderedItems().reverse();
+						float start = rangeStart.actor.getY(), end = node.actor.getY();
+						if(start > end)
+							selectNodes(rootNodes, end, start);
+						else {
+							selectNodes(rootNodes, start, end);
+							selection.items().orderedItems().reverse();
+						}
 					}
 
 					selection.fireChangeEvent();
@@ -156,24 +188,35 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 	}
 
 	public void insert(int index, N node) {
+		int existingIndex = -1;
 		if(node.parent != null) {
 			node.parent.remove(node);
 			node.parent = null;
 		} else {
-			int existingIndex = rootNodes.indexOf(node, true);
+			existingIndex = rootNodes.indexOf(node, true);
 			if(existingIndex != -1) {
 				if(existingIndex == index)
 					return;
 				if(existingIndex < index)
 					index--;
 				rootNodes.removeIndex(existingIndex);
-				int actorIndex = node.actor.getZIndex();
-				if(actorIndex != -1)
-					node.removeFromTree(this, actorIndex);
+				if(!virtual) {
+					int actorIndex = node.actor.getZIndex();
+					if(actorIndex != -1)
+						node.removeFromTree(this, actorIndex);
+				}
 			}
 		}
 
 		rootNodes.insert(index, node);
+		if(existingIndex == -1) {
+			node.rootOf = this;
+			addValueNodes(node);
+		}
+		if(virtual) {
+			invalidateHierarchy();
+			return;
+		}
 
 		int actorIndex;
 		if(index == 0)
@@ -194,6 +237,12 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		}
 		if(!rootNodes.removeValue(node, true))
 			return;
+		node.rootOf = null;
+		removeValueNodes(node);
+		if(virtual) {
+			invalidateHierarchy();
+			return;
+		}
 		int actorIndex = node.actor.getZIndex();
 		if(actorIndex != -1)
 			node.removeFromTree(this, actorIndex);
@@ -205,17 +254,92 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 	public void clearChildren() {
 		super.clearChildren();
 		setOverNode(null);
+		for(int i = 0, n = rootNodes.size; i < n; i++)
+			rootNodes.get(i).rootOf = null;
 		rootNodes.clear();
+		valueNodes.clear();
+		shownNodes.clear();
 		selection.clear();
 	}
 
+	/**
+	 * Adds the specified node and its descendants to the nodes by value.
+	 */
+	void addValueNodes(Node node) {
+		if(node.value != null)
+			addValueNode(node.value, node);
+		Object[] children = node.children.items;
+		for(int i = 0, n = node.children.size; i < n; i++)
+			addValueNodes((Node)children[i]);
+	}
+
+	void addValueNode(Object value, Node node) {
+		Object existing = valueNodes.get(value);
+		if(existing == null)
+			valueNodes.put(value, node);
+		else if(existing instanceof Array) {
+			Array<Node> nodes = (Array<Node>)existing;
+			if(!nodes.contains(node, true))
+				nodes.add(node);
+		} else if(existing != node) {
+			Array<Node> nodes = new Array<>(false, 2);
+			nodes.add((Node)existing);
+			nodes.add(node);
+			valueNodes.put(value, nodes);
+		}
+	}
+
+	/**
+	 * Removes the specified node and its descendants from the nodes by value.
+	 */
+	void removeValueNodes(Node node) {
+		if(node.value != null)
+			removeValueNode(node.value, node);
+		Object[] children = node.children.items;
+		for(int i = 0, n = node.children.size; i < n; i++)
+			removeValueNodes((Node)children[i]);
+	}
+
+	void removeValueNode(Object value, Node node) {
+		Object existing = valueNodes.get(value);
+		if(existing == node)
+			valueNodes.remove(value);
+		else if(existing instanceof Array) {
+			Array<Node> nodes = (Array<Node>)existing;
+			nodes.removeValue(node, true);
+			if(nodes.size == 1)
+				valueNodes.put(value, nodes.first());
+		}
+	}
+
 	public Array<N> getNodes() {
 		return rootNodes;
 	}
 
 	public void invalidate() {
 		super.invalidate();
-		sizeInvalid = true;
+		if(!keepSize)
+			sizeInvalid = true;
+	}
+
+	protected void sizeChanged() {
+		if(!virtual) {
+			super.sizeChanged();
+			return;
+		}
+		// The preferred size of the tree doesn't depend on its size, only the shown nodes need to be positioned again.
+		keepSize = true;
+		try {
+			super.sizeChanged();
+		} finally {
+			keepSize = false;
+		}
+	}
+
+	protected void childrenChanged() {
+		// Showing the actors of the nodes scrolled into view doesn't change the size of the tree.
+		if(!showingNodes)
+			super.childrenChanged();
 	}
 
 	private float plusMinusWidth() {
@@ -231,7 +355,14 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		sizeInvalid = false;
 		prefWidth = plusMinusWidth();
 		prefHeight = 0;
-		computeSize(rootNodes, 0, prefWidth);
+		if(virtual) {
+			visibleNodes.clear();
+			visibleIndents.clear();
+			computeSize(rootNodes, 0, prefWidth);
+			visibleOffsets.setSize(visibleNodes.size + 1);
+			computeVisibleOffsets(0);
+		} else
+			computeSize(rootNodes, 0, prefWidth);
 		prefWidth += paddingLeft + paddingRight;
 	}
 
@@ -242,7 +373,13 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 			N node = nodes.get(i);
 			float rowWidth = indent + plusMinusWidth;
 			Actor actor = node.actor;
-			if(actor instanceof Layout) {
+			if(virtual) {
+				visibleNodes.add(node);
+				visibleIndents.add(indent);
+			}
+			if(actor == null) // Not shown yet in a virtual tree.
+				node.height = getEstimatedNodeHeight();
+			else if(actor instanceof Layout) {
 				Layout layout = (Layout)actor;
 				rowWidth += layout.getPrefWidth();
 				node.height = layout.getPrefHeight();
@@ -261,10 +398,165 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		}
 	}
 
+	/**
+	 * Computes the distance to the top of the tree of the visible nodes from the specified index.
+	 */
+	private void computeVisibleOffsets(int start) {
+		Object[] nodes = visibleNodes.items;
+		float[] offsets = visibleOffsets.items;
+		float offset = start == 0 ? 0 : offsets[start], ySpacing = this.ySpacing;
+		for(int i = start, n = visibleNodes.size; i < n; i++) {
+			offsets[i] = offset;
+			offset += ((N)nodes[i]).getHeight() + ySpacing;
+		}
+		offsets[visibleNodes.size] = offset;
+	}
+
 	public void layout() {
 		if(sizeInvalid)
 			computeSize();
-		layout(rootNodes, paddingLeft, getHeight() - ySpacing / 2, plusMinusWidth());
+		if(virtual)
+			showNodes(true);
+		else
+			layout(rootNodes, paddingLeft, getHeight() - ySpacing / 2, plusMinusWidth());
+	}
+
+	/**
+	 * Adds the actors of the visible nodes in the culling area to the tree and removes the others, creating the actors of the
+	 * nodes shown for the first time.
+	 *
+	 * @param layout If false, only the actors added to the tree are laid out and positioned.
+	 */
+	private void showNodes(boolean layout) {
+		Object[] nodes = visibleNodes.items;
+		float[] indents = visibleIndents.items;
+		float plusMinusWidth = plusMinusWidth(), height = getHeight(), halfSpacing = ySpacing / 2;
+		float spacing = iconSpacingLeft + iconSpacingRight;
+		Rectangle cullingArea = getCullingArea();
+		boolean sizeChanged = false;
+		int first, last;
+		while(true) {
+			first = 0;
+			last = visibleNodes.size - 1;
+			if(cullingArea != null && last != -1) {
+				first = visibleNodeIndex(height - cullingArea.y - cullingArea.height);
+				last = visibleNodeIndex(height - cullingArea.y);
+			}
+
+			// Creates the missing actors and replaces the estimated sizes, which moves the rows below.
+			int changed = -1;
+			for(int i = first; i <= last; i++) {
+				N node = (N)nodes[i];
+				if(node.actor != null)
+					continue;
+				Actor actor = node.actor = createNodeActor(node);
+				float rowWidth = indent(indents[i]) + plusMinusWidth, rowHeight;
+				if(actor instanceof Layout) {
+					rowWidth += ((Layout)actor).getPrefWidth();
+					rowHeight = ((Layout)actor).getPrefHeight();
+				} else {
+					rowWidth += actor.getWidth();
+					rowHeight = actor.getHeight();
+				}
+				if(node.icon != null) {
+					rowWidth += spacing + node.icon.getMinWidth();
+					rowHeight = Math.max(rowHeight, node.icon.getMinHeight());
+				}
+				if(rowWidth + paddingRight > prefWidth) {
+					prefWidth = rowWidth + paddingRight;
+					sizeChanged = true;
+				}
+				if(rowHeight != node.height) {
+					prefHeight += rowHeight - node.height;
+					node.height = rowHeight;
+					if(changed == -1)
+						changed = i;
+				}
+			}
+			if(changed == -1)
+				break;
+			computeVisibleOffsets(changed);
+			sizeChanged = true;
+		}
+		if(!layout && !sizeChanged && first == shownFirst && last == shownLast)
+			return;
+		shownFirst = first;
+		shownLast = last;
+
+		Object[] shown = shownNodes.items;
+		for(int i = 0, n = shownNodes.size; i < n; i++)
+			((N)shown[i]).shown = false;
+		for(int i = first; i <= last; i++)
+			((N)nodes[i]).shown = true;
+
+		float[] offsets = visibleOffsets.items;
+		showingNodes = true;
+		try {
+			for(int i = 0, n = shownNodes.size; i < n; i++) {
+				N node = (N)shown[i];
+				if(!node.shown && node.actor != null)
+					removeActor(node.actor);
+			}
+			shownNodes.clear();
+
+			for(int i = first; i <= last; i++) {
+				N node = (N)nodes[i];
+				shownNodes.add(node);
+				Actor actor = node.actor;
+				if(actor.getParent() == this && !layout)
+					continue;
+				addActor(actor);
+				float x = indent(indents[i]) + plusMinusWidth;
+				if(node.icon != null)
+					x += spacing + node.icon.getMinWidth();
+				else
+					x += iconSpacingLeft;
+				if(actor instanceof Layout)
+					((Layout)actor).pack();
+				actor.setPosition(x, height - halfSpacing - offsets[i] - node.getHeight());
+			}
+		} finally {
+			showingNodes = false;
+		}
+		if(sizeChanged) {
+			// The preferred size was updated with the measured nodes.
+			keepSize = true;
+			try {
+				invalidateHierarchy();
+			} finally {
+				keepSize = false;
+			}
+		}
+	}
+
+	private float indent(float indent) {
+		return paddingLeft + indent;
+	}
+
+	/**
+	 * Returns the index of the visible node whose row contains the specified distance from the top of the tree, clamped to the
+	 * visible nodes. The tree must have visible nodes.
+	 */
+	private int visibleNodeIndex(float distance) {
+		float[] offsets = visibleOffsets.items;
+		int low = 1, high = visibleNodes.size;
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+			if(offsets[mid] >= distance)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		return low - 1;
+	}
+
+	private Actor createNodeActor(N node) {
+		if(nodeActorFactory == null)
+			throw new IllegalStateException("The node has no actor and the tree has no node actor factory.");
+		Actor actor = nodeActorFactory.createActor(node);
+		if(actor == null)
+			throw new IllegalStateException("The node actor factory returned null.");
+		return actor;
 	}
 
 	private float layout(Array<N> nodes, float indent, float y, float plusMinusWidth) {
@@ -290,10 +582,17 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 	}
 
 	public void draw(Batch batch, float parentAlpha) {
+		if(virtual) {
+			validate();
+			showNodes(false);
+		}
 		drawBackground(batch, parentAlpha);
 		Color color = getColor();
 		batch.setColor(color.r, color.g, color.b, color.a * parentAlpha);
-		draw(batch, rootNodes, paddingLeft, plusMinusWidth());
+		if(virtual)
+			drawShownNodes(batch, plusMinusWidth());
+		else
+			draw(batch, rootNodes, paddingLeft, plusMinusWidth());
 		super.draw(batch, parentAlpha); // Draw node actors.
 	}
 
@@ -318,39 +617,56 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 			cullBottom = cullingArea.y;
 			cullTop = cullBottom + cullingArea.height;
 		}
-		TreeStyle style = this.style;
 		float x = getX(), y = getY(), expandX = x + indent, iconX = expandX + plusMinusWidth + iconSpacingLeft;
 		for(int i = 0, n = nodes.size; i < n; i++) {
 			N node = nodes.get(i);
-			Actor actor = node.actor;
-			float actorY = actor.getY(), height = node.height;
-			if(cullingArea == null || (actorY + height >= cullBottom && actorY <= cullTop)) {
-				if(selection.contains(node) && style.selection != null) {
-					drawSelection(node, style.selection, batch, x, y + actorY - ySpacing / 2, getWidth(), height + ySpacing);
-				} else if(node == overNode && style.over != null) {
-					drawOver(node, style.over, batch, x, y + actorY - ySpacing / 2, getWidth(), height + ySpacing);
-				}
-
-				if(node.icon != null) {
-					float iconY = y + actorY + Math.round((height - node.icon.getMinHeight()) / 2);
-					batch.setColor(actor.getColor());
-					drawIcon(node, node.icon, batch, iconX, iconY);
-					batch.setColor(1, 1, 1, 1);
-				}
-
-				if(node.children.size > 0) {
-					Drawable expandIcon = getExpandIcon(node, iconX);
-					float iconY = y + actorY + Math.round((height - expandIcon.getMinHeight()) / 2);
-					drawExpandIcon(node, expandIcon, batch, expandX, iconY);
-				}
-			} else if(actorY < cullBottom) {
+			float actorY = node.actor.getY();
+			if(cullingArea == null || (actorY + node.height >= cullBottom && actorY <= cullTop))
+				drawNode(batch, node, x, y, actorY, expandX, iconX);
+			else if(actorY < cullBottom)
 				return;
-			}
 			if(node.expanded && node.children.size > 0)
 				draw(batch, node.children, indent + indentSpacing, plusMinusWidth);
 		}
 	}
 
+	/**
+	 * Draws selection, icons, and expand icons of the nodes whose actor is in a virtual tree.
+	 */
+	private void drawShownNodes(Batch batch, float plusMinusWidth) {
+		float x = getX(), y = getY(), top = getHeight() - ySpacing / 2;
+		Object[] nodes = visibleNodes.items;
+		float[] indents = visibleIndents.items, offsets = visibleOffsets.items;
+		for(int i = shownFirst; i <= shownLast; i++) {
+			N node = (N)nodes[i];
+			float expandX = x + indent(indents[i]), iconX = expandX + plusMinusWidth + iconSpacingLeft;
+			drawNode(batch, node, x, y, top - offsets[i] - node.getHeight(), expandX, iconX);
+		}
+	}
+
+	private void drawNode(Batch batch, N node, float x, float y, float actorY, float expandX, float iconX) {
+		TreeStyle style = this.style;
+		float height = node.height;
+		if(selection.contains(node) && style.selection != null) {
+			drawSelection(node, style.selection, batch, x, y + actorY - ySpacing / 2, getWidth(), height + ySpacing);
+		} else if(node == overNode && style.over != null) {
+			drawOver(node, style.over, batch, x, y + actorY - ySpacing / 2, getWidth(), height + ySpacing);
+		}
+
+		if(node.icon != null) {
+			float iconY = y + actorY + Math.round((height - node.icon.getMinHeight()) / 2);
+			batch.setColor(node.actor.getColor());
+			drawIcon(node, node.icon, batch, iconX, iconY);
+			batch.setColor(1, 1, 1, 1);
+		}
+
+		if(node.children.size > 0) {
+			Drawable expandIcon = getExpandIcon(node, iconX);
+			float iconY = y + actorY + Math.round((height - expandIcon.getMinHeight()) / 2);
+			drawExpandIcon(node, expandIcon, batch, expandX, iconY);
+		}
+	}
+
 	protected void drawSelection(N node, Drawable selection, Batch batch, float x, float y, float width, float height) {
 		selection.draw(batch, x, y, width, height);
 	}
@@ -396,6 +712,20 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 	 * @return May be null.
 	 */
 	public @Null N getNodeAt(float y) {
+		if(virtual) {
+			if(sizeInvalid)
+				computeSize();
+			if(visibleNodes.size == 0)
+				return null;
+			float distance = getHeight() - y;
+			int index = visibleNodeIndex(distance);
+			N node = visibleNodes.get(index);
+			float[] offsets = visibleOffsets.items;
+			// Node subclass may increase getHeight, the space above the row is not part of the node.
+			if(distance <= offsets[index] + node.getHeight() - node.height || distance > offsets[index + 1])
+				return null;
+			return node;
+		}
 		foundNode = null;
 		getNodeAt(rootNodes, y, getHeight());
 		return foundNode;
@@ -434,6 +764,22 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		}
 	}
 
+	/**
+	 * Selects the selectable visible nodes of a virtual tree from the range start to the specified node, in that order.
+	 */
+	void selectVisibleNodes(N rangeStart, N node) {
+		int start = visibleNodes.indexOf(rangeStart, true), end = visibleNodes.indexOf(node, true);
+		if(start == -1 || end == -1)
+			return;
+		for(int i = Math.min(start, end), n = Math.max(start, end); i <= n; i++) {
+			N visibleNode = visibleNodes.get(i);
+			if(visibleNode.isSelectable())
+				selection.add(visibleNode);
+		}
+		if(start > end)
+			selection.items().orderedItems().reverse();
+	}
+
 	public Selection<N> getSelection() {
 		return selection;
 	}
@@ -472,6 +818,10 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 	 * @see Node#updateChildren()
 	 */
 	public void updateRootNodes() {
+		if(virtual) {
+			invalidateHierarchy();
+			return;
+		}
 		for(int i = 0, n = rootNodes.size; i < n; i++) {
 			N node = rootNodes.get(i);
 			int actorIndex = node.actor.getZIndex();
@@ -552,6 +902,63 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		this.iconSpacingRight = right;
 	}
 
+	/**
+	 * Sets whether the tree is virtual, false by default. A virtual tree only adds the actors of the visible nodes in its
+	 * {@link #setCullingArea(Rectangle) culling area}, or all visible nodes if it has none, and finds the nodes at a position by
+	 * binary search. Nodes without an actor get one from the {@link #setNodeActorFactory(NodeActorFactory) node actor factory}
+	 * when they are first shown, until then their height is {@link #setEstimatedNodeHeight(float) estimated} and their width is
+	 * not part of the preferred width.
+	 * <p>
+	 * {@link Node#getTree()} returns null for the nodes of a virtual tree which are not shown.
+	 */
+	public void setVirtual(boolean virtual) {
+		if(this.virtual == virtual)
+			return;
+		this.virtual = virtual;
+		super.clearChildren();
+		shownNodes.clear();
+		shownFirst = 0;
+		shownLast = -1;
+		if(!virtual) {
+			visibleNodes.clear();
+			for(int i = 0, n = rootNodes.size, actorIndex = 0; i < n; i++)
+				actorIndex += rootNodes.get(i).addToTree(this, actorIndex);
+		}
+	}
+
+	public boolean isVirtual() {
+		return virtual;
+	}
+
+	/**
+	 * Sets the factory creating the actors of nodes without one, when they are added to the tree or, for a
+	 * {@link #setVirtual(boolean) virtual} tree, when they are first shown.
+	 *
+	 * @param nodeActorFactory May be null.
+	 */
+	public void setNodeActorFactory(@Null NodeActorFactory<N> nodeActorFactory) {
+		this.nodeActorFactory = nodeActorFactory;
+	}
+
+	public @Null NodeActorFactory<N> getNodeActorFactory() {
+		return nodeActorFactory;
+	}
+
+	/**
+	 * Sets the height used for the nodes of a {@link #setVirtual(boolean) virtual} tree whose actor was not created yet. If 0,
+	 * the default, the height of the plus and minus drawables is used.
+	 */
+	public void setEstimatedNodeHeight(float estimatedNodeHeight) {
+		this.estimatedNodeHeight = estimatedNodeHeight;
+		invalidateHierarchy();
+	}
+
+	public float getEstimatedNodeHeight() {
+		if(estimatedNodeHeight > 0)
+			return estimatedNodeHeight;
+		return Math.max(style.plus.getMinHeight(), style.minus.getMinHeight());
+	}
+
 	public float getPrefWidth() {
 		if(sizeInvalid)
 			computeSize();
@@ -589,12 +996,16 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 	}
 
 	/**
-	 * Returns the node with the specified value, or null.
+	 * Returns the node with the specified value, or null. If several nodes have equal values, any of them is returned, not
+	 * necessarily the first one found searching the root nodes in order.
 	 */
 	public @Null N findNode(V value) {
 		if(value == null)
 			throw new IllegalArgumentException("value cannot be null.");
-		return (N)findNode(rootNodes, value);
+		Object found = valueNodes.get(value);
+		if(found instanceof Array)
+			return ((Array<N>)found).first();
+		return (N)found;
 	}
 
 	static @Null Node findNode(Array<? extends Node> nodes, Object value) {
@@ -659,6 +1070,11 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		Drawable icon;
 		float height;
 		V value;
+		/**
+		 * The tree this node is a root node of, or null.
+		 */
+		@Null Tree<N, V> rootOf;
+		boolean shown;
 
 		public Node(A actor) {
 			if(actor == null)
@@ -677,6 +1093,11 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 			this.expanded = expanded;
 			if(children.size == 0)
 				return;
+			Tree rootTree = getRootTree();
+			if(rootTree != null && rootTree.virtual) {
+				rootTree.invalidateHierarchy();
+				return;
+			}
 			Tree tree = getTree();
 			if(tree == null)
 				return;
@@ -697,6 +1118,8 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		 * @return The number of node actors added to the tree.
 		 */
 		protected int addToTree(Tree<N, V> tree, int actorIndex) {
+			if(actor == null)
+				actor = (A)tree.createNodeActor((N)this);
 			tree.addActorAt(actorIndex, actor);
 			if(!expanded)
 				return 1;
@@ -732,8 +1155,15 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		public void insert(int childIndex, N node) {
 			node.parent = this;
 			children.insert(childIndex, node);
+			Tree rootTree = getRootTree();
+			if(rootTree != null)
+				rootTree.addValueNodes(node);
 			if(!expanded)
 				return;
+			if(rootTree != null && rootTree.virtual) {
+				rootTree.invalidateHierarchy();
+				return;
+			}
 			Tree tree = getTree();
 			if(tree != null) {
 				int actorIndex;
@@ -763,11 +1193,10 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		 * Remove this node from its parent.
 		 */
 		public void remove() {
-			Tree tree = getTree();
-			if(tree != null)
-				tree.remove(this);
-			else if(parent != null) //
+			if(parent != null)
 				parent.remove(this);
+			else if(rootOf != null) //
+				rootOf.remove((N)this);
 		}
 
 		/**
@@ -776,8 +1205,16 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		public void remove(N node) {
 			if(!children.removeValue(node, true))
 				return;
+			node.parent = null;
+			Tree rootTree = getRootTree();
+			if(rootTree != null)
+				rootTree.removeValueNodes(node);
 			if(!expanded)
 				return;
+			if(rootTree != null && rootTree.virtual) {
+				rootTree.invalidateHierarchy();
+				return;
+			}
 			Tree tree = getTree();
 			if(tree != null)
 				node.removeFromTree(tree, node.actor.getZIndex());
@@ -787,16 +1224,25 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		 * Removes all children from this node.
 		 */
 		public void clearChildren() {
+			Tree rootTree = getRootTree();
+			Object[] children = this.children.items;
 			if(expanded) {
 				Tree tree = getTree();
-				if(tree != null) {
+				if(rootTree != null && rootTree.virtual)
+					rootTree.invalidateHierarchy();
+				else if(tree != null) {
 					int actorIndex = actor.getZIndex() + 1;
-					Object[] children = this.children.items;
 					for(int i = 0, n = this.children.size; i < n; i++)
 						((N)children[i]).removeFromTree(tree, actorIndex);
 				}
 			}
-			children.clear();
+			for(int i = 0, n = this.children.size; i < n; i++) {
+				N child = (N)children[i];
+				child.parent = null;
+				if(rootTree != null)
+					rootTree.removeValueNodes(child);
+			}
+			this.children.clear();
 		}
 
 		/**
@@ -804,12 +1250,24 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		 * are expanded.
 		 */
 		public @Null Tree<N, V> getTree() {
+			if(actor == null)
+				return null;
 			Group parent = actor.getParent();
 			if(parent instanceof Tree)
 				return (Tree)parent;
 			return null;
 		}
 
+		/**
+		 * Returns the tree this node is in, whether or not its actor is, or null.
+		 */
+		@Null Tree<N, V> getRootTree() {
+			Node node = this;
+			while(node.parent != null)
+				node = node.parent;
+			return node.rootOf;
+		}
+
 		public void setActor(A newActor) {
 			if(actor != null) {
 				Tree<N, V> tree = getTree();
@@ -852,6 +1310,11 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		public void updateChildren() {
 			if(!expanded)
 				return;
+			Tree rootTree = getRootTree();
+			if(rootTree != null && rootTree.virtual) {
+				rootTree.invalidateHierarchy();
+				return;
+			}
 			Tree tree = getTree();
 			if(tree == null)
 				return;
@@ -886,6 +1349,13 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		 * Sets an application specific value for this node.
 		 */
 		public void setValue(@Null V value) {
+			Tree rootTree = getRootTree();
+			if(rootTree != null) {
+				if(this.value != null)
+					rootTree.removeValueNode(this.value, this);
+				if(value != null)
+					rootTree.addValueNode(value, this);
+			}
 			this.value = value;
 		}
 
@@ -904,14 +1374,26 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		}
 
 		/**
-		 * Returns this node or the child node with the specified value, or null.
+		 * Returns this node or the child node with the specified value, or null. If several nodes under this node have equal
+		 * values, any of them is returned, not necessarily the first one found searching this node's children in order.
 		 */
 		public @Null N findNode(V value) {
 			if(value == null)
 				throw new IllegalArgumentException("value cannot be null.");
 			if(value.equals(this.value))
 				return (N)this;
-			return (N)Tree.findNode(children, value);
+			Tree<N, V> rootTree = getRootTree();
+			if(rootTree == null)
+				return (N)Tree.findNode(children, value);
+			Object found = rootTree.valueNodes.get(value);
+			if(found instanceof Array) {
+				Array<N> nodes = (Array<N>)found;
+				for(int i = 0, n = nodes.size; i < n; i++)
+					if(nodes.get(i).isDescendantOf(this))
+						return nodes.get(i);
+				return null;
+			}
+			return found != null && ((N)found).isDescendantOf(this) ? (N)found : null;
 		}
 
 		/**
@@ -1004,6 +1486,15 @@ public class Tree<N extends Node, V> extends WidgetGroup {
 		}
 	}
 
+	/**
+	 * Creates the actors of the nodes of a {@link Tree}.
+	 *
+	 * @see Tree#setNodeActorFactory(NodeActorFactory)
+	 */
+	public interface NodeActorFactory<N extends Node> {
+		Actor createActor(N node);
+	}
+
 	/**
 	 * The style for a {@link Tree}.
 	 *
@@ -27,6 +27,22 @@ import me.winter.scene2dplus.utils.Layout;
  * @author Nathan Sweet
  */
 public abstract class Value {
+	/**
+	 * Stability of a value, which tells a {@link Table} when it must be evaluated again: a volatile value may change at any
+	 * time, an actor size value only when the size of the cell's actor changes and a fixed value never changes.
+	 */
+	static final int VOLATILE = 0, ACTOR_SIZE = 1, FIXED = 2;
+
+	final int stability;
+
+	public Value() {
+		stability = VOLATILE;
+	}
+
+	Value(int stability) {
+		this.stability = stability;
+	}
+
 	/**
 	 * Calls {@link #get(Actor)} with null.
 	 */
@@ -56,6 +72,7 @@ public abstract class Value {
 		private final float value;
 
 		public Fixed(float value) {
+			super(FIXED);
 			this.value = value;
 		}
 
@@ -83,7 +100,7 @@ public abstract class Value {
 	/**
 	 * Value that is the minWidth of the actor in the cell.
 	 */
-	public static Value minWidth = new Value() {
+	public static Value minWidth = new Value(ACTOR_SIZE) {
 		public float get(@Null Actor context) {
 			if(context instanceof Layout)
 				return ((Layout)context).getMinWidth();
@@ -94,7 +111,7 @@ public abstract class Value {
 	/**
 	 * Value that is the minHeight of the actor in the cell.
 	 */
-	public static Value minHeight = new Value() {
+	public static Value minHeight = new Value(ACTOR_SIZE) {
 		public float get(@Null Actor context) {
 			if(context instanceof Layout)
 				return ((Layout)context).getMinHeight();
@@ -105,7 +122,7 @@ public abstract class Value {
 	/**
 	 * Value that is the prefWidth of the actor in the cell.
 	 */
-	public static Value prefWidth = new Value() {
+	public static Value prefWidth = new Value(ACTOR_SIZE) {
 		public float get(@Null Actor context) {
 			if(context instanceof Layout)
 				return ((Layout)context).getPrefWidth();
@@ -117,7 +134,7 @@ public abstract class Value {
 	/**
 	 * Value that is the prefHeight of the actor in the cell.
 	 */
-	public static Value prefHeight = new Value() {
+	public static Value prefHeight = new Value(ACTOR_SIZE) {
 		public float get(@Null Actor context) {
 			if(context instanceof Layout)
 				return ((Layout)context).getPrefHeight();
@@ -128,7 +145,7 @@ public abstract class Value {
 	/**
 	 * Value that is the maxWidth of the actor in the cell.
 	 */
-	public static Value maxWidth = new Value() {
+	public static Value maxWidth = new Value(ACTOR_SIZE) {
 		public float get(@Null Actor context) {
 			if(context instanceof Layout)
 				return ((Layout)context).getMaxWidth();
@@ -139,7 +156,7 @@ public abstract class Value {
 	/**
 	 * Value that is the maxHeight of the actor in the cell.
 	 */
-	public static Value maxHeight = new Value() {
+	public static Value maxHeight = new Value(ACTOR_SIZE) {
 		public float get(@Null Actor context) {
 			if(context instanceof Layout)
 				return ((Layout)context).getMaxHeight();
@@ -92,6 +92,7 @@ public class Widget extends Actor implements Layout {
 			return;
 		needsLayout = false;
 		layout();
+		hitChanged();
 	}
 
 	/**
@@ -103,6 +104,7 @@ public class Widget extends Actor implements Layout {
 
 	public void invalidate() {
 		needsLayout = true;
+		invalidateRenderCache();
 	}
 
 	public void invalidateHierarchy() {
@@ -110,7 +112,9 @@ public class Widget extends Actor implements Layout {
 			return;
 		invalidate();
 		Group parent = getParent();
-		if(parent instanceof Layout)
+		if(parent instanceof WidgetGroup)
+			((WidgetGroup)parent).childInvalidatedHierarchy(this);
+		else if(parent instanceof Layout)
 			((Layout)parent).invalidateHierarchy();
 	}
 
@@ -117,6 +117,7 @@ public class WidgetGroup extends Group implements Layout {
 			return;
 		needsLayout = false;
 		layout();
+		hitChanged();
 
 		// Widgets may call invalidateHierarchy during layout (eg, a wrapped label). The root-most widget group retries layout a
 		// reasonable number of times.
@@ -141,15 +142,26 @@ public class WidgetGroup extends Group implements Layout {
 
 	public void invalidate() {
 		needsLayout = true;
+		invalidateRenderCache();
 	}
 
 	public void invalidateHierarchy() {
 		invalidate();
 		Group parent = getParent();
-		if(parent instanceof Layout)
+		if(parent instanceof WidgetGroup)
+			((WidgetGroup)parent).childInvalidatedHierarchy(this);
+		else if(parent instanceof Layout)
 			((Layout)parent).invalidateHierarchy();
 	}
 
+	/**
+	 * Called when a child widget or widget group invalidates its hierarchy. The default implementation invalidates the hierarchy
+	 * of this group. Groups keeping information about each child can override it to only discard the child's.
+	 */
+	protected void childInvalidatedHierarchy(Actor child) {
+		invalidateHierarchy();
+	}
+
 	protected void childrenChanged() {
 		invalidateHierarchy();
 	}
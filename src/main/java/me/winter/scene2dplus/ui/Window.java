@@ -26,7 +26,9 @@ import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Null;
 import me.winter.scene2dplus.*;
 import me.winter.scene2dplus.ui.Label.LabelStyle;
+import me.winter.scene2dplus.ui.Window.WindowStyle;
 import me.winter.scene2dplus.utils.Drawable;
+import me.winter.scene2dplus.utils.Styleable;
 
 /**
  * A table that can be dragged and act as a modal window. The top padding is used as the window's title height.
@@ -36,7 +38,7 @@ import me.winter.scene2dplus.utils.Drawable;
  *
  * @author Nathan Sweet
  */
-public class Window extends Table {
+public class Window extends Table implements Styleable<WindowStyle> {
 	private static final Vector2 tmpPosition = new Vector2();
 	private static final Vector2 tmpSize = new Vector2();
 	private static final int MOVE = 1 << 5;
@@ -333,6 +335,7 @@ public class Window extends Table {
 
 	public void setModal(boolean isModal) {
 		this.isModal = isModal;
+		hitChanged();
 	}
 
 	public void setKeepWithinStage(boolean keepWithinStage) {
@@ -0,0 +1,206 @@
+package me.winter.scene2dplus.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * A bounded cache of {@link GlyphLayout glyph layouts} shared by everything laying out the same text with the same font, font
+ * scale, target width, alignment, wrapping and truncation. When the cache is full, the least recently used layout is dropped.
+ * <p>
+ * The returned layouts are laid out with a white color, so markup colors are kept and the text can be tinted when drawn. They
+ * are shared and must not be modified. Since dropped layouts are not reused, they can be kept, for example added to a
+ * {@link BitmapFontCache}. Changing a font's data other than its scale requires {@link #clear() clearing} the cache.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class GlyphLayoutCache {
+	private final ObjectMap<Entry, Entry> entries = new ObjectMap<>();
+	private final Entry lookup = new Entry();
+	/**
+	 * Most and least recently used entries.
+	 */
+	private @Null Entry first, last;
+	private int maxSize;
+
+	/**
+	 * @param maxSize Maximum number of layouts kept, 0 to never keep them.
+	 */
+	public GlyphLayoutCache(int maxSize) {
+		setMaxSize(maxSize);
+	}
+
+	/**
+	 * Returns the layout of the whole text.
+	 *
+	 * @see #get(BitmapFont, CharSequence, int, int, float, int, boolean, String)
+	 */
+	public GlyphLayout get(BitmapFont font, CharSequence text, float targetWidth, int halign, boolean wrap) {
+		return get(font, text, 0, text.length(), targetWidth, halign, wrap, null);
+	}
+
+	/**
+	 * Returns the layout of the text as laid out by
+	 * {@link GlyphLayout#setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String)} with a white color. The
+	 * returned layout must not be modified.
+	 */
+	public GlyphLayout get(BitmapFont font, CharSequence text, int start, int end, float targetWidth, int halign, boolean wrap,
+			@Null String truncate) {
+		// The target width is only used for wrapping, truncation and alignment.
+		if(!wrap && truncate == null && (halign & Align.left) != 0)
+			targetWidth = 0;
+
+		BitmapFontData data = font.getData();
+		Entry lookup = this.lookup;
+		lookup.set(font, data.scaleX, data.scaleY, text, start, end, targetWidth, halign, wrap, truncate);
+		Entry entry = entries.get(lookup);
+		lookup.text = null;
+		if(entry != null) {
+			if(entry != first) {
+				unlink(entry);
+				linkFirst(entry);
+			}
+			return entry.layout;
+		}
+
+		GlyphLayout layout = new GlyphLayout(font, text, start, end, Color.WHITE, targetWidth, halign, wrap, truncate);
+		if(maxSize == 0)
+			return layout;
+		entry = new Entry();
+		entry.set(font, data.scaleX, data.scaleY, text.subSequence(start, end).toString(), 0, end - start, targetWidth, halign,
+				wrap, truncate);
+		entry.layout = layout;
+		entries.put(entry, entry);
+		linkFirst(entry);
+		if(entries.size > maxSize)
+			remove(last);
+		return layout;
+	}
+
+	/**
+	 * Drops every layout.
+	 */
+	public void clear() {
+		entries.clear();
+		first = last = null;
+	}
+
+	/**
+	 * Returns the number of layouts kept.
+	 */
+	public int getSize() {
+		return entries.size;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Sets the maximum number of layouts kept, 0 to never keep them. The least recently used layouts are dropped if there are
+	 * more.
+	 */
+	public void setMaxSize(int maxSize) {
+		if(maxSize < 0)
+			throw new IllegalArgumentException("maxSize must be >= 0.");
+		this.maxSize = maxSize;
+		while(entries.size > maxSize)
+			remove(last);
+	}
+
+	private void remove(Entry entry) {
+		entries.remove(entry);
+		unlink(entry);
+	}
+
+	private void linkFirst(Entry entry) {
+		entry.previous = null;
+		entry.next = first;
+		if(first != null)
+			first.previous = entry;
+		else
+			last = entry;
+		first = entry;
+	}
+
+	private void unlink(Entry entry) {
+		if(entry.previous != null)
+			entry.previous.next = entry.next;
+		else
+			first = entry.next;
+		if(entry.next != null)
+			entry.next.previous = entry.previous;
+		else
+			last = entry.previous;
+		entry.previous = entry.next = null;
+	}
+
+	/**
+	 * The key of a layout, which is also its node in the list of entries ordered by use.
+	 */
+	static class Entry {
+		BitmapFont font;
+		float scaleX, scaleY, targetWidth;
+		@Null CharSequence text;
+		int start, end, halign;
+		boolean wrap;
+		@Null String truncate;
+		int hashCode;
+
+		GlyphLayout layout;
+		@Null Entry previous, next;
+
+		void set(BitmapFont font, float scaleX, float scaleY, CharSequence text, int start, int end, float targetWidth,
+				int halign, boolean wrap, @Null String truncate) {
+			this.font = font;
+			this.scaleX = scaleX;
+			this.scaleY = scaleY;
+			this.text = text;
+			this.start = start;
+			this.end = end;
+			this.targetWidth = targetWidth;
+			this.halign = halign;
+			this.wrap = wrap;
+			this.truncate = truncate;
+
+			int hashCode = System.identityHashCode(font);
+			hashCode = 31 * hashCode + Float.floatToIntBits(scaleX);
+			hashCode = 31 * hashCode + Float.floatToIntBits(scaleY);
+			hashCode = 31 * hashCode + Float.floatToIntBits(targetWidth);
+			hashCode = 31 * hashCode + halign;
+			hashCode = 31 * hashCode + (wrap ? 1 : 0);
+			hashCode = 31 * hashCode + (truncate != null ? truncate.hashCode() : 0);
+			for(int i = start; i < end; i++)
+				hashCode = 31 * hashCode + text.charAt(i);
+			this.hashCode = hashCode;
+		}
+
+		public int hashCode() {
+			return hashCode;
+		}
+
+		public boolean equals(Object object) {
+			if(!(object instanceof Entry))
+				return false;
+			Entry other = (Entry)object;
+			if(hashCode != other.hashCode || font != other.font || scaleX != other.scaleX || scaleY != other.scaleY
+					|| targetWidth != other.targetWidth || halign != other.halign || wrap != other.wrap
+					|| end - start != other.end - other.start)
+				return false;
+			if(truncate == null ? other.truncate != null : !truncate.equals(other.truncate))
+				return false;
+			CharSequence text = this.text, otherText = other.text;
+			for(int i = start, ii = other.start; i < end; i++, ii++)
+				if(text.charAt(i) != otherText.charAt(ii))
+					return false;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package me.winter.scene2dplus.utils;
+
+import me.winter.scene2dplus.ui.Skin;
+
+/**
+ * An actor drawn using a style object, which can be swapped for another style of the same type. {@link Skin#setEnabled} swaps
+ * the styles of styleable actors directly, and falls back to finding the "getStyle" and "setStyle" methods by reflection for
+ * other actors.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @param <S> Type of the style.
+ * @author Alexander Winter
+ */
+public interface Styleable<S> {
+	S getStyle();
+
+	void setStyle(S style);
+}
@@ -0,0 +1,501 @@
+package me.winter.scene2dplus.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import me.winter.scene2dplus.Group;
+
+/**
+ * {@link Batch} wrapping another batch and applying its transform matrix on the CPU instead of on the GPU. Vertices are
+ * transformed before being submitted to the wrapped batch, so changing the transform never flushes it. This allows transformed
+ * {@link Group groups} to be drawn without breaking batching: a list of 500 rotated cards is drawn in a single render call
+ * instead of 1000.
+ * <p>
+ * Groups detect this batch and {@link #pushTransform(Matrix4) push} their transform onto its stack instead of calling
+ * {@link #setTransformMatrix(Matrix4)}. Only 2D affine transforms are supported, the wrapped batch's own transform matrix is
+ * left untouched and is applied on top of the CPU transform by the GPU as usual.
+ * <p>
+ * Transforming on the CPU costs a few multiplications per vertex, which is almost always cheaper than a flush. Untransformed
+ * and translated draws are forwarded to the wrapped batch without computing the vertices.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class TransformBatch implements Batch {
+	private final Batch batch;
+	private final boolean computeVertices;
+
+	private final Affine2 transform = new Affine2();
+	private final Array<Affine2> stack = new Array<>();
+	private int depth;
+	private boolean identity = true, translation = true;
+
+	private final Matrix4 transformMatrix = new Matrix4();
+	private boolean transformMatrixDirty;
+
+	private final float[] corners = new float[8];
+	private final float[] quad = new float[20];
+	private float[] vertices = new float[20 * 32];
+
+	/**
+	 * @param batch Batch receiving the transformed vertices, disposed with this batch.
+	 */
+	public TransformBatch(Batch batch) {
+		this(batch, false);
+	}
+
+	/**
+	 * @param batch           Batch receiving the transformed vertices, disposed with this batch.
+	 * @param computeVertices If true, every draw is submitted to the wrapped batch through
+	 *                        {@link Batch#draw(Texture, float[], int, int)}, even when untransformed or translated. Useful to
+	 *                        capture the vertices of anything drawn.
+	 */
+	public TransformBatch(Batch batch, boolean computeVertices) {
+		if(batch == null)
+			throw new IllegalArgumentException("batch cannot be null.");
+		this.batch = batch;
+		this.computeVertices = computeVertices;
+		translation = !computeVertices;
+	}
+
+	public Batch getBatch() {
+		return batch;
+	}
+
+	/**
+	 * Saves the current transform and replaces it with the specified one. Like {@link #setTransformMatrix(Matrix4)}, the
+	 * transform is not multiplied with the current one. Must be followed by a call to {@link #popTransform()}.
+	 */
+	public void pushTransform(Matrix4 transform) {
+		if(depth == stack.size)
+			stack.add(new Affine2());
+		stack.get(depth++).set(this.transform);
+		setTransform(transform);
+	}
+
+	/**
+	 * Restores the transform saved by the last call to {@link #pushTransform(Matrix4)}.
+	 */
+	public void popTransform() {
+		if(depth == 0)
+			throw new IllegalStateException("No transform to pop.");
+		transform.set(stack.get(--depth));
+		transformChanged();
+	}
+
+	private void setTransform(Matrix4 transform) {
+		this.transform.set(transform);
+		transformChanged();
+	}
+
+	private void transformChanged() {
+		Affine2 transform = this.transform;
+		boolean translation = transform.m00 == 1 && transform.m11 == 1 && transform.m01 == 0 && transform.m10 == 0;
+		identity = translation && transform.m02 == 0 && transform.m12 == 0;
+		this.translation = translation && !computeVertices;
+		transformMatrixDirty = true;
+	}
+
+	/**
+	 * Computes the rotated and scaled corners of a quad, in the same order as {@link com.badlogic.gdx.graphics.g2d.SpriteBatch}.
+	 */
+	private void corners(float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY,
+	                     float rotation) {
+		float worldOriginX = x + originX;
+		float worldOriginY = y + originY;
+		float fx = -originX;
+		float fy = -originY;
+		float fx2 = width - originX;
+		float fy2 = height - originY;
+
+		if(scaleX != 1 || scaleY != 1) {
+			fx *= scaleX;
+			fy *= scaleY;
+			fx2 *= scaleX;
+			fy2 *= scaleY;
+		}
+
+		float[] corners = this.corners;
+		if(rotation != 0) {
+			float cos = MathUtils.cosDeg(rotation);
+			float sin = MathUtils.sinDeg(rotation);
+			corners[0] = cos * fx - sin * fy;
+			corners[1] = sin * fx + cos * fy;
+			corners[2] = cos * fx - sin * fy2;
+			corners[3] = sin * fx + cos * fy2;
+			corners[4] = cos * fx2 - sin * fy2;
+			corners[5] = sin * fx2 + cos * fy2;
+			corners[6] = corners[0] + (corners[4] - corners[2]);
+			corners[7] = corners[5] - (corners[3] - corners[1]);
+		} else {
+			corners[0] = fx;
+			corners[1] = fy;
+			corners[2] = fx;
+			corners[3] = fy2;
+			corners[4] = fx2;
+			corners[5] = fy2;
+			corners[6] = fx2;
+			corners[7] = fy;
+		}
+
+		for(int i = 0; i < 8; i += 2) {
+			corners[i] += worldOriginX;
+			corners[i + 1] += worldOriginY;
+		}
+	}
+
+	/**
+	 * Sets the corners of an unrotated and unscaled quad.
+	 */
+	private void corners(float x, float y, float width, float height) {
+		float[] corners = this.corners;
+		float fx2 = x + width, fy2 = y + height;
+		corners[0] = x;
+		corners[1] = y;
+		corners[2] = x;
+		corners[3] = fy2;
+		corners[4] = fx2;
+		corners[5] = fy2;
+		corners[6] = fx2;
+		corners[7] = y;
+	}
+
+	/**
+	 * Transforms the corners and submits them as a quad with the specified texture coordinates.
+	 */
+	private void quad(Texture texture, float u1, float v1, float u2, float v2, float u3, float v3, float u4, float v4) {
+		Affine2 transform = this.transform;
+		float m00 = transform.m00, m01 = transform.m01, m02 = transform.m02;
+		float m10 = transform.m10, m11 = transform.m11, m12 = transform.m12;
+		float[] corners = this.corners, quad = this.quad;
+		float color = batch.getPackedColor();
+		for(int i = 0, c = 0; i < 20; i += 5, c += 2) {
+			float x = corners[c], y = corners[c + 1];
+			quad[i] = m00 * x + m01 * y + m02;
+			quad[i + 1] = m10 * x + m11 * y + m12;
+			quad[i + 2] = color;
+		}
+		quad[3] = u1;
+		quad[4] = v1;
+		quad[8] = u2;
+		quad[9] = v2;
+		quad[13] = u3;
+		quad[14] = v3;
+		quad[18] = u4;
+		quad[19] = v4;
+		batch.draw(texture, quad, 0, 20);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height,
+	                 float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight,
+	                 boolean flipX, boolean flipY) {
+		if(translation) {
+			batch.draw(texture, x + transform.m02, y + transform.m12, originX, originY, width, height, scaleX, scaleY,
+					rotation, srcX, srcY, srcWidth, srcHeight, flipX, flipY);
+			return;
+		}
+		corners(x, y, originX, originY, width, height, scaleX, scaleY, rotation);
+		texture(texture, srcX, srcY, srcWidth, srcHeight, flipX, flipY);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+	                 int srcHeight, boolean flipX, boolean flipY) {
+		if(translation) {
+			batch.draw(texture, x + transform.m02, y + transform.m12, width, height, srcX, srcY, srcWidth, srcHeight, flipX,
+					flipY);
+			return;
+		}
+		corners(x, y, width, height);
+		texture(texture, srcX, srcY, srcWidth, srcHeight, flipX, flipY);
+	}
+
+	private void texture(Texture texture, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+		float invTexWidth = 1f / texture.getWidth();
+		float invTexHeight = 1f / texture.getHeight();
+		float u = srcX * invTexWidth;
+		float v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth;
+		float v2 = srcY * invTexHeight;
+		if(flipX) {
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+		if(flipY) {
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+		quad(texture, u, v, u, v2, u2, v2, u2, v);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+		if(translation) {
+			batch.draw(texture, x + transform.m02, y + transform.m12, srcX, srcY, srcWidth, srcHeight);
+			return;
+		}
+		corners(x, y, srcWidth, srcHeight);
+		texture(texture, srcX, srcY, srcWidth, srcHeight, false, false);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		if(translation) {
+			batch.draw(texture, x + transform.m02, y + transform.m12, width, height, u, v, u2, v2);
+			return;
+		}
+		corners(x, y, width, height);
+		quad(texture, u, v, u, v2, u2, v2, u2, v);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y) {
+		draw(texture, x, y, texture.getWidth(), texture.getHeight());
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height) {
+		draw(texture, x, y, width, height, 0, 1, 1, 0);
+	}
+
+	@Override
+	public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+		if(identity) {
+			batch.draw(texture, spriteVertices, offset, count);
+			return;
+		}
+
+		float[] vertices = this.vertices;
+		if(vertices.length < count)
+			this.vertices = vertices = new float[count];
+		System.arraycopy(spriteVertices, offset, vertices, 0, count);
+
+		Affine2 transform = this.transform;
+		if(transform.m00 == 1 && transform.m11 == 1 && transform.m01 == 0 && transform.m10 == 0) {
+			float tx = transform.m02, ty = transform.m12;
+			for(int i = 0; i < count; i += 5) {
+				vertices[i] += tx;
+				vertices[i + 1] += ty;
+			}
+		} else {
+			float m00 = transform.m00, m01 = transform.m01, m02 = transform.m02;
+			float m10 = transform.m10, m11 = transform.m11, m12 = transform.m12;
+			for(int i = 0; i < count; i += 5) {
+				float x = vertices[i], y = vertices[i + 1];
+				vertices[i] = m00 * x + m01 * y + m02;
+				vertices[i + 1] = m10 * x + m11 * y + m12;
+			}
+		}
+		batch.draw(texture, vertices, 0, count);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y) {
+		draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float width, float height) {
+		if(translation) {
+			batch.draw(region, x + transform.m02, y + transform.m12, width, height);
+			return;
+		}
+		corners(x, y, width, height);
+		region(region);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+	                 float scaleX, float scaleY, float rotation) {
+		if(translation) {
+			batch.draw(region, x + transform.m02, y + transform.m12, originX, originY, width, height, scaleX, scaleY, rotation);
+			return;
+		}
+		corners(x, y, originX, originY, width, height, scaleX, scaleY, rotation);
+		region(region);
+	}
+
+	private void region(TextureRegion region) {
+		float u = region.getU(), v = region.getV2(), u2 = region.getU2(), v2 = region.getV();
+		quad(region.getTexture(), u, v, u, v2, u2, v2, u2, v);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+	                 float scaleX, float scaleY, float rotation, boolean clockwise) {
+		if(translation) {
+			batch.draw(region, x + transform.m02, y + transform.m12, originX, originY, width, height, scaleX, scaleY, rotation,
+					clockwise);
+			return;
+		}
+		corners(x, y, originX, originY, width, height, scaleX, scaleY, rotation);
+		float u = region.getU(), v = region.getV(), u2 = region.getU2(), v2 = region.getV2();
+		if(clockwise)
+			quad(region.getTexture(), u2, v2, u, v2, u, v, u2, v);
+		else
+			quad(region.getTexture(), u, v, u2, v, u2, v2, u, v2);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+		if(identity && !computeVertices) {
+			batch.draw(region, width, height, transform);
+			return;
+		}
+		float[] corners = this.corners;
+		corners[0] = transform.m02;
+		corners[1] = transform.m12;
+		corners[2] = transform.m01 * height + transform.m02;
+		corners[3] = transform.m11 * height + transform.m12;
+		corners[4] = transform.m00 * width + transform.m01 * height + transform.m02;
+		corners[5] = transform.m10 * width + transform.m11 * height + transform.m12;
+		corners[6] = transform.m00 * width + transform.m02;
+		corners[7] = transform.m10 * width + transform.m12;
+		region(region);
+	}
+
+	/**
+	 * Returns the CPU transform as a matrix. The returned matrix must not be modified.
+	 */
+	@Override
+	public Matrix4 getTransformMatrix() {
+		if(transformMatrixDirty) {
+			transformMatrix.set(transform);
+			transformMatrixDirty = false;
+		}
+		return transformMatrix;
+	}
+
+	/**
+	 * Sets the CPU transform, without flushing. Only the 2D affine part of the matrix is used.
+	 */
+	@Override
+	public void setTransformMatrix(Matrix4 transform) {
+		setTransform(transform);
+	}
+
+	@Override
+	public void begin() {
+		batch.begin();
+	}
+
+	@Override
+	public void end() {
+		batch.end();
+	}
+
+	@Override
+	public void setColor(Color tint) {
+		batch.setColor(tint);
+	}
+
+	@Override
+	public void setColor(float r, float g, float b, float a) {
+		batch.setColor(r, g, b, a);
+	}
+
+	@Override
+	public Color getColor() {
+		return batch.getColor();
+	}
+
+	@Override
+	public void setPackedColor(float packedColor) {
+		batch.setPackedColor(packedColor);
+	}
+
+	@Override
+	public float getPackedColor() {
+		return batch.getPackedColor();
+	}
+
+	@Override
+	public void flush() {
+		batch.flush();
+	}
+
+	@Override
+	public void disableBlending() {
+		batch.disableBlending();
+	}
+
+	@Override
+	public void enableBlending() {
+		batch.enableBlending();
+	}
+
+	@Override
+	public void setBlendFunction(int srcFunc, int dstFunc) {
+		batch.setBlendFunction(srcFunc, dstFunc);
+	}
+
+	@Override
+	public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+		batch.setBlendFunctionSeparate(srcFuncColor, dstFuncColor, srcFuncAlpha, dstFuncAlpha);
+	}
+
+	@Override
+	public int getBlendSrcFunc() {
+		return batch.getBlendSrcFunc();
+	}
+
+	@Override
+	public int getBlendDstFunc() {
+		return batch.getBlendDstFunc();
+	}
+
+	@Override
+	public int getBlendSrcFuncAlpha() {
+		return batch.getBlendSrcFuncAlpha();
+	}
+
+	@Override
+	public int getBlendDstFuncAlpha() {
+		return batch.getBlendDstFuncAlpha();
+	}
+
+	@Override
+	public Matrix4 getProjectionMatrix() {
+		return batch.getProjectionMatrix();
+	}
+
+	@Override
+	public void setProjectionMatrix(Matrix4 projection) {
+		batch.setProjectionMatrix(projection);
+	}
+
+	@Override
+	public void setShader(ShaderProgram shader) {
+		batch.setShader(shader);
+	}
+
+	@Override
+	public ShaderProgram getShader() {
+		return batch.getShader();
+	}
+
+	@Override
+	public boolean isBlendingEnabled() {
+		return batch.isBlendingEnabled();
+	}
+
+	@Override
+	public boolean isDrawing() {
+		return batch.isDrawing();
+	}
+
+	@Override
+	public void dispose() {
+		batch.dispose();
+	}
+}